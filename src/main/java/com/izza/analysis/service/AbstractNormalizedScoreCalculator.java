@@ -12,55 +12,35 @@ public abstract class AbstractNormalizedScoreCalculator implements ScoreCalculat
     
     @Override
     public final ScoreResult calculateScore(LandAnalysisData data) {
-        // 0. statisticsRanges에 해당 타입이 없으면 점수 계산하지 않음
+        // 0. 점수 계산 계획에 해당 타입이 없으면 점수 계산하지 않음
         AnalysisStatisticsType statisticsType = getStatisticsType();
-
-        if (!data.getStatisticsRanges().containsKey(statisticsType)) {
+        ScoringPlan plan = data.getScoringPlan();
+        if (!plan.isEnabled(statisticsType)) {
             return null;
         }
 
-
         // 1. 각 구현체에서 실제 값을 가져옴
         double actualValue = getActualValue(data);
         
-        // 2. 통계 범위 가져오기
-        var statisticsRange = data.getStatisticsRanges().get(statisticsType);
-        long min = statisticsRange.min();
-        long max = statisticsRange.max();
-        
-        // 3. 원본 점수 계산
-        double originalScore = calculateNormalizedScore(actualValue, min, max);
-        
-        // 4. 가중치 적용
-        Double categoryWeight = data.getCategoryNormalizedWeights().get(statisticsType);
-        Double globalWeight = data.getGlobalNormalizedWeights().get(statisticsType);
+        // 2. 원본 점수 계산 (통계 범위와 기준 점수는 계획에서 읽음)
+        double originalScore = calculateNormalizedScore(actualValue, plan.baseScore(statisticsType),
+                plan.min(statisticsType), plan.max(statisticsType));
         
-        double categoryNormalizedScore = categoryWeight != null ? 
-            originalScore * (categoryWeight / 100.0) : originalScore;
-        double globalNormalizedScore = globalWeight != null ? 
-            originalScore * (globalWeight / 100.0) : originalScore;
-        
-        return ScoreResult.builder()
-                .statisticsType(statisticsType)
-                .originalScore(originalScore)
-                .categoryNormalizedScore(categoryNormalizedScore)
-                .globalNormalizedScore(globalNormalizedScore)
-                .build();
+        // 3. 가중치 적용
+        return plan.toScoreResult(statisticsType, originalScore);
     }
     
     /**
-     * 정규화 점수 계산 (공통 로직)
+     * 정규화 점수 계산 (공통 로직, ColumnarScoringEngine과 공유)
      * 값이 클수록 높은 점수를 받는 방식
      */
-    protected double calculateNormalizedScore(double actualValue, long min, long max) {
-        double baseScore = getBaseScore();
-        
+    static double calculateNormalizedScore(double actualValue, double baseScore, double min, double max) {
         if (max == min) {
             return baseScore;
         }
         
         // 정규화 점수 계산: 값이 클수록 높은 점수
-        double normalizedScore = baseScore + (actualValue - min) / (double)(max - min) * (1 - baseScore);
+        double normalizedScore = baseScore + (actualValue - min) / (max - min) * (1 - baseScore);
         
         // 0~1 범위로 제한
         return Math.max(0.0, Math.min(1.0, normalizedScore));
@@ -77,5 +57,6 @@ public abstract class AbstractNormalizedScoreCalculator implements ScoreCalculat
      * 각 구현체별 기준 점수를 반환
      * @return 기준 점수 (0.0 ~ 1.0)
      */
-    protected abstract double getBaseScore();
+    @Override
+    public abstract double getBaseScore();
 }
\ No newline at end of file
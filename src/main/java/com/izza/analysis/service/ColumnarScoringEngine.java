@@ -0,0 +1,123 @@
+package com.izza.analysis.service;
+
+import com.izza.analysis.vo.AnalysisStatisticsType;
+
+import java.util.Arrays;
+
+/**
+ * LandColumns에 대해 지표별로 배열 전체를 도는 반복문으로 총합 점수를 계산하는 엔진
+ * 각 지표의 점수는 ScoreCalculator 구현체의 정적 공식을 그대로 사용하며 (값이 NaN이거나 범위가 없으면 계산기 오류와 같이 0점),
+ * 총합 점수는 전역 가중치 배율을 곱해 더한 뒤 0~1로 제한함
+ * 범위/기준 점수/가중치는 ScoringPlan에서 지표마다 한 번만 읽으며, 토지별 반복 중에는 맵 조회나 객체 생성이 없음
+ */
+final class ColumnarScoringEngine {
+
+    private final ScoringPlan plan;
+
+    ColumnarScoringEngine(ScoringPlan plan) {
+        this.plan = plan;
+    }
+
+    /**
+     * columns의 [from, to) 구간 총합 점수를 totals의 같은 위치에 기록
+     */
+    void score(LandColumns columns, int from, int to, double[] totals) {
+        Arrays.fill(totals, from, to, 0.0);
+
+        for (AnalysisStatisticsType type : plan.weightedMetrics()) {
+            double weight = plan.globalWeight(type);
+            switch (type) {
+                case LAND_AREA -> addIncreasing(columns.landArea, type, from, to, weight, totals);
+                case OFFICIAL_LAND_PRICE -> addIncreasing(columns.officialLandPrice, type, from, to, weight, totals);
+                case SUBSTATION_COUNT -> addIncreasing(columns.substationCount, type, from, to, weight, totals);
+                case TRANSMISSION_TOWER_COUNT ->
+                        addIncreasing(columns.transmissionTowerCount, type, from, to, weight, totals);
+                case TRANSMISSION_LINE_COUNT ->
+                        addIncreasing(columns.transmissionLineCount, type, from, to, weight, totals);
+                case ELECTRICITY_COST -> {
+                    if (plan.hasRange(type)) {
+                        addBySig(columns, increasingScores(columns.sigElectricityCost, type), from, to, weight, totals);
+                    }
+                }
+                case DISASTER_COUNT -> {
+                    if (plan.hasRange(type)) {
+                        addBySig(columns, reverseScores(columns.sigDisasterCount, type), from, to, weight, totals);
+                    }
+                }
+                case POPULATION_DENSITY ->
+                        addBySig(columns, deviationScores(columns.sigMiddleAgedPopulation), from, to, weight, totals);
+                default -> {
+                    // 계산기가 없는 지표 (USE_DISTRICT)
+                }
+            }
+        }
+
+        for (int i = from; i < to; i++) {
+            totals[i] = Math.max(0.0, Math.min(1.0, totals[i]));
+        }
+    }
+
+    private void addIncreasing(double[] values, AnalysisStatisticsType type, int from, int to,
+                               double weight, double[] totals) {
+        if (!plan.hasRange(type)) {
+            return;
+        }
+        double baseScore = plan.baseScore(type);
+        double min = plan.min(type);
+        double max = plan.max(type);
+        for (int i = from; i < to; i++) {
+            totals[i] += increasingScore(values[i], baseScore, min, max) * weight;
+        }
+    }
+
+    private static void addBySig(LandColumns columns, double[] sigScores, int from, int to, double weight,
+                                 double[] totals) {
+        int[] sigIndex = columns.sigIndex;
+        for (int i = from; i < to; i++) {
+            totals[i] += sigScores[sigIndex[i]] * weight;
+        }
+    }
+
+    private double[] increasingScores(double[] values, AnalysisStatisticsType type) {
+        double baseScore = plan.baseScore(type);
+        double min = plan.min(type);
+        double max = plan.max(type);
+        double[] scores = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            scores[i] = increasingScore(values[i], baseScore, min, max);
+        }
+        return scores;
+    }
+
+    private double[] reverseScores(double[] values, AnalysisStatisticsType type) {
+        double baseScore = plan.baseScore(type);
+        double min = plan.min(type);
+        double max = plan.max(type);
+        double[] scores = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            scores[i] = Double.isNaN(values[i])
+                    ? 0.0
+                    : DisasterCountScoreCalculator.calculateReverseNormalizedScore(values[i], baseScore, min, max);
+        }
+        return scores;
+    }
+
+    private double[] deviationScores(double[] values) {
+        double standardDensity = plan.industryType().getStandardDensity();
+        double allowedDeviation = plan.industryType().getAllowedDeviation();
+        double[] scores = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            scores[i] = Double.isNaN(values[i])
+                    ? 0.0
+                    : PopulationDensityScoreCalculator.calculateDeviationBasedScore(
+                            values[i], standardDensity, allowedDeviation);
+        }
+        return scores;
+    }
+
+    private static double increasingScore(double actualValue, double baseScore, double min, double max) {
+        return Double.isNaN(actualValue)
+                ? 0.0
+                : AbstractNormalizedScoreCalculator.calculateNormalizedScore(actualValue, baseScore, min, max);
+    }
+}
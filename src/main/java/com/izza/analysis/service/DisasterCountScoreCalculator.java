@@ -27,59 +27,51 @@ public class DisasterCountScoreCalculator implements ScoreCalculator {
         return AnalysisStatisticsType.DISASTER_COUNT;
     }
 
+    @Override
+    public double getBaseScore() {
+        return BASE_SCORE;
+    }
+
     @Override
     public ScoreResult calculateScore(LandAnalysisData data) {
-        // 1. 실제 값 가져오기 (재난문자 발송 건수)
+        // 0. 점수 계산 계획에 해당 타입이 없으면 점수 계산하지 않음
         AnalysisStatisticsType statisticsType = getStatisticsType();
-        if (!data.getStatisticsRanges().containsKey(statisticsType)) {
+        ScoringPlan plan = data.getScoringPlan();
+        if (!plan.isEnabled(statisticsType)) {
             return null;
         }
 
-
+        // 1. 실제 값 가져오기 (재난문자 발송 건수)
         double actualValue = data.getEmergencyTextInfo().totalDisasterCount();
         
         // 2. 통계 범위 가져오기
-        var statisticsRange = data.getStatisticsRanges().get(getStatisticsType());
-        long min = statisticsRange.min();
-        long max = statisticsRange.max();
+        double min = plan.min(statisticsType);
+        double max = plan.max(statisticsType);
         
         // 3. 원본 점수 계산 (역정규화: 적을수록 유리)
-        double originalScore = calculateReverseNormalizedScore(actualValue, min, max);
-        
-        // 4. 가중치 적용
-        Double categoryWeight = data.getCategoryNormalizedWeights().get(statisticsType);
-        Double globalWeight = data.getGlobalNormalizedWeights().get(statisticsType);
-        
-        double categoryNormalizedScore = categoryWeight != null ? 
-            originalScore * (categoryWeight / 100.0) : originalScore;
-        double globalNormalizedScore = globalWeight != null ? 
-            originalScore * (globalWeight / 100.0) : originalScore;
+        double originalScore = calculateReverseNormalizedScore(actualValue, plan.baseScore(statisticsType), min, max);
         
         log.debug("재난문자 점수 계산 완료 - 실제값: {}, 범위: [{}, {}], 원본점수: {}", 
                 actualValue, min, max, originalScore);
         
-        return ScoreResult.builder()
-                .statisticsType(statisticsType)
-                .originalScore(originalScore)
-                .categoryNormalizedScore(categoryNormalizedScore)
-                .globalNormalizedScore(globalNormalizedScore)
-                .build();
+        // 4. 가중치 적용
+        return plan.toScoreResult(statisticsType, originalScore);
     }
 
     /**
-     * 역정규화 점수 계산
+     * 역정규화 점수 계산 (ColumnarScoringEngine과 공유)
      * 재난문자가 적을수록 높은 점수를 받는 방식
      * 공식: (최대값 - x) / (최대값 - 최소값)
      */
-    private double calculateReverseNormalizedScore(double actualValue, long min, long max) {
+    static double calculateReverseNormalizedScore(double actualValue, double baseScore, double min, double max) {
         if (max == min) {
-            return BASE_SCORE;
+            return baseScore;
         }
         
         // 역정규화: 값이 작을수록 높은 점수
-        double normalizedScore = (max - actualValue) / (double)(max - min);
+        double normalizedScore = (max - actualValue) / (max - min);
         
         // 0~1 범위로 제한
         return Math.max(0.0, Math.min(1.0, normalizedScore));
     }
-}
\ No newline at end of file
+}
@@ -20,7 +20,7 @@ public class ElectricityCostScoreCalculator extends AbstractNormalizedScoreCalcu
     }
 
     @Override
-    protected double getBaseScore() {
+    public double getBaseScore() {
         return 0.5;
     }
 
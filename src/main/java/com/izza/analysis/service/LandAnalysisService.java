@@ -22,6 +22,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveTask;
 import java.util.stream.Collectors;
 
 /**
@@ -33,12 +40,21 @@ import java.util.stream.Collectors;
 @Slf4j
 public class LandAnalysisService {
 
+    private static final int BATCH_SIZE = 1000;
+    private static final int TOP_RANK_LIMIT = 20;
+    // 병렬 계산 시 작업 하나가 맡는 최소 토지 수
+    private static final int SCORING_CHUNK_SIZE = 128;
+    // 점수 계산과 겹쳐 미리 읽어 두는 최대 묶음 수
+    private static final int PREFETCH_BATCHES = 2;
+
     private final MapSearchService mapSearchService;
     private final LandPowerInfrastructureSummaryDao powerInfrastructureDao;
     private final LandDao landDao;
     private final List<ScoreCalculator> scoreCalculators;
     private final WeightCalculator weightCalculator;
     private final LandDataRangeAdapter landDataRangeAdapter;
+    private final ForkJoinPool landScoringPool;
+    private final ExecutorService queryFanOutExecutor;
 
     /**
      * 토지 분석을 수행 (fullCode 기반 다중 토지 분석만 지원)
@@ -54,146 +70,260 @@ public class LandAnalysisService {
     /**
      * fullCode 기반 토지 점수 순위 분석
      * fullCode, 면적/가격 범위, 용도지역 조건으로 토지 검색 후 각 토지별 점수 계산
+     * 토지는 페이지 단위로 읽는 즉시 점수를 계산하고, 상위 20위와 찜 토지만 유지하여 마지막에 순위를 매김
      *
      * @param request 토지 분석 요청
      * @return 토지 점수 순위 응답
      */
     public LandScoreRankingResponse analyzeLandRanking(LandAnalysisRequest request) {
-        // 1. 토지 목록 조회 
-        List<Land> lands = new ArrayList<>();
         Set<Long> starLandIdSet = new HashSet<>();
-        
-        // 찜 토지가 있으면 우선 조회
+        List<Long> starLandIds = new ArrayList<>();
         if (request.getStarLandIds() != null && !request.getStarLandIds().isEmpty()) {
-            List<Long> starLandIds = request.getStarLandIds().stream()
+            starLandIds = request.getStarLandIds().stream()
                     .map(Long::parseLong)
                     .toList();
             starLandIdSet.addAll(starLandIds);
-            List<Land> starLands = landDao.findByIds(starLandIds);
-            lands.addAll(starLands);
-            log.info("찜 토지 조회 완료: {}", starLands.size());
         }
-        
-        // fullCode 기반 검색 (찜 토지와 중복 제거)
-        if (request.getFullCode() != null && !request.getFullCode().isEmpty()) {
-            List<Land> searchedLands = searchLandsByCondition(request);
-            List<Land> filteredLands = searchedLands.stream()
-                    .filter(land -> !starLandIdSet.contains(land.getId()))
-                    .toList();
-            lands.addAll(filteredLands);
-            log.info("검색된 토지 수: {}, fullCode: {}, 중복 제거 후: {}", 
-                    searchedLands.size(), request.getFullCode(), filteredLands.size());
-        } else if (starLandIdSet.isEmpty()) {
+
+        boolean hasFullCode = request.getFullCode() != null && !request.getFullCode().isEmpty();
+        if (!hasFullCode && starLandIdSet.isEmpty()) {
             throw new IllegalArgumentException("fullCode 또는 starLandIds 중 하나는 필수입니다.");
         }
 
-        // 2. 행정구역 상세 정보 조회 (fullCode 5자리 prefix별로 집계)
-        Map<String, AreaDetailResponse> areaDetailsMap = getAreaDetailsByPrefixes(lands);
-
-        // 3. 가중치 맵 미리 계산
+        // 1. 가중치를 계산하여 요청 단위 점수 계산 계획으로 미리 구성
         Map<AnalysisStatisticsType, WeightedStatisticsRange> statisticsRanges =
                 convertToStatisticsRangeMap(request);
-        Map<AnalysisStatisticsType, Double> categoryNormalizedWeights =
-                weightCalculator.createCategoryNormalizedWeights(statisticsRanges);
-        Map<AnalysisStatisticsType, Double> globalNormalizedWeights =
-                weightCalculator.createGlobalNormalizedWeights(statisticsRanges);
-
-        // 4. 배치 단위로 토지별 점수 계산
-        List<LandScoreItem> landScoreItems = new ArrayList<>();
-        final int BATCH_SIZE = 1000;
-
-        for (int i = 0; i < lands.size(); i += BATCH_SIZE) {
-            int endIndex = Math.min(i + BATCH_SIZE, lands.size());
-            List<Land> landBatch = lands.subList(i, endIndex);
-
-            log.info("배치 처리 중: {}/{} (배치 크기: {})", i + landBatch.size(), lands.size(), landBatch.size());
-
-            // 배치 단위로 전력 인프라 정보 조회
-            List<Long> landIds = landBatch.stream().map(Land::getId).toList();
-            List<LandPowerInfrastructureSummary> powerInfraSummaries =
-                    powerInfrastructureDao.findByLandIds(landIds);
-
-            // landId를 키로 하는 Map으로 변환 (빠른 조회를 위해)
-            Map<Long, LandPowerInfrastructureSummary> powerInfraMap = powerInfraSummaries.stream()
-                    .collect(Collectors.toMap(
-                            LandPowerInfrastructureSummary::getLandId,
-                            summary -> summary));
-
-            // 배치 내 각 토지별 점수 계산
-            for (Land land : landBatch) {
-                LandPowerInfrastructureSummary powerInfraSummary = powerInfraMap.get(land.getId());
-
-                // 토지에 해당하는 행정구역 정보 조회 (fullCode 5자리 prefix 기준)
-                String landFullCode = land.getBeopjungDongCode();
-                String prefix5 = landFullCode != null && landFullCode.length() >= 5 
-                    ? landFullCode.substring(0, 5) 
-                    : landFullCode;
-                AreaDetailResponse areaDetails = areaDetailsMap.get(prefix5);
-
-                // LandAnalysisData 구성
-                LandAnalysisData analysisData = LandAnalysisData.builder()
-                        .land(land)
-                        .electricityCostInfo(areaDetails != null ? areaDetails.electricityCostInfo() : null)
-                        .emergencyTextInfo(areaDetails != null ? areaDetails.emergencyTextInfo() : null)
-                        .populationInfo(areaDetails != null ? areaDetails.populationInfo() : null)
-                        .substationCount(powerInfraSummary != null ? powerInfraSummary.getSubstationCount() : 0)
-                        .transmissionTowerCount(powerInfraSummary != null ? powerInfraSummary.getTransmissionTowerCount() : 0)
-                        .transmissionLineCount(powerInfraSummary != null ? powerInfraSummary.getTransmissionLineCount() : 0)
-                        .statisticsRanges(statisticsRanges)
-                        .categoryNormalizedWeights(categoryNormalizedWeights)
-                        .globalNormalizedWeights(globalNormalizedWeights)
-                        .targetUseDistrictCodes(request.getTargetUseDistrictCodes())
-                        .industryType(IndustryType.fromCode(request.getIndustryType()))
-                        .build();
+        ScoringPlan scoringPlan = ScoringPlan.compile(
+                statisticsRanges,
+                weightCalculator.createCategoryNormalizedWeights(statisticsRanges),
+                weightCalculator.createGlobalNormalizedWeights(statisticsRanges),
+                IndustryType.fromCode(request.getIndustryType()),
+                scoreCalculators);
+        ScoringContext context = new ScoringContext(
+                statisticsRanges,
+                scoringPlan,
+                request.getTargetUseDistrictCodes(),
+                new HashMap<>());
+        ColumnarScoringEngine engine = new ColumnarScoringEngine(scoringPlan);
+
+        // 2. 찜 토지가 있으면 먼저 점수 계산 (같은 점수면 찜 토지가 앞 순위)
+        List<Land> starLands = landDao.findByIds(starLandIds);
+        log.info("찜 토지 조회 완료: {}", starLands.size());
+        LandColumns starColumns = toColumns(starLands, context);
+        double[] starTotals = new double[starColumns.size];
+        engine.score(starColumns, 0, starColumns.size, starTotals);
+        List<LandRankingCollector.Candidate> starredCandidates = new ArrayList<>();
+        for (int i = 0; i < starLands.size(); i++) {
+            starredCandidates.add(new LandRankingCollector.Candidate(i, starLands.get(i), starTotals[i]));
+        }
+        LandRankingCollector ranking = new LandRankingCollector(TOP_RANK_LIMIT, starredCandidates);
 
-                // 점수 계산
-                Map<AnalysisStatisticsType, ScoreResult> scoreResults = calculateScores(analysisData);
-                double totalScore = calculateTotalScoreFromResults(scoreResults, analysisData);
-
-                // LandScoreItem 생성
-                boolean isStarred = starLandIdSet.contains(land.getId());
-                LandScoreItem item = LandScoreItem.builder()
-                        .landId(land.getId())
-                        .address(land.getAddress())
-                        .landArea(land.getLandArea())
-                        .officialLandPrice(land.getOfficialLandPrice())
-                        .totalScore(totalScore)
-                        .categoryScores(convertToCategoryScoreDetails(scoreResults))
-                        .globalScores(convertToGlobalScoreDetails(scoreResults))
-                        .isStarred(isStarred)
-                        .build();
+        // 3. fullCode 기반 검색 결과를 페이지 단위로 읽으며 점수 계산 (찜 토지와 중복 제거)
+        if (hasFullCode) {
+            scoreSearchedLands(request, toLandSearchFilter(request), starLandIdSet, starLands.size(),
+                    context, engine, ranking);
+        }
+
+        // 4. 순위가 정해진 토지만 계산기별 상세 점수를 계산하여 응답 항목으로 변환
+        //    (상위 목록과 찜 목록에 모두 있으면 같은 항목 공유)
+        List<LandRankingCollector.RankedCandidate> topRanked = ranking.topRanked();
+        List<LandRankingCollector.RankedCandidate> starredRanked = ranking.starredRanked();
+        List<Land> rankedLands = new ArrayList<>();
+        topRanked.forEach(ranked -> rankedLands.add(ranked.candidate().land()));
+        starredRanked.forEach(ranked -> rankedLands.add(ranked.candidate().land()));
+        Map<Long, LandPowerInfrastructureSummary> rankedPowerInfraMap = findPowerInfrastructure(rankedLands);
+
+        Map<LandRankingCollector.Candidate, LandScoreItem> items = new IdentityHashMap<>();
+        List<LandScoreItem> topRankedLands = topRanked.stream()
+                .map(ranked -> toLandScoreItem(ranked, starLandIdSet, rankedPowerInfraMap, context, items))
+                .toList();
+        List<LandScoreItem> starredLands = starredRanked.stream()
+                .map(ranked -> toLandScoreItem(ranked, starLandIdSet, rankedPowerInfraMap, context, items))
+                .toList();
+
+        // 5. 응답 객체 구성
+        return LandScoreRankingResponse.builder()
+                .starredLands(starredLands)
+                .topRankedLands(topRankedLands)
+                .build();
+    }
+
+    /**
+     * 검색 결과 페이지 조회(DB)와 점수 계산(CPU)을 겹쳐서 실행
+     * 가상 스레드의 생산자가 다음 페이지와 그 전력 인프라/행정구역 정보를 미리 읽어 크기 PREFETCH_BATCHES의 큐에 넣고,
+     * 요청 스레드는 큐에서 꺼낸 묶음의 점수를 계산함 (큐가 차면 생산자가 기다리므로 메모리에 올라오는 페이지 수가 제한됨)
+     */
+    private void scoreSearchedLands(LandAnalysisRequest request, LandSearchFilterRequest filterRequest,
+                                    Set<Long> starLandIdSet, long firstSequence, ScoringContext context,
+                                    ColumnarScoringEngine engine, LandRankingCollector ranking) {
+        BlockingQueue<PreparedBatch> queue = new ArrayBlockingQueue<>(PREFETCH_BATCHES);
+        Future<?> producer = queryFanOutExecutor.submit(() ->
+                produceBatches(request.getFullCode(), filterRequest, starLandIdSet, firstSequence, context, queue));
+
+        int scoredCount = 0;
+        try {
+            while (true) {
+                PreparedBatch batch = queue.take();
+                if (batch == PreparedBatch.END) {
+                    break;
+                }
+                scoreBatch(batch, engine, ranking);
+                scoredCount += batch.lands().size();
+                log.info("배치 처리 중: {} (배치 크기: {})", scoredCount, batch.lands().size());
+            }
+            // 생산자에서 발생한 예외 전파
+            producer.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("토지 분석이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("토지 검색 중 오류가 발생했습니다.", e.getCause());
+        } finally {
+            // 점수 계산이 실패하면 기다리고 있는 생산자를 중단
+            producer.cancel(true);
+        }
+    }
+
+    /**
+     * 검색 결과를 keyset 페이지 단위로 읽어 전력 인프라/행정구역 정보와 함께 큐에 넣음 (생산자)
+     * 정상 종료/실패와 관계없이 마지막에 END를 넣어 소비자가 기다리지 않도록 함
+     */
+    private void produceBatches(String fullCode, LandSearchFilterRequest filterRequest, Set<Long> starLandIdSet,
+                                long firstSequence, ScoringContext context, BlockingQueue<PreparedBatch> queue) {
+        long sequence = firstSequence;
+        long lastId = 0L;
+        int searchedCount = 0;
+        try {
+            while (true) {
+                List<Land> page = mapSearchService.findLandPageByFullCodeAndFilter(
+                        fullCode, filterRequest, lastId, BATCH_SIZE);
+                if (page.isEmpty()) {
+                    break;
+                }
+                lastId = page.get(page.size() - 1).getId();
+                searchedCount += page.size();
+
+                List<Land> landBatch = page.stream()
+                        .filter(land -> !starLandIdSet.contains(land.getId()))
+                        .toList();
+                if (!landBatch.isEmpty()) {
+                    queue.put(new PreparedBatch(landBatch, sequence, toColumns(landBatch, context)));
+                    sequence += landBatch.size();
+                }
 
-                landScoreItems.add(item);
+                if (page.size() < BATCH_SIZE) {
+                    break;
+                }
+            }
+            log.info("검색된 토지 수: {}, fullCode: {}, 중복 제거 후: {}",
+                    searchedCount, fullCode, sequence - firstSequence);
+        } catch (InterruptedException e) {
+            // 소비자가 중단한 경우
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                queue.put(PreparedBatch.END);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             }
         }
+    }
 
-        // 5. 점수 내림차순 정렬 및 순위 설정
-        landScoreItems.sort((a, b) -> Double.compare(b.getTotalScore(), a.getTotalScore()));
-        for (int i = 0; i < landScoreItems.size(); i++) {
-            landScoreItems.get(i).setRank(i + 1);
+    /**
+     * 미리 읽어 둔 토지 묶음의 총합 점수를 열 단위로 계산하여 ranking에 추가
+     * 병렬 계산이 켜져 있으면 묶음을 작은 구간으로 나누어 landScoringPool에서 계산하고 구간별 수집기를 합침
+     */
+    private void scoreBatch(PreparedBatch batch, ColumnarScoringEngine engine, LandRankingCollector ranking) {
+        int size = batch.columns().size;
+        double[] totals = new double[size];
+        if (landScoringPool.getParallelism() <= 1 || size <= SCORING_CHUNK_SIZE) {
+            engine.score(batch.columns(), 0, size, totals);
+            for (int i = 0; i < size; i++) {
+                ranking.offer(new LandRankingCollector.Candidate(
+                        batch.firstSequence() + i, batch.lands().get(i), totals[i]));
+            }
+            return;
         }
-        
-        // 6. 찜토지 목록과 상위 20위 목록 분리
-        List<LandScoreItem> starredLands = landScoreItems.stream()
-            .filter(LandScoreItem::isStarred)
-            .toList();
-            
-        List<LandScoreItem> top20Lands = landScoreItems.size() > 20 
-            ? landScoreItems.subList(0, 20) 
-            : landScoreItems;
-
-        // 7. 응답 객체 구성
-        return LandScoreRankingResponse.builder()
-                .starredLands(starredLands)
-                .topRankedLands(top20Lands)
+
+        ranking.merge(landScoringPool.invoke(new ScoringTask(batch, 0, size, totals, engine, ranking)));
+    }
+
+    /**
+     * 토지 묶음의 전력 인프라 정보를 한 번에 조회하고 행정구역 정보와 함께 열 단위 배열로 변환
+     */
+    private LandColumns toColumns(List<Land> lands, ScoringContext context) {
+        return LandColumns.of(lands, findPowerInfrastructure(lands),
+                land -> getAreaDetails(land, context.areaDetailsMap()));
+    }
+
+    /**
+     * 전력 인프라 정보 일괄 조회 (landId를 키로 하는 Map)
+     */
+    private Map<Long, LandPowerInfrastructureSummary> findPowerInfrastructure(List<Land> lands) {
+        if (lands.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> landIds = lands.stream().map(Land::getId).toList();
+        return powerInfrastructureDao.findByLandIds(landIds).stream()
+                .collect(Collectors.toMap(
+                        LandPowerInfrastructureSummary::getLandId,
+                        summary -> summary));
+    }
+
+    /**
+     * 토지 한 건의 계산기별 상세 점수 계산 (응답 항목의 카테고리/전역 점수용)
+     */
+    private Map<AnalysisStatisticsType, ScoreResult> calculateScoreResults(
+            Land land, LandPowerInfrastructureSummary powerInfraSummary, ScoringContext context) {
+        AreaDetailResponse areaDetails = getAreaDetails(land, context.areaDetailsMap());
+
+        // LandAnalysisData 구성
+        LandAnalysisData analysisData = LandAnalysisData.builder()
+                .land(land)
+                .electricityCostInfo(areaDetails != null ? areaDetails.electricityCostInfo() : null)
+                .emergencyTextInfo(areaDetails != null ? areaDetails.emergencyTextInfo() : null)
+                .populationInfo(areaDetails != null ? areaDetails.populationInfo() : null)
+                .substationCount(powerInfraSummary != null ? powerInfraSummary.getSubstationCount() : Integer.valueOf(0))
+                .transmissionTowerCount(powerInfraSummary != null ? powerInfraSummary.getTransmissionTowerCount() : Integer.valueOf(0))
+                .transmissionLineCount(powerInfraSummary != null ? powerInfraSummary.getTransmissionLineCount() : Integer.valueOf(0))
+                .statisticsRanges(context.statisticsRanges())
+                .scoringPlan(context.scoringPlan())
+                .targetUseDistrictCodes(context.targetUseDistrictCodes())
                 .build();
+
+        return calculateScores(analysisData);
     }
 
+    private LandScoreItem toLandScoreItem(LandRankingCollector.RankedCandidate ranked, Set<Long> starLandIdSet,
+                                          Map<Long, LandPowerInfrastructureSummary> powerInfraMap,
+                                          ScoringContext context,
+                                          Map<LandRankingCollector.Candidate, LandScoreItem> items) {
+        return items.computeIfAbsent(ranked.candidate(), candidate -> {
+            Land land = candidate.land();
+            Map<AnalysisStatisticsType, ScoreResult> scoreResults =
+                    calculateScoreResults(land, powerInfraMap.get(land.getId()), context);
+            return LandScoreItem.builder()
+                    .landId(land.getId())
+                    .address(land.getAddress())
+                    .landArea(land.getLandArea())
+                    .officialLandPrice(land.getOfficialLandPrice())
+                    .totalScore(candidate.totalScore())
+                    .categoryScores(convertToCategoryScoreDetails(scoreResults))
+                    .globalScores(convertToGlobalScoreDetails(scoreResults))
+                    .rank(ranked.rank())
+                    .isStarred(starLandIdSet.contains(land.getId()))
+                    .build();
+        });
+    }
 
     /**
-     * 검색 조건으로 토지 목록 조회
+     * 분석 요청의 검색 조건을 토지 검색 필터로 변환 (범위가 없으면 전체 데이터 범위 사용)
      */
-    private List<Land> searchLandsByCondition(LandAnalysisRequest request) {
+    private LandSearchFilterRequest toLandSearchFilter(LandAnalysisRequest request) {
         // TODO: MSA 구조 변경 시 다른 도메인(search)과의 통신을 위해 인터페이스로 분리 필요
         long landAreaMin;
         long landAreaMax;
@@ -219,48 +349,42 @@ public class LandAnalysisService {
         }
 
         // LandSearchFilterRequest 구성 (null 체크 없이 직접 전달)
-        LandSearchFilterRequest filterRequest = new LandSearchFilterRequest(
+        return new LandSearchFilterRequest(
                 landAreaMin,
                 landAreaMax,
                 officialLandPriceMin,
                 officialLandPriceMax,
                 request.getTargetUseDistrictCodes());
-
-        // MapSearchService의 findLandsByFullCodeAndFilter 활용
-        List<Land> lands = mapSearchService.findLandsByFullCodeAndFilter(request.getFullCode(), filterRequest);
-
-        log.info("토지 검색 완료. fullCode: {}, 조회된 토지 수: {}", request.getFullCode(), lands.size());
-
-        return lands;
     }
 
     /**
-     * 토지 목록에서 fullCode 5자리 prefix를 추출하여 행정구역 상세 정보 조회
+     * 토지가 속한 행정구역(fullCode 5자리 prefix) 상세 정보 조회
+     * 요청 내에서 prefix별로 한 번만 조회하며, 조회 실패도 기억하여 다시 시도하지 않음
+     * 조회는 JDBC 대기와 fan-out 대기를 포함하므로 잠금(computeIfAbsent) 밖에서 수행함
      */
-    private Map<String, AreaDetailResponse> getAreaDetailsByPrefixes(List<Land> lands) {
-        // fullCode 5자리 prefix 추출
-        Set<String> prefix5Set = lands.stream()
-                .map(Land::getBeopjungDongCode)
-                .filter(Objects::nonNull)
-                .filter(code -> code.length() >= 5)
-                .map(code -> code.substring(0, 5))
-                .collect(Collectors.toSet());
-
-        Map<String, AreaDetailResponse> areaDetailsMap = new HashMap<>();
-        
-        // 각 prefix별로 행정구역 상세 정보 조회
-        for (String prefix5 : prefix5Set) {
-            try {
-                AreaDetailResponse areaDetails = mapSearchService.getAreaDetailsByFullCode(prefix5);
-                areaDetailsMap.put(prefix5, areaDetails);
-                log.debug("행정구역 정보 조회 완료: prefix5={}", prefix5);
-            } catch (Exception e) {
-                log.warn("행정구역 정보 조회 실패: prefix5={}, error={}", prefix5, e.getMessage());
-            }
+    private AreaDetailResponse getAreaDetails(Land land, Map<String, Optional<AreaDetailResponse>> areaDetailsMap) {
+        String landFullCode = land.getBeopjungDongCode();
+        if (landFullCode == null || landFullCode.length() < 5) {
+            return null;
+        }
+        String prefix5 = landFullCode.substring(0, 5);
+        Optional<AreaDetailResponse> areaDetails = areaDetailsMap.get(prefix5);
+        if (areaDetails == null) {
+            areaDetails = findAreaDetails(prefix5);
+            areaDetailsMap.put(prefix5, areaDetails);
+        }
+        return areaDetails.orElse(null);
+    }
+
+    private Optional<AreaDetailResponse> findAreaDetails(String prefix5) {
+        try {
+            AreaDetailResponse areaDetails = mapSearchService.getAreaDetailsByFullCode(prefix5);
+            log.debug("행정구역 정보 조회 완료: prefix5={}", prefix5);
+            return Optional.of(areaDetails);
+        } catch (Exception e) {
+            log.warn("행정구역 정보 조회 실패: prefix5={}, error={}", prefix5, e.getMessage());
+            return Optional.empty();
         }
-        
-        log.info("행정구역 정보 조회 완료. 총 {}개 prefix", areaDetailsMap.size());
-        return areaDetailsMap;
     }
 
     /**
@@ -307,24 +431,6 @@ public class LandAnalysisService {
         return scoreResults;
     }
 
-    /**
-     * ScoreResult에서 총합 점수 계산 (미리 계산된 가중치 적용)
-     */
-    private double calculateTotalScoreFromResults(Map<AnalysisStatisticsType, ScoreResult> scoreResults, LandAnalysisData analysisData) {
-        if (scoreResults.isEmpty()) {
-            return 0.0;
-        }
-
-        // 원본 점수 추출하여 최종 점수 계산
-        Map<AnalysisStatisticsType, Double> originalScores = new HashMap<>();
-        for (Map.Entry<AnalysisStatisticsType, ScoreResult> entry : scoreResults.entrySet()) {
-            originalScores.put(entry.getKey(), entry.getValue().getOriginalScore());
-        }
-
-        return weightCalculator.calculateFinalWeightedScore(originalScores, analysisData.getGlobalNormalizedWeights());
-    }
-
-
     /**
      * 전력 인프라 정보 조회
      */
@@ -498,4 +604,69 @@ public class LandAnalysisService {
 
         return globalCategoryScoreDetails;
     }
-}
\ No newline at end of file
+
+    /**
+     * 요청 단위로 공유하는 점수 계산 조건
+     * areaDetailsMap: fullCode 5자리 prefix별 행정구역 정보 (조회 실패는 empty)
+     *   찜 토지 준비(요청 스레드) → 생산자 → 상위 토지 상세 계산(요청 스레드) 순으로 한 번에 한 스레드만 사용하며,
+     *   스레드 간 전달은 작업 제출/큐를 거치므로 동기화된 맵이 필요 없음 (점수 계산 작업은 LandColumns만 읽음)
+     */
+    private record ScoringContext(Map<AnalysisStatisticsType, WeightedStatisticsRange> statisticsRanges,
+                                  ScoringPlan scoringPlan,
+                                  List<String> targetUseDistrictCodes,
+                                  Map<String, Optional<AreaDetailResponse>> areaDetailsMap) {
+    }
+
+    /**
+     * 점수 계산용 열 배열까지 준비해 둔 토지 묶음 (END: 생산자 종료 표시)
+     */
+    private record PreparedBatch(List<Land> lands, long firstSequence, LandColumns columns) {
+
+        private static final PreparedBatch END = new PreparedBatch(List.of(), 0, null);
+    }
+
+    /**
+     * 토지 묶음의 [from, to) 구간 점수 계산 작업
+     * 구간이 SCORING_CHUNK_SIZE 이하가 될 때까지 반으로 나누고, 구간별로 fork한 수집기에 모아 합침
+     * totals는 묶음 전체 크기 배열을 공유하며 작업마다 자기 구간만 기록함
+     */
+    private static class ScoringTask extends RecursiveTask<LandRankingCollector> {
+
+        private final PreparedBatch batch;
+        private final int from;
+        private final int to;
+        private final double[] totals;
+        private final ColumnarScoringEngine engine;
+        private final LandRankingCollector ranking;
+
+        private ScoringTask(PreparedBatch batch, int from, int to, double[] totals,
+                            ColumnarScoringEngine engine, LandRankingCollector ranking) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+            this.totals = totals;
+            this.engine = engine;
+            this.ranking = ranking;
+        }
+
+        @Override
+        protected LandRankingCollector compute() {
+            if (to - from <= SCORING_CHUNK_SIZE) {
+                engine.score(batch.columns(), from, to, totals);
+                LandRankingCollector part = ranking.fork();
+                for (int i = from; i < to; i++) {
+                    part.offer(new LandRankingCollector.Candidate(
+                            batch.firstSequence() + i, batch.lands().get(i), totals[i]));
+                }
+                return part;
+            }
+
+            int mid = (from + to) >>> 1;
+            ScoringTask left = new ScoringTask(batch, from, mid, totals, engine, ranking);
+            left.fork();
+            LandRankingCollector merged = new ScoringTask(batch, mid, to, totals, engine, ranking).compute();
+            merged.merge(left.join());
+            return merged;
+        }
+    }
+}
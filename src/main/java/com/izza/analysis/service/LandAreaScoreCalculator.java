@@ -17,7 +17,7 @@ public class LandAreaScoreCalculator extends AbstractNormalizedScoreCalculator {
     }
 
     @Override
-    protected double getBaseScore() {
+    public double getBaseScore() {
         return 0.5;
     }
 
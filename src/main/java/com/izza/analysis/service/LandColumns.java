@@ -0,0 +1,103 @@
+package com.izza.analysis.service;
+
+import com.izza.analysis.persistent.model.LandPowerInfrastructureSummary;
+import com.izza.search.persistent.model.Land;
+import com.izza.search.presentation.dto.response.AreaDetailResponse;
+
+import java.math.BigDecimal;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 토지 묶음의 점수 계산용 값을 열(column)별 기본형 배열로 담은 구조 (struct-of-arrays)
+ * 전기 요금/재해 건수/인구는 행정구역별 배열에 두고 토지는 행정구역 인덱스(sigIndex)로 참조함
+ * 값이 없어 기존 계산기에서 예외가 나던 경우(null 등)는 NaN으로 두며 해당 지표 점수는 0으로 계산됨
+ */
+final class LandColumns {
+
+    // 행정구역 정보가 없을 때 ElectricityCostScoreCalculator가 사용하는 기본 단가
+    private static final double DEFAULT_ELECTRICITY_COST = 170.0;
+
+    final int size;
+    final double[] landArea;
+    final double[] officialLandPrice;
+    final double[] substationCount;
+    final double[] transmissionTowerCount;
+    final double[] transmissionLineCount;
+    final int[] sigIndex;
+
+    final double[] sigElectricityCost;
+    final double[] sigDisasterCount;
+    final double[] sigMiddleAgedPopulation;
+
+    private LandColumns(int[] sigIndex, int sigCount) {
+        this.size = sigIndex.length;
+        this.landArea = new double[size];
+        this.officialLandPrice = new double[size];
+        this.substationCount = new double[size];
+        this.transmissionTowerCount = new double[size];
+        this.transmissionLineCount = new double[size];
+        this.sigIndex = sigIndex;
+        this.sigElectricityCost = new double[sigCount];
+        this.sigDisasterCount = new double[sigCount];
+        this.sigMiddleAgedPopulation = new double[sigCount];
+    }
+
+    /**
+     * @param powerInfraMap landId별 전력 인프라 정보 (없으면 개수 0)
+     * @param areaDetails   토지가 속한 행정구역 정보 (같은 행정구역은 같은 인스턴스, 없으면 null)
+     */
+    static LandColumns of(List<Land> lands, Map<Long, LandPowerInfrastructureSummary> powerInfraMap,
+                          Function<Land, AreaDetailResponse> areaDetails) {
+        Map<AreaDetailResponse, Integer> sigIndexes = new IdentityHashMap<>();
+        int[] sigIndex = new int[lands.size()];
+        for (int i = 0; i < lands.size(); i++) {
+            AreaDetailResponse area = areaDetails.apply(lands.get(i));
+            Integer index = sigIndexes.get(area);
+            if (index == null) {
+                index = sigIndexes.size();
+                sigIndexes.put(area, index);
+            }
+            sigIndex[i] = index;
+        }
+
+        LandColumns columns = new LandColumns(sigIndex, sigIndexes.size());
+        for (int i = 0; i < lands.size(); i++) {
+            Land land = lands.get(i);
+            columns.landArea[i] = valueOf(land.getLandArea());
+            columns.officialLandPrice[i] = valueOf(land.getOfficialLandPrice());
+
+            LandPowerInfrastructureSummary summary = powerInfraMap.get(land.getId());
+            columns.substationCount[i] = summary != null ? valueOf(summary.getSubstationCount()) : 0;
+            columns.transmissionTowerCount[i] = summary != null ? valueOf(summary.getTransmissionTowerCount()) : 0;
+            columns.transmissionLineCount[i] = summary != null ? valueOf(summary.getTransmissionLineCount()) : 0;
+        }
+
+        for (Map.Entry<AreaDetailResponse, Integer> entry : sigIndexes.entrySet()) {
+            AreaDetailResponse area = entry.getKey();
+            int sig = entry.getValue();
+            if (area == null || area.electricityCostInfo() == null) {
+                columns.sigElectricityCost[sig] = DEFAULT_ELECTRICITY_COST;
+            } else {
+                columns.sigElectricityCost[sig] = valueOf(area.electricityCostInfo().unitCost());
+            }
+            columns.sigDisasterCount[sig] = area != null && area.emergencyTextInfo() != null
+                    ? area.emergencyTextInfo().totalDisasterCount()
+                    : Double.NaN;
+            columns.sigMiddleAgedPopulation[sig] = area != null && area.populationInfo() != null
+                    ? area.populationInfo().getMiddleAgedPopulation()
+                    : Double.NaN;
+        }
+        return columns;
+    }
+
+    private static double valueOf(BigDecimal value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
+    private static double valueOf(Integer value) {
+        return value != null ? value : Double.NaN;
+    }
+}
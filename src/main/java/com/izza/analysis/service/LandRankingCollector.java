@@ -0,0 +1,155 @@
+package com.izza.analysis.service;
+
+import com.izza.search.persistent.model.Land;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 점수가 계산된 토지를 순서대로 받아 상위 limit개와 찜 토지의 순위만 유지하는 수집기
+ * 전체 토지를 모아 정렬하지 않고 크기 limit의 최소 힙으로 상위 목록을 유지함 (메모리 O(limit), 시간 O(N log limit))
+ * 순위는 점수 내림차순, 같은 점수는 먼저 들어온 토지(sequence가 작은 토지)가 앞섬
+ * 찜 토지는 먼저 점수를 계산해 생성 시 전달하며, 이후 들어오는 토지 중 찜 토지보다 앞서는 수를 세어 순위를 정함
+ * 스레드 안전하지 않으므로 병렬 계산 시 스레드별로 fork한 수집기에 모은 뒤 merge로 합침
+ */
+class LandRankingCollector {
+
+    static final Comparator<Candidate> RANKING = Comparator.comparingDouble(Candidate::totalScore).reversed()
+            .thenComparingLong(Candidate::sequence);
+
+    private final int limit;
+    // 가장 순위가 낮은 후보가 head
+    private final PriorityQueue<Candidate> top;
+    private final List<Candidate> starred;
+    // 찜 토지 점수 오름차순
+    private final double[] starredScores;
+    // aheadCounts[b]: 찜 토지 중 점수가 더 낮은 것이 b개인 토지 수
+    private final long[] aheadCounts;
+
+    LandRankingCollector(int limit, List<Candidate> starred) {
+        this(limit, starred, starred.stream().mapToDouble(Candidate::totalScore).sorted().toArray());
+        starred.forEach(this::offerTop);
+    }
+
+    private LandRankingCollector(int limit, List<Candidate> starred, double[] starredScores) {
+        this.limit = limit;
+        this.top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        this.starred = List.copyOf(starred);
+        this.starredScores = starredScores;
+        this.aheadCounts = new long[starredScores.length + 1];
+    }
+
+    /**
+     * 같은 찜 토지 점수를 기준으로 세는 빈 수집기 (다른 스레드에서 offer 후 merge로 합침)
+     */
+    LandRankingCollector fork() {
+        return new LandRankingCollector(limit, List.of(), starredScores);
+    }
+
+    /**
+     * fork한 수집기의 상위 목록과 찜 토지 순위 집계를 합침
+     */
+    void merge(LandRankingCollector other) {
+        other.top.forEach(this::offerTop);
+        for (int b = 0; b < aheadCounts.length; b++) {
+            aheadCounts[b] += other.aheadCounts[b];
+        }
+    }
+
+    /**
+     * 찜 토지 이후에 들어온(찜 토지보다 sequence가 큰) 토지 추가
+     */
+    void offer(Candidate candidate) {
+        offerTop(candidate);
+        if (starredScores.length > 0) {
+            aheadCounts[countStarredBelow(candidate.totalScore())]++;
+        }
+    }
+
+    /**
+     * 상위 목록 (순위 순)
+     */
+    List<RankedCandidate> topRanked() {
+        List<Candidate> sorted = new ArrayList<>(top);
+        sorted.sort(RANKING);
+
+        List<RankedCandidate> ranked = new ArrayList<>(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            ranked.add(new RankedCandidate(sorted.get(i), i + 1));
+        }
+        return ranked;
+    }
+
+    /**
+     * 찜 토지 목록 (순위 순)
+     * 순위 = 1 + 앞서는 찜 토지 수 + 점수가 더 높은 나머지 토지 수
+     */
+    List<RankedCandidate> starredRanked() {
+        // 점수가 s보다 높은 토지 x는 s 이하인 찜 토지 수(u) 이상의 칸에 세어져 있으므로 뒤쪽 누적합으로 구함
+        long[] aheadFrom = new long[aheadCounts.length + 1];
+        for (int b = aheadCounts.length - 1; b >= 0; b--) {
+            aheadFrom[b] = aheadFrom[b + 1] + aheadCounts[b];
+        }
+
+        List<RankedCandidate> ranked = new ArrayList<>(starred.size());
+        for (Candidate candidate : starred) {
+            long ahead = aheadFrom[countStarredAtOrBelow(candidate.totalScore())];
+            for (Candidate other : starred) {
+                if (RANKING.compare(other, candidate) < 0) {
+                    ahead++;
+                }
+            }
+            ranked.add(new RankedCandidate(candidate, (int) (ahead + 1)));
+        }
+        ranked.sort(Comparator.comparingInt(RankedCandidate::rank));
+        return ranked;
+    }
+
+    private void offerTop(Candidate candidate) {
+        if (top.size() < limit) {
+            top.add(candidate);
+        } else if (limit > 0 && RANKING.compare(candidate, top.peek()) < 0) {
+            top.poll();
+            top.add(candidate);
+        }
+    }
+
+    private int countStarredBelow(double score) {
+        int low = 0;
+        int high = starredScores.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Double.compare(starredScores[mid], score) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int countStarredAtOrBelow(double score) {
+        int low = 0;
+        int high = starredScores.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Double.compare(starredScores[mid], score) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 총합 점수가 계산된 토지 (sequence: 들어온 순서, 같은 점수의 순위 결정용)
+     */
+    record Candidate(long sequence, Land land, double totalScore) {
+    }
+
+    record RankedCandidate(Candidate candidate, int rank) {
+    }
+}
@@ -17,7 +17,7 @@ public class OfficialLandPriceScoreCalculator extends AbstractNormalizedScoreCal
     }
 
     @Override
-    protected double getBaseScore() {
+    public double getBaseScore() {
         return 0.5;
     }
 
@@ -26,55 +26,46 @@ public class PopulationDensityScoreCalculator implements ScoreCalculator {
         return AnalysisStatisticsType.POPULATION_DENSITY;
     }
 
+    /**
+     * 허용 범위(기준값±허용편차) 안에 있을 때의 점수
+     */
+    @Override
+    public double getBaseScore() {
+        return 0.5;
+    }
+
     @Override
     public ScoreResult calculateScore(LandAnalysisData data) {
-        // 0. statisticsRanges에 해당 타입이 없으면 점수 계산하지 않음
+        // 0. 점수 계산 계획에 해당 타입이 없으면 점수 계산하지 않음
         AnalysisStatisticsType statisticsType = getStatisticsType();
-        if (!data.getStatisticsRanges().containsKey(statisticsType)) {
+        ScoringPlan plan = data.getScoringPlan();
+        if (!plan.isEnabled(statisticsType)) {
             return null;
         }
         
         // 1. 실제 값 가져오기 (인구밀도)
         double actualValue = data.getPopulationInfo().getMiddleAgedPopulation();
 
-        // 2. 업종 타입에 따른 기준값과 허용편차 결정
-        IndustryType industryType = determineIndustryType(data);
-        if (industryType == null) {
-            log.warn("업종 타입이 지정되지 않아 제조업 기준으로 계산합니다.");
-            industryType = IndustryType.MANUFACTURING; // 기본값
-        }
-
+        // 2. 업종 타입에 따른 기준값과 허용편차 결정 (업종이 없으면 계획에서 제조업으로 정해 둠)
+        IndustryType industryType = plan.industryType();
         double standardDensity = industryType.getStandardDensity();
         double allowedDeviation = industryType.getAllowedDeviation();
 
         // 3. 원본 점수 계산
         double originalScore = calculateDeviationBasedScore(actualValue, standardDensity, allowedDeviation);
 
-        // 4. 가중치 적용
-        Double categoryWeight = data.getCategoryNormalizedWeights().get(statisticsType);
-        Double globalWeight = data.getGlobalNormalizedWeights().get(statisticsType);
-
-        double categoryNormalizedScore = categoryWeight != null ?
-                originalScore * (categoryWeight / 100) : originalScore;
-        double globalNormalizedScore = globalWeight != null ?
-                originalScore * (globalWeight / 100) : originalScore;
-
         log.debug("인구밀도 점수 계산 완료 - 실제값: {}, 업종: {}, 기준값: {}, 허용편차: {}, 원본점수: {}",
                 actualValue, industryType.getDisplayName(), standardDensity, allowedDeviation, originalScore);
 
-        return ScoreResult.builder()
-                .statisticsType(statisticsType)
-                .originalScore(originalScore)
-                .categoryNormalizedScore(categoryNormalizedScore)
-                .globalNormalizedScore(globalNormalizedScore)
-                .build();
+        // 4. 가중치 적용
+        return plan.toScoreResult(statisticsType, originalScore);
     }
 
     /**
      * 인구밀도 기반 점수 계산
-     * 허용범위(기준값±허용편차)일 때 0.5점, 인구가 많을수록 +점수, 적을수록 -점수
+     * 허용범위(기준값±허용편차)일 때 0.5점, 인구가 많을수록 +점수, 적을수록 -점수 (ColumnarScoringEngine과 공유)
      */
-    private double calculateDeviationBasedScore(double actualValue, double standardDensity, double allowedDeviation) {
+    static double calculateDeviationBasedScore(double actualValue, double standardDensity, double allowedDeviation) {
         if (allowedDeviation == 0) {
             return actualValue == standardDensity ? 0.5 : 0.0;
         }
@@ -97,11 +88,4 @@ public class PopulationDensityScoreCalculator implements ScoreCalculator {
         double deficitRatio = (lowerBound - actualValue) / allowedDeviation;
         return Math.max(0.0, 0.5 - (deficitRatio * 0.5));
     }
-
-    /**
-     * LandAnalysisData에서 업종 타입을 추출
-     */
-    private IndustryType determineIndustryType(LandAnalysisData data) {
-        return data.getIndustryType();
-    }
-}
\ No newline at end of file
+}
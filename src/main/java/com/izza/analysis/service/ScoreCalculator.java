@@ -7,13 +7,14 @@ import com.izza.analysis.service.dto.ScoreResult;
 /**
  * 점수 계산을 위한 공통 인터페이스
  * 모든 점수 계산 로직은 LandAnalysisData를 받아서 ScoreResult를 반환
+ * 통계 범위와 가중치는 LandAnalysisData의 ScoringPlan에서 읽음
  */
 public interface ScoreCalculator {
     
     /**
      * 점수를 계산하는 메서드 (정규화된 점수 포함)
      * 
-     * @param data 토지 분석 데이터 객체 (토지 정보, 지역 정보, 통계 범위, 정규화된 가중치 포함)
+     * @param data 토지 분석 데이터 객체 (토지 정보, 지역 정보, 점수 계산 계획 포함)
      * @return 계산된 점수 결과 (원본 점수, 카테고리 정규화 점수, 전체 정규화 점수)
      */
     ScoreResult calculateScore(LandAnalysisData data);
@@ -25,6 +26,13 @@ public interface ScoreCalculator {
      */
     AnalysisStatisticsType getStatisticsType();
     
+    /**
+     * 이 계산기의 기준 점수를 반환 (ScoringPlan 구성 시 사용)
+     * 
+     * @return 기준 점수 (0.0 ~ 1.0)
+     */
+    double getBaseScore();
+    
     /**
      * 계산기의 이름을 반환 (로깅, 디버깅 용도)
      * 
@@ -0,0 +1,156 @@
+package com.izza.analysis.service;
+
+import com.izza.analysis.service.dto.ScoreResult;
+import com.izza.analysis.vo.AnalysisStatisticsType;
+import com.izza.analysis.vo.IndustryType;
+import com.izza.analysis.vo.WeightedStatisticsRange;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 분석 요청마다 한 번만 만드는 점수 계산 계획
+ * 통계 범위/가중치 맵을 AnalysisStatisticsType ordinal 위치의 기본형 배열로 펼쳐 두어,
+ * 계산기와 ColumnarScoringEngine이 토지마다 맵을 조회하지 않고 점수를 계산하도록 함
+ * 가중치는 배율(가중치 / 100)로 보관하며, 가중치가 없으면 배율 1 (원본 점수 그대로)
+ */
+@Slf4j
+public final class ScoringPlan {
+
+    private static final AnalysisStatisticsType[] TYPES = AnalysisStatisticsType.values();
+
+    private final boolean[] enabled = new boolean[TYPES.length];
+    private final boolean[] hasRange = new boolean[TYPES.length];
+    private final double[] mins = new double[TYPES.length];
+    private final double[] maxs = new double[TYPES.length];
+    private final double[] baseScores = new double[TYPES.length];
+    private final double[] categoryWeights = new double[TYPES.length];
+    private final double[] globalWeights = new double[TYPES.length];
+    // 총합 점수에 반영되는 지표 (활성 지표 중 전역 가중치가 있는 것, ordinal 순)
+    private final AnalysisStatisticsType[] weightedMetrics;
+    private final IndustryType industryType;
+
+    private ScoringPlan(Map<AnalysisStatisticsType, WeightedStatisticsRange> statisticsRanges,
+                        Map<AnalysisStatisticsType, Double> categoryNormalizedWeights,
+                        Map<AnalysisStatisticsType, Double> globalNormalizedWeights,
+                        IndustryType industryType,
+                        List<? extends ScoreCalculator> calculators) {
+        for (ScoreCalculator calculator : calculators) {
+            baseScores[calculator.getStatisticsType().ordinal()] = calculator.getBaseScore();
+        }
+
+        List<AnalysisStatisticsType> weighted = new ArrayList<>();
+        for (AnalysisStatisticsType type : TYPES) {
+            int i = type.ordinal();
+            WeightedStatisticsRange range = statisticsRanges.get(type);
+            if (range == null) {
+                continue;
+            }
+            enabled[i] = true;
+            if (range.min() != null && range.max() != null) {
+                hasRange[i] = true;
+                mins[i] = range.min();
+                maxs[i] = range.max();
+            }
+
+            Double categoryWeight = categoryNormalizedWeights.get(type);
+            Double globalWeight = globalNormalizedWeights.get(type);
+            categoryWeights[i] = categoryWeight != null ? categoryWeight / 100.0 : 1.0;
+            globalWeights[i] = globalWeight != null ? globalWeight / 100.0 : 1.0;
+            if (globalWeight != null) {
+                weighted.add(type);
+            }
+        }
+        this.weightedMetrics = weighted.toArray(AnalysisStatisticsType[]::new);
+
+        if (industryType == null && isEnabled(AnalysisStatisticsType.POPULATION_DENSITY)) {
+            log.warn("업종 타입이 지정되지 않아 제조업 기준으로 계산합니다.");
+        }
+        this.industryType = industryType != null ? industryType : IndustryType.MANUFACTURING;
+    }
+
+    /**
+     * @param calculators 지표별 기준 점수를 제공하는 계산기 목록
+     */
+    public static ScoringPlan compile(Map<AnalysisStatisticsType, WeightedStatisticsRange> statisticsRanges,
+                                      Map<AnalysisStatisticsType, Double> categoryNormalizedWeights,
+                                      Map<AnalysisStatisticsType, Double> globalNormalizedWeights,
+                                      IndustryType industryType,
+                                      List<? extends ScoreCalculator> calculators) {
+        return new ScoringPlan(statisticsRanges, categoryNormalizedWeights, globalNormalizedWeights,
+                industryType, calculators);
+    }
+
+    /**
+     * 요청에 포함된 지표인지 여부
+     */
+    public boolean isEnabled(AnalysisStatisticsType type) {
+        return enabled[type.ordinal()];
+    }
+
+    /**
+     * 최솟값/최댓값이 모두 있는 지표인지 여부
+     */
+    boolean hasRange(AnalysisStatisticsType type) {
+        return hasRange[type.ordinal()];
+    }
+
+    public double min(AnalysisStatisticsType type) {
+        checkRange(type);
+        return mins[type.ordinal()];
+    }
+
+    public double max(AnalysisStatisticsType type) {
+        checkRange(type);
+        return maxs[type.ordinal()];
+    }
+
+    public double baseScore(AnalysisStatisticsType type) {
+        return baseScores[type.ordinal()];
+    }
+
+    /**
+     * 카테고리 가중치 배율 (카테고리 정규화 가중치 / 100)
+     */
+    public double categoryWeight(AnalysisStatisticsType type) {
+        return categoryWeights[type.ordinal()];
+    }
+
+    /**
+     * 전역 가중치 배율 (전체 정규화 가중치 / 100)
+     */
+    public double globalWeight(AnalysisStatisticsType type) {
+        return globalWeights[type.ordinal()];
+    }
+
+    AnalysisStatisticsType[] weightedMetrics() {
+        return weightedMetrics;
+    }
+
+    /**
+     * 인구밀도 계산 기준 업종 (요청에 없으면 제조업)
+     */
+    public IndustryType industryType() {
+        return industryType;
+    }
+
+    /**
+     * 원본 점수에 카테고리/전역 가중치를 적용한 결과
+     */
+    public ScoreResult toScoreResult(AnalysisStatisticsType type, double originalScore) {
+        return ScoreResult.builder()
+                .statisticsType(type)
+                .originalScore(originalScore)
+                .categoryNormalizedScore(originalScore * categoryWeights[type.ordinal()])
+                .globalNormalizedScore(originalScore * globalWeights[type.ordinal()])
+                .build();
+    }
+
+    private void checkRange(AnalysisStatisticsType type) {
+        if (!hasRange[type.ordinal()]) {
+            throw new IllegalStateException("통계 범위의 최솟값/최댓값이 없습니다: " + type);
+        }
+    }
+}
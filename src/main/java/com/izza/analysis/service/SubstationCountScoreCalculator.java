@@ -19,7 +19,7 @@ public class SubstationCountScoreCalculator extends AbstractNormalizedScoreCalcu
     }
 
     @Override
-    protected double getBaseScore() {
+    public double getBaseScore() {
         return 0;
     }
 
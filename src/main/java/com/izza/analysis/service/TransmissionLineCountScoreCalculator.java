@@ -17,7 +17,7 @@ public class TransmissionLineCountScoreCalculator extends AbstractNormalizedScor
     }
 
     @Override
-    protected double getBaseScore() {
+    public double getBaseScore() {
         return 0;
     }
 
@@ -17,7 +17,7 @@ public class TransmissionTowerCountScoreCalculator extends AbstractNormalizedSco
     }
 
     @Override
-    protected double getBaseScore() {
+    public double getBaseScore() {
         return 0;
     }
 
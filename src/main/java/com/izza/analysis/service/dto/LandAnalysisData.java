@@ -1,7 +1,7 @@
 package com.izza.analysis.service.dto;
 
+import com.izza.analysis.service.ScoringPlan;
 import com.izza.analysis.vo.AnalysisStatisticsType;
-import com.izza.analysis.vo.IndustryType;
 import com.izza.analysis.vo.WeightedStatisticsRange;
 import com.izza.search.persistent.model.Land;
 import com.izza.search.vo.ElectricityCostInfo;
@@ -41,16 +41,10 @@ public class LandAnalysisData {
     // 통계 범위 정보 (통계 유형별 min/max 값과 가중치)
     private Map<AnalysisStatisticsType, WeightedStatisticsRange> statisticsRanges;
     
-    // 카테고리별 정규화된 가중치 (카테고리 내에서 100% 기준)
-    private Map<AnalysisStatisticsType, Double> categoryNormalizedWeights;
-    
-    // 전체 정규화된 가중치 (전체에서 100% 기준)
-    private Map<AnalysisStatisticsType, Double> globalNormalizedWeights;
+    // 요청 단위로 미리 만든 점수 계산 계획 (지표별 범위, 기준 점수, 가중치 배율, 업종)
+    private ScoringPlan scoringPlan;
     
     // 용도지역 필터 조건
     private List<String> targetUseDistrictCodes;
     
-    // 산업 업종 타입 (인구밀도 계산용)
-    private IndustryType industryType;
-    
 }
\ No newline at end of file
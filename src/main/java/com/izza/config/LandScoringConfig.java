@@ -0,0 +1,20 @@
+package com.izza.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+public class LandScoringConfig {
+
+    /**
+     * 토지 분석 점수 계산(CPU 작업)을 코어 수만큼 나누어 실행하기 위한 work-stealing 풀
+     * app.analysis.scoring-parallelism이 1이면 요청 스레드에서 순차 계산함 (0 이하면 코어 수)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool landScoringPool(@Value("${app.analysis.scoring-parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+}
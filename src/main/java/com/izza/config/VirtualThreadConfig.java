@@ -0,0 +1,20 @@
+package com.izza.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class VirtualThreadConfig {
+
+    /**
+     * 요청 하나에서 서로 독립적인 DB 조회를 동시에 실행하기 위한 가상 스레드 실행기
+     * (작업마다 가상 스레드를 새로 만들며, 동시 실행 수는 커넥션 풀 크기로 제한됨)
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService queryFanOutExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("query-fan-out-", 0).factory());
+    }
+}
@@ -0,0 +1,15 @@
+package com.izza.search.domain;
+
+/**
+ * 버전 관리 대상 데이터셋
+ * data_version 테이블의 data_set 컬럼 값과 enum 이름이 일치해야 함
+ */
+public enum DataSet {
+    LAND,
+    BEOPJEONG_DONG,
+    LAND_STATISTICS,
+    // 행정구역 상세 정보(전기 요금 / 재난 문자 / 인구) 원천 테이블
+    ELECTRICITY_COST,
+    EMERGENCY_TEXT,
+    POPULATION
+}
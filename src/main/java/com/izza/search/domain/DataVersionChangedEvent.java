@@ -0,0 +1,11 @@
+package com.izza.search.domain;
+
+/**
+ * 데이터셋 버전 변경 이벤트
+ * 애플리케이션 기동 후 최초 확인 시에도 발행되어 인메모리 구조의 초기 적재에 사용됨
+ */
+public record DataVersionChangedEvent(
+        DataSet dataSet,
+        long version
+) {
+}
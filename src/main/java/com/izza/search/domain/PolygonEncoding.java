@@ -0,0 +1,44 @@
+package com.izza.search.domain;
+
+import com.izza.exception.BusinessException;
+import com.izza.utils.GisUtils;
+import org.locationtech.jts.geom.Geometry;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 폴리곤 응답 좌표 인코딩
+ */
+public enum PolygonEncoding {
+    // {lng, lat} 객체 배열 (기존 형식)
+    POINTS,
+    // 링별 encoded polyline 문자열 (정밀도 1e-6, 위도/경도 순)
+    POLYLINE,
+    // 링별 [lng, lat, lng, lat, ...] 숫자 배열
+    FLAT;
+
+    /**
+     * 요청 파라미터 값으로 인코딩 결정 (값이 없으면 POINTS)
+     */
+    public static PolygonEncoding from(String value) {
+        if (value == null || value.isBlank()) {
+            return POINTS;
+        }
+        for (PolygonEncoding encoding : values()) {
+            if (encoding.name().equalsIgnoreCase(value)) {
+                return encoding;
+            }
+        }
+        throw new BusinessException("유효하지 않은 폴리곤 인코딩입니다: " + value, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Polygon/MultiPolygon 외곽선 좌표를 이 인코딩 형식으로 변환
+     */
+    public Object encode(Geometry geometry) {
+        return switch (this) {
+            case POINTS -> GisUtils.toPackedGeometry(geometry);
+            case POLYLINE -> GisUtils.toEncodedPolylines(geometry);
+            case FLAT -> GisUtils.toFlatCoordinates(geometry);
+        };
+    }
+}
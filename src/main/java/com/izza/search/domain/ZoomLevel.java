@@ -7,14 +7,18 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @Getter
 public enum ZoomLevel {
-    SIDO(9, 14, "SIDO"),
-    SIG(7, 8, "SIG"),
-    EMD(4, 6, "EMD"),
-    LAND(0, 3, "LAND");
+    SIDO(9, 14, "SIDO", 7, 0.005),
+    SIG(7, 8, "SIG", 9, 0.001),
+    EMD(4, 6, "EMD", 11, 0.0002),
+    LAND(0, 3, "LAND", 15, 0);
 
     private final int min;
     private final int max;
     private final String type;
+    // 마커 캐시 단위 타일의 줌 (화면 하나가 타일 몇 개로 덮이는 크기)
+    private final int tileZoom;
+    // 행정구역 경계 단순화 허용 오차 (도 단위, 0이면 원본 유지)
+    private final double simplifyTolerance;
 
     /**
      * 줌 레벨 값으로 해당하는 ZoomLevel 타입을 반환하는 팩토리 메서드
@@ -4,20 +4,29 @@ import com.izza.search.persistent.model.BeopjungDong;
 import com.izza.search.persistent.dto.query.MapSearchQuery;
 import com.izza.utils.GisUtils;
 import com.izza.utils.ResultSetUtils;
+import com.izza.search.vo.PackedGeometry;
 import com.izza.search.vo.Point;
+import org.locationtech.jts.geom.Geometry;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
 public class BeopjungDongDao {
 
+    // 경계 폴리곤은 행 하나가 크므로 작은 단위로 읽음
+    private static final int BOUNDARY_FETCH_SIZE = 100;
+
     private final JdbcTemplate jdbcTemplate;
 
     public BeopjungDongDao(JdbcTemplate jdbcTemplate) {
@@ -60,7 +69,7 @@ public class BeopjungDongDao {
                        dong_type as type,
                        ST_X(center_point) as center_lng,
                        ST_Y(center_point) as center_lat,
-                       ST_AsText(ST_Transform(boundary, 4326)) as boundary_wkt
+                       ST_AsBinary(ST_Transform(boundary, 4326)) as boundary_wkb
                 FROM beopjeong_dong
                 WHERE full_code = ?
                 """;
@@ -72,13 +81,62 @@ public class BeopjungDongDao {
     /**
      * 특정 행정구역 폴리곤 데이터 조회 (멀티폴리곤 지원)
      */
-    public List<List<Point>> findPolygonByFullCode(String full_code) {
-        String sql = "SELECT ST_AsText(boundary) as boundary_wkt FROM beopjeong_dong WHERE full_code = ?";
-        List<List<Point>> results = jdbcTemplate.queryForObject(sql, (rs, rowNum) -> {
-            String wkt = rs.getString("boundary_wkt");
-            return GisUtils.parsePolygonToMultiPointList(wkt);
-        }, full_code);
-        return results;
+    public PackedGeometry findPolygonByFullCode(String full_code) {
+        String sql = "SELECT ST_AsBinary(boundary) as boundary_wkb FROM beopjeong_dong WHERE full_code = ?";
+        return jdbcTemplate.queryForObject(sql,
+                (rs, rowNum) -> GisUtils.parsePolygonToPackedGeometry(rs.getBytes("boundary_wkb")), full_code);
+    }
+
+    /**
+     * 특정 행정구역 경계 geometry 조회 (단순화 등 가공용)
+     */
+    public Optional<Geometry> findBoundaryByFullCode(String fullCode) {
+        String sql = "SELECT ST_AsBinary(boundary) as boundary_wkb FROM beopjeong_dong WHERE full_code = ? AND boundary IS NOT NULL";
+        List<Geometry> results = jdbcTemplate.query(sql,
+                (rs, rowNum) -> GisUtils.readWkb(rs.getBytes("boundary_wkb")), fullCode);
+        return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
+    }
+
+    /**
+     * 여러 행정구역 경계 geometry 일괄 조회 (full_code = ANY(?) 단일 쿼리)
+     */
+    public Map<String, Geometry> findBoundariesByFullCodes(List<String> fullCodes) {
+        Map<String, Geometry> boundaries = new HashMap<>();
+        if (fullCodes.isEmpty()) {
+            return boundaries;
+        }
+
+        String sql = """
+                SELECT full_code, ST_AsBinary(boundary) as boundary_wkb
+                FROM beopjeong_dong
+                WHERE full_code = ANY(?) AND boundary IS NOT NULL
+                """;
+        RowCallbackHandler handler = rs ->
+                boundaries.put(rs.getString("full_code"), GisUtils.readWkb(rs.getBytes("boundary_wkb")));
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            ps.setArray(1, connection.createArrayOf("varchar", fullCodes.toArray()));
+            return ps;
+        }, handler);
+        return boundaries;
+    }
+
+    /**
+     * 경계 저장소 적재용 시도/시군구/읍면동 경계 전체 조회
+     * 커서(fetch size) 단위로 읽어 handler에 전달 (트랜잭션 내에서 호출 필요)
+     */
+    public void forEachRegionBoundary(RowCallbackHandler handler) {
+        String sql = """
+                SELECT full_code, ST_AsBinary(boundary) as boundary_wkb
+                FROM beopjeong_dong
+                WHERE dong_type IN ('SIDO', 'SIG', 'EMD') AND boundary IS NOT NULL
+                """;
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(BOUNDARY_FETCH_SIZE);
+            return ps;
+        }, handler);
     }
 
     public List<BeopjungDong> findAllSido() {
@@ -111,12 +169,36 @@ public class BeopjungDongDao {
         return jdbcTemplate.query(sql, new BeopjungDongRowMapper(), parentCode);
     }
 
+    /**
+     * 행정구역 계층 적재용 전체 조회 (경계 폴리곤 제외)
+     */
+    public List<BeopjungDong> findAllWithoutBoundary() {
+        String sql = """
+                SELECT full_code,
+                       parent_code,
+                       beopjung_dong_name as korean_name,
+                       english_name,
+                       dong_type,
+                       sido,
+                       sig,
+                       emd,
+                       ri,
+                       ST_X(center_point) as center_lng,
+                       ST_Y(center_point) as center_lat
+                FROM beopjeong_dong
+                ORDER BY full_code
+                """;
+
+        return jdbcTemplate.query(sql, new BeopjungDongRowMapper());
+    }
+
     private static class BeopjungDongRowMapper implements RowMapper<BeopjungDong> {
         @Override
         public BeopjungDong mapRow(ResultSet rs, int rowNum) throws SQLException {
             BeopjungDong beopjungDong = new BeopjungDong();
 
             ResultSetUtils.getStringSafe(rs, "full_code").ifPresent(beopjungDong::setFullCode);
+            ResultSetUtils.getStringSafe(rs, "parent_code").ifPresent(beopjungDong::setParentCode);
             ResultSetUtils.getStringSafe(rs, "korean_name").ifPresent(beopjungDong::setKoreanName);
             ResultSetUtils.getStringSafe(rs, "english_name").ifPresent(beopjungDong::setEnglishName);
             ResultSetUtils.getStringSafe(rs, "dong_type").ifPresent(beopjungDong::setType);
@@ -125,11 +207,11 @@ public class BeopjungDongDao {
             ResultSetUtils.getStringSafe(rs, "emd").ifPresent(beopjungDong::setEmdName);
             ResultSetUtils.getStringSafe(rs, "ri").ifPresent(beopjungDong::setRiName);
 
-            String boundaryWkt = ResultSetUtils.getStringSafe(rs, "boundary_wkt").orElse(null);
-            if (boundaryWkt != null && !boundaryWkt.trim().isEmpty()) {
-                beopjungDong.setBoundary(GisUtils.parsePolygonToPointList(boundaryWkt));
+            byte[] boundaryWkb = ResultSetUtils.getBytesSafe(rs, "boundary_wkb").orElse(null);
+            if (boundaryWkb != null && boundaryWkb.length > 0) {
+                beopjungDong.setBoundary(GisUtils.parsePolygonToPackedGeometry(boundaryWkb));
             } else {
-                beopjungDong.setBoundary(new ArrayList<>());
+                beopjungDong.setBoundary(PackedGeometry.EMPTY);
             }
 
             Optional<Double> centerLng = ResultSetUtils.getDoubleSafe(rs, "center_lng");
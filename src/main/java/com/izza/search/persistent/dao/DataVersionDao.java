@@ -0,0 +1,32 @@
+package com.izza.search.persistent.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 데이터 버전 DAO
+ * 배치 작업이 데이터 적재 후 갱신하는 data_version 테이블 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class DataVersionDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 데이터셋별 현재 버전 조회
+     */
+    public Map<String, Long> findAllVersions() {
+        String sql = "SELECT data_set, version FROM data_version";
+
+        Map<String, Long> versions = new HashMap<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs ->
+                versions.put(rs.getString("data_set"), rs.getLong("version")));
+        return versions;
+    }
+}
@@ -1,6 +1,7 @@
 package com.izza.search.persistent.dao;
 
 import com.izza.search.persistent.dto.LandCountQueryResult;
+import com.izza.search.persistent.dto.LandMarkerQueryResult;
 import com.izza.search.persistent.dto.query.CountLandQuery;
 import com.izza.search.persistent.dto.query.FullCodeLandCountQuery;
 import com.izza.search.persistent.dto.query.FullCodeLandSearchQuery;
@@ -10,13 +11,16 @@ import com.izza.utils.GisUtils;
 import com.izza.utils.ResultSetUtils;
 import com.izza.utils.SqlConditionUtils;
 import com.izza.search.presentation.dto.LongRangeDto;
+import com.izza.search.vo.PackedGeometry;
 import com.izza.search.vo.Point;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -24,11 +28,23 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
 @Slf4j
 public class LandDao {
 
+    private static final int STREAMING_FETCH_SIZE = 5000;
+
+    private static final String LAND_MARKER_SQL = """
+            SELECT l.id, l.address,
+            ST_X(lg.center_point) as center_lng,
+            ST_Y(lg.center_point) as center_lat
+            FROM land l
+            JOIN land_gis lg ON l.id = lg.land_id
+            WHERE lg.center_point IS NOT NULL
+            """;
+
     private final JdbcTemplate jdbcTemplate;
 
     public LandDao(JdbcTemplate jdbcTemplate) {
@@ -42,7 +58,7 @@ public class LandDao {
         StringBuilder sqlBuilder = new StringBuilder();
         String sql = """
                   SELECT l.*,
-                  ST_AsText(lg.boundary) as boundary_wkt,
+                  ST_AsBinary(lg.boundary) as boundary_wkb,
                   ST_X(lg.center_point) as center_lng,
                   ST_Y(lg.center_point) as center_lat
                   FROM land l
@@ -52,7 +68,36 @@ public class LandDao {
         sqlBuilder.append(sql);
 
         List<Object> params = new ArrayList<>();
+        appendLandSearchConditions(sqlBuilder, params, query);
+
+        return jdbcTemplate.query(sqlBuilder.toString(), new LandRowMapper(), params.toArray());
+    }
+
+    /**
+     * 토지 마커 조회 (id, 주소, 중심점만 조회하여 경계 폴리곤 파싱 없이 매핑)
+     */
+    public List<LandMarkerQueryResult> findLandMarkers(LandSearchQuery query) {
+        StringBuilder sqlBuilder = new StringBuilder(LAND_MARKER_SQL);
+        List<Object> params = new ArrayList<>();
+        appendLandSearchConditions(sqlBuilder, params, query);
 
+        return jdbcTemplate.query(sqlBuilder.toString(), new LandMarkerRowMapper(), params.toArray());
+    }
+
+    /**
+     * 토지 마커 스트리밍 조회 (findLandMarkers와 같은 조건)
+     * 결과를 메모리에 모으지 않도록 커서(fetch size) 단위로 읽어 consumer에 전달 (트랜잭션 내에서 호출 필요)
+     */
+    public void forEachLandMarker(LandSearchQuery query, Consumer<LandMarkerQueryResult> consumer) {
+        StringBuilder sqlBuilder = new StringBuilder(LAND_MARKER_SQL);
+        List<Object> params = new ArrayList<>();
+        appendLandSearchConditions(sqlBuilder, params, query);
+
+        LandMarkerRowMapper rowMapper = new LandMarkerRowMapper();
+        streamQuery(sqlBuilder.toString(), params, rs -> consumer.accept(rowMapper.mapRow(rs, 0)));
+    }
+
+    private void appendLandSearchConditions(StringBuilder sqlBuilder, List<Object> params, LandSearchQuery query) {
         // 지도 영역 필터링 (center_point 기준)
         if (query.hasMapBounds()) {
             sqlBuilder.append(" AND ST_Contains(ST_MakeEnvelope(?, ?, ?, ?, 4326), lg.center_point)");
@@ -79,8 +124,63 @@ public class LandDao {
 
         // 제외할 토지 이용 코드 필터링
         sqlBuilder.append(" AND l.land_use_code NOT IN (910, 920, 930, 940, 950, 960, 970, 990, 850, 860, 870, 880, 881, 890, 891, 892, 893)");
+    }
 
-        return jdbcTemplate.query(sqlBuilder.toString(), new LandRowMapper(), params.toArray());
+    /**
+     * forward-only 커서로 fetch size 단위 조회 (트랜잭션 내에서 호출해야 커서가 유지됨)
+     */
+    private void streamQuery(String sql, List<Object> params, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            ps.setFetchSize(STREAMING_FETCH_SIZE);
+            return ps;
+        }, handler);
+    }
+
+    /**
+     * 마커 인덱스 적재용 토지 중심점 전체 조회
+     * 결과를 메모리에 모으지 않도록 커서(fetch size) 단위로 읽어 handler에 전달 (트랜잭션 내에서 호출 필요)
+     */
+    public void forEachLandPoint(RowCallbackHandler handler) {
+        String sql = """
+                SELECT l.id, l.address, l.use_zone_category, l.land_area, l.official_land_price,
+                       ST_X(lg.center_point) as center_lng,
+                       ST_Y(lg.center_point) as center_lat
+                FROM land l
+                JOIN land_gis lg ON l.id = lg.land_id
+                WHERE lg.center_point IS NOT NULL
+                AND l.land_use_code NOT IN (910, 920, 930, 940, 950, 960, 970, 990, 850, 860, 870, 880, 881, 890, 891, 892, 893)
+                """;
+
+        streamQuery(sql, List.of(), handler);
+    }
+
+    /**
+     * 카운트 큐브 적재용 지역 코드(앞 keyLength자리) × 용도지역 × 면적/공시지가 버킷별 토지 수 조회
+     * 버킷 기준은 land_statistics_prefix_sum과 동일 (면적 500㎡, 공시지가 50만원 단위)
+     * (key_prefix, use_zone_category) 순으로 정렬하여 커서 단위로 handler에 전달 (트랜잭션 내에서 호출 필요)
+     */
+    public void forEachLandBucketCount(int keyLength, RowCallbackHandler handler) {
+        String sql = """
+                SELECT LEFT(full_code, ?) as key_prefix, use_zone_category,
+                       LEAST(GREATEST(FLOOR(land_area / 500), 0), 1999)::int as area_bucket,
+                       LEAST(GREATEST(FLOOR(official_land_price / 500000), 0), 360)::int as price_bucket,
+                       COUNT(*) as land_count,
+                       MIN(land_area) as min_land_area, MAX(land_area) as max_land_area,
+                       MIN(official_land_price) as min_official_land_price,
+                       MAX(official_land_price) as max_official_land_price
+                FROM land
+                WHERE use_zone_category IS NOT NULL
+                AND land_area IS NOT NULL
+                AND official_land_price IS NOT NULL
+                GROUP BY 1, 2, 3, 4
+                ORDER BY 1, 2
+                """;
+
+        streamQuery(sql, List.of(keyLength), handler);
     }
 
     public List<LandCountQueryResult> countLandsByRegions(CountLandQuery query) {
@@ -105,104 +205,71 @@ public class LandDao {
         int priceBucketMin = Math.max(0, (int) (query.officialLandPriceMin() / 500000));
         int priceBucketMax = Math.min(360, (int) (query.officialLandPriceMax() / 500000));
 
-        Map<String, Long> regionCountMap = new HashMap<>();
+        // 지역 × 카테고리 × 2D prefix sum 모서리(p1 - p2 - p3 + p4) 조합을 배열로 만들어 한 번에 조회
+        List<String> keyPrefixes = new ArrayList<>();
+        List<String> useZoneCategories = new ArrayList<>();
+        List<Integer> areaBuckets = new ArrayList<>();
+        List<Integer> priceBuckets = new ArrayList<>();
+        List<Integer> signs = new ArrayList<>();
 
-        // 각 지역별, 카테고리별로 개별 계산 후 합산
         for (String regionCode : query.fullCodePrefixes()) {
-            long totalCountForRegion = 0;
-            
             for (String useZoneCategory : query.useZoneCategories()) {
-                // UNION ALL로 p1, p2, p3, p4를 한번에 조회
-                StringBuilder unionSql = new StringBuilder();
-                unionSql.append("SELECT 'p1' as query_name, COALESCE(cumulative_count, 0) as count_value ")
-                        .append("FROM land_statistics_prefix_sum ")
-                        .append("WHERE key_prefix = ? AND use_zone_category = ? AND area_bucket = ? AND price_bucket = ? ");
-                
+                List<int[]> corners = new ArrayList<>();
+                corners.add(new int[]{areaBucketMax, priceBucketMax, 1});
                 if (areaBucketMin > 0) {
-                    unionSql.append("UNION ALL ")
-                            .append("SELECT 'p2' as query_name, COALESCE(cumulative_count, 0) as count_value ")
-                            .append("FROM land_statistics_prefix_sum ")
-                            .append("WHERE key_prefix = ? AND use_zone_category = ? AND area_bucket = ? AND price_bucket = ? ");
+                    corners.add(new int[]{areaBucketMin - 1, priceBucketMax, -1});
                 }
-                
                 if (priceBucketMin > 0) {
-                    unionSql.append("UNION ALL ")
-                            .append("SELECT 'p3' as query_name, COALESCE(cumulative_count, 0) as count_value ")
-                            .append("FROM land_statistics_prefix_sum ")
-                            .append("WHERE key_prefix = ? AND use_zone_category = ? AND area_bucket = ? AND price_bucket = ? ");
+                    corners.add(new int[]{areaBucketMax, priceBucketMin - 1, -1});
                 }
-                
                 if (areaBucketMin > 0 && priceBucketMin > 0) {
-                    unionSql.append("UNION ALL ")
-                            .append("SELECT 'p4' as query_name, COALESCE(cumulative_count, 0) as count_value ")
-                            .append("FROM land_statistics_prefix_sum ")
-                            .append("WHERE key_prefix = ? AND use_zone_category = ? AND area_bucket = ? AND price_bucket = ? ");
+                    corners.add(new int[]{areaBucketMin - 1, priceBucketMin - 1, 1});
                 }
 
-                List<Object> params = new ArrayList<>();
-                // p1 파라미터
-                params.add(regionCode);
-                params.add(useZoneCategory);
-                params.add(areaBucketMax);
-                params.add(priceBucketMax);
-                
-                // p2 파라미터 (areaBucketMin > 0일 때만)
-                if (areaBucketMin > 0) {
-                    params.add(regionCode);
-                    params.add(useZoneCategory);
-                    params.add(areaBucketMin - 1);
-                    params.add(priceBucketMax);
-                }
-                
-                // p3 파라미터 (priceBucketMin > 0일 때만)
-                if (priceBucketMin > 0) {
-                    params.add(regionCode);
-                    params.add(useZoneCategory);
-                    params.add(areaBucketMax);
-                    params.add(priceBucketMin - 1);
-                }
-                
-                // p4 파라미터 (둘 다 > 0일 때만)
-                if (areaBucketMin > 0 && priceBucketMin > 0) {
-                    params.add(regionCode);
-                    params.add(useZoneCategory);
-                    params.add(areaBucketMin - 1);
-                    params.add(priceBucketMin - 1);
-                }
-
-                // 쿼리 실행 및 결과 파싱
-                List<Map<String, Object>> results = jdbcTemplate.queryForList(unionSql.toString(), params.toArray());
-                
-                long p1Count = 0L, p2Count = 0L, p3Count = 0L, p4Count = 0L;
-                for (Map<String, Object> row : results) {
-                    String queryName = (String) row.get("query_name");
-                    Long countValue = ((Number) row.get("count_value")).longValue();
-                    
-                    switch (queryName) {
-                        case "p1" -> p1Count = countValue;
-                        case "p2" -> p2Count = countValue;
-                        case "p3" -> p3Count = countValue;
-                        case "p4" -> p4Count = countValue;
-                    }
-                }
-                
-                // 2D prefix sum 공식: p1 - p2 - p3 + p4
-                long categoryCount = p1Count - p2Count - p3Count + p4Count;
-                
-                log.debug("지역: {}, 카테고리: {}, p1: {}, p2: {}, p3: {}, p4: {}, 결과: {}", 
-                        regionCode, useZoneCategory, p1Count, p2Count, p3Count, p4Count, categoryCount);
-                
-                if (categoryCount > 0) {
-                    totalCountForRegion += categoryCount;
+                for (int[] corner : corners) {
+                    keyPrefixes.add(regionCode);
+                    useZoneCategories.add(useZoneCategory);
+                    areaBuckets.add(corner[0]);
+                    priceBuckets.add(corner[1]);
+                    signs.add(corner[2]);
                 }
             }
-            
-            regionCountMap.put(regionCode, totalCountForRegion);
         }
 
-        return regionCountMap.entrySet().stream()
-                .map(entry -> new LandCountQueryResult(entry.getKey(), entry.getValue()))
-                .toList();
+        // 카테고리별 결과가 음수/0이면 0으로 보고 지역별로 합산
+        String sql = """
+                SELECT t.key_prefix, SUM(GREATEST(t.category_count, 0)) as land_count
+                FROM (
+                    SELECT c.key_prefix, c.use_zone_category,
+                           SUM(c.sign * COALESCE(ps.cumulative_count, 0)) as category_count
+                    FROM unnest(?::text[], ?::text[], ?::int[], ?::int[], ?::int[])
+                         AS c(key_prefix, use_zone_category, area_bucket, price_bucket, sign)
+                    LEFT JOIN land_statistics_prefix_sum ps
+                           ON ps.key_prefix = c.key_prefix
+                          AND ps.use_zone_category = c.use_zone_category
+                          AND ps.area_bucket = c.area_bucket
+                          AND ps.price_bucket = c.price_bucket
+                    GROUP BY c.key_prefix, c.use_zone_category
+                ) t
+                GROUP BY t.key_prefix
+                """;
+
+        List<LandCountQueryResult> results = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            ps.setArray(1, connection.createArrayOf("text", keyPrefixes.toArray()));
+            ps.setArray(2, connection.createArrayOf("text", useZoneCategories.toArray()));
+            ps.setArray(3, connection.createArrayOf("int4", areaBuckets.toArray()));
+            ps.setArray(4, connection.createArrayOf("int4", priceBuckets.toArray()));
+            ps.setArray(5, connection.createArrayOf("int4", signs.toArray()));
+            return ps;
+        }, (rs, rowNum) -> new LandCountQueryResult(
+                rs.getString("key_prefix"),
+                rs.getLong("land_count")));
+
+        log.debug("prefix sum 지역별 토지 수 조회 - 지역: {}, 조회 조합: {}, 결과: {}",
+                query.fullCodePrefixes().size(), keyPrefixes.size(), results);
+
+        return results;
     }
 
     private List<LandCountQueryResult> countLandsByRegionsLegacy(CountLandQuery query) {
@@ -264,7 +331,7 @@ public class LandDao {
     public Optional<Land> findById(Long id) {
         String sql = """
                 SELECT l.*,
-                ST_AsText(lg.boundary) as boundary_wkt,
+                ST_AsBinary(lg.boundary) as boundary_wkb,
                 ST_X(lg.center_point) as center_lng,
                 ST_Y(lg.center_point) as center_lat
                 FROM land l
@@ -278,13 +345,10 @@ public class LandDao {
     /**
      * 토지 폴리곤 데이터 조회 (멀티폴리곤 지원)
      */
-    public List<List<Point>> findPolygonByUniqueNumber(String id) {
-        String sql = "SELECT ST_AsText(ST_Transform(boundary, 4326)) as boundary_wkt FROM land WHERE unique_no = ?";
-        List<List<Point>> results = jdbcTemplate.queryForObject(sql, (rs, rowNum) -> {
-            String wkt = rs.getString("boundary_wkt");
-            return GisUtils.parsePolygonToMultiPointList(wkt);
-        }, id);
-        return results;
+    public PackedGeometry findPolygonByUniqueNumber(String id) {
+        String sql = "SELECT ST_AsBinary(ST_Transform(boundary, 4326)) as boundary_wkb FROM land WHERE unique_no = ?";
+        return jdbcTemplate.queryForObject(sql,
+                (rs, rowNum) -> GisUtils.parsePolygonToPackedGeometry(rs.getBytes("boundary_wkb")), id);
     }
 
     /**
@@ -358,61 +422,43 @@ public class LandDao {
     }
     
     /**
-     * fullCode와 범위 조건으로 토지 목록 조회 (전체 데이터를 2000건씩 페이지네이션)
+     * fullCode와 범위 조건으로 토지 한 페이지 조회 (id 기준 keyset 페이지네이션, afterId 초과 id 순)
      */
-    public List<Land> findLandsByFullCode(FullCodeLandSearchQuery query) {
-        int fullCodeLength = query.fullCode().length();
-        String leftQuery = "LEFT(full_code, " + fullCodeLength + ") = ? ";
-        
-        List<Land> allResults = new ArrayList<>();
-        Long lastId = 0L;
-        int batchSize = 2000;
-        
-        while (true) {
-            StringBuilder sql = new StringBuilder();
-            sql.append("SELECT * ")
-               .append("FROM land WHERE ").append(leftQuery)
-               .append(" AND id > ? ");
+    public List<Land> findLandPageByFullCode(FullCodeLandSearchQuery query, long afterId, int limit) {
+        StringBuilder sql = new StringBuilder();
+        sql.append("SELECT * ")
+           .append("FROM land WHERE LEFT(full_code, ").append(query.fullCode().length()).append(") = ? ")
+           .append(" AND id > ? ");
 
-            List<Object> params = new ArrayList<>();
-            params.add(query.fullCode());
-            params.add(lastId);
+        List<Object> params = new ArrayList<>();
+        params.add(query.fullCode());
+        params.add(afterId);
 
-            SqlConditionUtils.eq(sql, params, "use_zone_category", query.useZoneCategories());
+        appendFullCodeConditions(sql, params, query);
 
-            // 토지 면적 필터
-            SqlConditionUtils.between(sql, params,
-                    "land_area",
-                    BigDecimal.valueOf(query.landAreaMin()),
-                    BigDecimal.valueOf(query.landAreaMax()));
+        sql.append(" ORDER BY id LIMIT ?");
+        params.add(limit);
 
-            // 공시지가 필터
-            SqlConditionUtils.between(sql, params,
-                    "official_land_price",
-                    BigDecimal.valueOf(query.officialLandPriceMin()),
-                    BigDecimal.valueOf(query.officialLandPriceMax()));
+        return jdbcTemplate.query(sql.toString(), new LandRowMapper(), params.toArray());
+    }
 
-            // 제외할 토지 이용 코드 필터링
-            sql.append(" AND land_use_code NOT IN (910, 920, 930, 940, 950, 960, 970, 990, 850, 860, 870, 880, 881, 890, 891, 892, 893)");
-            
-            sql.append(" ORDER BY id LIMIT ?");
-            params.add(batchSize);
+    private void appendFullCodeConditions(StringBuilder sql, List<Object> params, FullCodeLandSearchQuery query) {
+        SqlConditionUtils.eq(sql, params, "use_zone_category", query.useZoneCategories());
 
-            List<Land> batchResults = jdbcTemplate.query(sql.toString(), new LandRowMapper(), params.toArray());
-            
-            if (batchResults.isEmpty()) {
-                break;
-            }
-            
-            allResults.addAll(batchResults);
-            lastId = batchResults.get(batchResults.size() - 1).getId();
-            
-            if (batchResults.size() < batchSize) {
-                break;
-            }
-        }
-        
-        return allResults;
+        // 토지 면적 필터
+        SqlConditionUtils.between(sql, params,
+                "land_area",
+                BigDecimal.valueOf(query.landAreaMin()),
+                BigDecimal.valueOf(query.landAreaMax()));
+
+        // 공시지가 필터
+        SqlConditionUtils.between(sql, params,
+                "official_land_price",
+                BigDecimal.valueOf(query.officialLandPriceMin()),
+                BigDecimal.valueOf(query.officialLandPriceMax()));
+
+        // 제외할 토지 이용 코드 필터링
+        sql.append(" AND land_use_code NOT IN (910, 920, 930, 940, 950, 960, 970, 990, 850, 860, 870, 880, 881, 890, 891, 892, 893)");
     }
 
     /**
@@ -426,7 +472,7 @@ public class LandDao {
         StringBuilder sql = new StringBuilder();
         sql.append("""
                 SELECT l.*,
-                ST_AsText(lg.boundary) as boundary_wkt,
+                ST_AsBinary(lg.boundary) as boundary_wkb,
                 ST_X(lg.center_point) as center_lng,
                 ST_Y(lg.center_point) as center_lat
                 FROM land l
@@ -449,7 +495,7 @@ public class LandDao {
     public Optional<Land> findByAddress(String address) {
         String sql = """
                 SELECT l.*,
-                ST_AsText(lg.boundary) as boundary_wkt,
+                ST_AsBinary(lg.boundary) as boundary_wkb,
                 ST_X(lg.center_point) as center_lng,
                 ST_Y(lg.center_point) as center_lat
                 FROM land l
@@ -461,6 +507,20 @@ public class LandDao {
     }
 
 
+    /**
+     * 토지 마커 RowMapper (마커용 컬럼만 매핑)
+     */
+    private static class LandMarkerRowMapper implements RowMapper<LandMarkerQueryResult> {
+        @Override
+        public LandMarkerQueryResult mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return new LandMarkerQueryResult(
+                    rs.getLong("id"),
+                    rs.getString("address"),
+                    rs.getDouble("center_lng"),
+                    rs.getDouble("center_lat"));
+        }
+    }
+
     /**
      * Land 엔티티 RowMapper
      */
@@ -506,11 +566,11 @@ public class LandDao {
 
 
             // PostGIS Geometry를 Point 리스트로 파싱
-            String boundaryWkt = ResultSetUtils.getStringSafe(rs, "boundary_wkt").orElse(null);
-            if (boundaryWkt != null && !boundaryWkt.trim().isEmpty()) {
-                land.setBoundary(GisUtils.parsePolygonToPointList(boundaryWkt));
+            byte[] boundaryWkb = ResultSetUtils.getBytesSafe(rs, "boundary_wkb").orElse(null);
+            if (boundaryWkb != null && boundaryWkb.length > 0) {
+                land.setBoundary(GisUtils.parsePolygonToPackedGeometry(boundaryWkb));
             } else {
-                land.setBoundary(new ArrayList<>());
+                land.setBoundary(PackedGeometry.EMPTY);
             }
 
             // 중심점 설정 (미리 계산된 center_point 사용)
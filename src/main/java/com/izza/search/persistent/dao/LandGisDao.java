@@ -1,19 +1,24 @@
 package com.izza.search.persistent.dao;
 
 import com.izza.search.persistent.model.LandGis;
+import com.izza.search.vo.PackedGeometry;
 import com.izza.search.vo.Point;
 import com.izza.utils.GisUtils;
 import com.izza.utils.ResultSetUtils;
 import lombok.RequiredArgsConstructor;
+import org.locationtech.jts.geom.Geometry;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 /**
  * 토지 GIS 정보 DAO
@@ -31,7 +36,7 @@ public class LandGisDao {
     public Optional<LandGis> findByLandId(Long landId) {
         String sql = """
                 SELECT land_id,
-                       ST_AsText(boundary) as boundary_wkt,
+                       ST_AsBinary(boundary) as boundary_wkb,
                        ST_X(center_point) as center_lng,
                        ST_Y(center_point) as center_lat,
                        created_at, updated_at
@@ -54,7 +59,7 @@ public class LandGisDao {
         String placeholders = String.join(",", landIds.stream().map(id -> "?").toList());
         String sql = """
                 SELECT land_id,
-                       ST_AsText(boundary) as boundary_wkt,
+                       ST_AsBinary(boundary) as boundary_wkb,
                        ST_X(center_point) as center_lng,
                        ST_Y(center_point) as center_lat,
                        created_at, updated_at
@@ -68,13 +73,44 @@ public class LandGisDao {
     /**
      * 토지 폴리곤 데이터 조회 (멀티폴리곤 지원)
      */
-    public List<List<Point>> findPolygonByLandId(Long landId) {
-        String sql = "SELECT ST_AsText(boundary) as boundary_wkt FROM land_gis WHERE land_id = ?";
-        List<List<Point>> results = jdbcTemplate.queryForObject(sql, (rs, rowNum) -> {
-            String wkt = rs.getString("boundary_wkt");
-            return GisUtils.parsePolygonToMultiPointList(wkt);
-        }, landId);
-        return results != null ? results : new ArrayList<>();
+    public PackedGeometry findPolygonByLandId(Long landId) {
+        String sql = "SELECT ST_AsBinary(boundary) as boundary_wkb FROM land_gis WHERE land_id = ?";
+        PackedGeometry result = jdbcTemplate.queryForObject(sql,
+                (rs, rowNum) -> GisUtils.parsePolygonToPackedGeometry(rs.getBytes("boundary_wkb")), landId);
+        return result != null ? result : PackedGeometry.EMPTY;
+    }
+
+    /**
+     * 토지 경계 geometry 조회 (인코딩 등 가공용)
+     */
+    public Optional<Geometry> findBoundaryByLandId(Long landId) {
+        String sql = "SELECT ST_AsBinary(boundary) as boundary_wkb FROM land_gis WHERE land_id = ? AND boundary IS NOT NULL";
+        List<Geometry> results = jdbcTemplate.query(sql,
+                (rs, rowNum) -> GisUtils.readWkb(rs.getBytes("boundary_wkb")), landId);
+        return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
+    }
+
+    /**
+     * 여러 토지의 경계 geometry 일괄 조회 (land_id = ANY(?) 단일 쿼리)
+     * 결과를 모으지 않고 행 단위로 consumer에 전달
+     */
+    public void forEachBoundaryByLandIds(List<Long> landIds, BiConsumer<Long, Geometry> consumer) {
+        if (landIds.isEmpty()) {
+            return;
+        }
+
+        String sql = """
+                SELECT land_id, ST_AsBinary(boundary) as boundary_wkb
+                FROM land_gis
+                WHERE land_id = ANY(?) AND boundary IS NOT NULL
+                """;
+        RowCallbackHandler handler = rs ->
+                consumer.accept(rs.getLong("land_id"), GisUtils.readWkb(rs.getBytes("boundary_wkb")));
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            ps.setArray(1, connection.createArrayOf("bigint", landIds.toArray()));
+            return ps;
+        }, handler);
     }
 
     /**
@@ -103,11 +139,11 @@ public class LandGisDao {
             ResultSetUtils.getLongSafe(rs, "land_id").ifPresent(landGis::setLandId);
             
             // 경계 정보 파싱
-            String boundaryWkt = ResultSetUtils.getStringSafe(rs, "boundary_wkt").orElse(null);
-            if (boundaryWkt != null && !boundaryWkt.trim().isEmpty()) {
-                landGis.setBoundary(GisUtils.parsePolygonToPointList(boundaryWkt));
+            byte[] boundaryWkb = ResultSetUtils.getBytesSafe(rs, "boundary_wkb").orElse(null);
+            if (boundaryWkb != null && boundaryWkb.length > 0) {
+                landGis.setBoundary(GisUtils.parsePolygonToPackedGeometry(boundaryWkb));
             } else {
-                landGis.setBoundary(new ArrayList<>());
+                landGis.setBoundary(PackedGeometry.EMPTY);
             }
             
             // 중심점 설정
@@ -2,9 +2,11 @@ package com.izza.search.persistent.dao;
 
 import com.izza.search.persistent.model.LandStatistics;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
@@ -13,6 +15,8 @@ import java.util.Optional;
 @Repository
 public class LandStatisticsDao {
 
+    private static final int STREAMING_FETCH_SIZE = 10000;
+
     private final JdbcTemplate jdbcTemplate;
 
     public LandStatisticsDao(JdbcTemplate jdbcTemplate) {
@@ -51,6 +55,24 @@ public class LandStatisticsDao {
         jdbcTemplate.update(sql, statType);
     }
 
+    /**
+     * 카운트 큐브 적재용 prefix sum 전체 조회 (key_prefix, use_zone_category 순 정렬)
+     * 커서(fetch size) 단위로 읽어 handler에 전달 (트랜잭션 내에서 호출 필요)
+     */
+    public void forEachPrefixSum(RowCallbackHandler handler) {
+        String sql = """
+                SELECT key_prefix, use_zone_category, area_bucket, price_bucket, cumulative_count
+                FROM land_statistics_prefix_sum
+                ORDER BY key_prefix, use_zone_category
+                """;
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAMING_FETCH_SIZE);
+            return ps;
+        }, handler);
+    }
+
     private static class LandStatisticsRowMapper implements RowMapper<LandStatistics> {
         @Override
         public LandStatistics mapRow(ResultSet rs, int rowNum) throws SQLException {
@@ -9,10 +9,32 @@ import org.springframework.stereotype.Repository;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public class PopulationDao {
 
+    // 시군구 집계 조회 컬럼 (PopulationRowMapper의 집계 컬럼명에 맞춤)
+    private static final String ROLLUP_SELECT = """
+            SELECT sig_code as full_code,
+                   기준연월,
+                   시도명,
+                   시군구명,
+                   계 as grand_total,
+                   "0~9세" as "0-9_total",
+                   "10~19세" as "10-19_total",
+                   "20~29세" as "20-29_total",
+                   "30~39세" as "30-39_total",
+                   "40~49세" as "40-49_total",
+                   "50~59세" as "50-59_total",
+                   "60~69세" as "60-69_total",
+                   "70~79세" as "70-79_total",
+                   "80세~" as "80+_total",
+                   남자 as male_total,
+                   여자 as female_total
+            FROM population_sig_rollup
+            """;
+
     private final JdbcTemplate jdbcTemplate;
 
     public PopulationDao(JdbcTemplate jdbcTemplate) {
@@ -51,43 +73,85 @@ public class PopulationDao {
     }
 
     /**
-     * 특정 법정동 코드의 상위 지역 인구 집계 조회
+     * 특정 법정동 코드가 속한 시군구의 최신 기준연월 인구 집계 조회 (population_sig_rollup)
      */
     public Population findAggregatedByFullCode(String fullCode) {
-        String sql = """
-                SELECT ? as full_code,
-                       기준연월,
-                       시도명,
-                       시군구명,
-                       null as 읍면동명,
-                       null as 리명,
-                       SUM(계) as grand_total,
-                       SUM("0~9세") as "0-9_total",
-                       SUM("10~19세") as "10-19_total",
-                       SUM("20~29세") as "20-29_total",
-                       SUM("30~39세") as "30-39_total",
-                       SUM("40~49세") as "40-49_total",
-                       SUM("50~59세") as "50-59_total",
-                       SUM("60~69세") as "60-69_total",
-                       SUM("70~79세") as "70-79_total",
-                       SUM("80세~") as "80+_total",
-                       SUM("남자") as "male_total",
-                       SUM("여자") as "female_total"
-                FROM public.population_simple
-                WHERE full_code LIKE ?
-                GROUP BY 시도명, 시군구명, 기준연월
+        String sql = ROLLUP_SELECT + """
+                WHERE sig_code = ?
+                ORDER BY 기준연월 DESC
+                LIMIT 1
                 """;
 
-        // Extract prefix from full_code (first 5 characters)
-        String codePrefix = fullCode.length() >= 5 ? fullCode.substring(0, 5) : fullCode;
-        String likePattern = codePrefix + "%";
-
-        List<Population> results = jdbcTemplate.query(sql, new PopulationRowMapper(),
-                fullCode, likePattern);
+        List<Population> results = jdbcTemplate.query(sql, new PopulationRowMapper(), toSigCode(fullCode));
 
         return results.isEmpty() ? null : results.get(0);
     }
 
+    /**
+     * 특정 법정동 코드가 속한 시군구의 기준연월별 인구 집계 조회 (오래된 순)
+     */
+    public List<Population> findAggregatedTrendByFullCode(String fullCode) {
+        String sql = ROLLUP_SELECT + """
+                WHERE sig_code = ?
+                ORDER BY 기준연월
+                """;
+
+        return jdbcTemplate.query(sql, new PopulationRowMapper(), toSigCode(fullCode));
+    }
+
+    /**
+     * 시군구 인구 집계에 반영된 POPULATION 데이터 버전 조회 (집계가 비어 있으면 empty)
+     */
+    public Optional<Long> findRollupVersion() {
+        String sql = "SELECT MAX(source_version) FROM population_sig_rollup";
+        return Optional.ofNullable(jdbcTemplate.queryForObject(sql, Long.class));
+    }
+
+    /**
+     * 읍면동 단위 인구를 시군구/기준연월별로 합산하여 population_sig_rollup을 다시 채움 (트랜잭션 내에서 호출 필요)
+     * 다른 인스턴스의 동시 갱신은 테이블 잠금으로 순서를 맞추고, 이미 같은 버전으로 채워져 있으면 건너뜀
+     * 조회는 잠금과 무관하게 커밋 전까지 이전 집계를 읽음
+     *
+     * @return 다시 채운 행 수 (건너뛴 경우 -1)
+     */
+    public int refreshRollup(long version) {
+        jdbcTemplate.execute("LOCK TABLE population_sig_rollup IN EXCLUSIVE MODE");
+        if (findRollupVersion().filter(applied -> applied == version).isPresent()) {
+            return -1;
+        }
+
+        jdbcTemplate.update("DELETE FROM population_sig_rollup");
+        String sql = """
+                INSERT INTO population_sig_rollup (sig_code, 기준연월, 시도명, 시군구명, 계,
+                                                   "0~9세", "10~19세", "20~29세", "30~39세", "40~49세",
+                                                   "50~59세", "60~69세", "70~79세", "80세~", 남자, 여자, source_version)
+                SELECT LEFT(full_code, 5),
+                       기준연월,
+                       MIN(시도명),
+                       MIN(시군구명),
+                       SUM(계),
+                       SUM("0~9세"),
+                       SUM("10~19세"),
+                       SUM("20~29세"),
+                       SUM("30~39세"),
+                       SUM("40~49세"),
+                       SUM("50~59세"),
+                       SUM("60~69세"),
+                       SUM("70~79세"),
+                       SUM("80세~"),
+                       SUM(남자),
+                       SUM(여자),
+                       ?
+                FROM population_simple
+                GROUP BY LEFT(full_code, 5), 기준연월
+                """;
+        return jdbcTemplate.update(sql, version);
+    }
+
+    private static String toSigCode(String fullCode) {
+        return fullCode.length() >= 5 ? fullCode.substring(0, 5) : fullCode;
+    }
+
     /**
      * 인구 정보 RowMapper
      */
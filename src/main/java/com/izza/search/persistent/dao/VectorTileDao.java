@@ -0,0 +1,60 @@
+package com.izza.search.persistent.dao;
+
+import com.izza.search.vo.TileKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 벡터 타일(Mapbox Vector Tile) DAO
+ * PostGIS ST_AsMVT로 타일 범위에 맞게 잘라내고 양자화한 레이어를 바로 인코딩하여 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class VectorTileDao {
+
+    private static final int EXTENT = 4096;
+    private static final int BUFFER = 64;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 행정구역 경계 레이어 (beopjeong_dong)
+     */
+    public byte[] findRegionLayer(TileKey tile, String dongType) {
+        String sql = """
+                WITH bounds AS (SELECT ST_TileEnvelope(?, ?, ?) AS geom)
+                SELECT COALESCE(ST_AsMVT(mvt, 'beopjeong_dong', ?, 'geom'), ''::bytea)
+                FROM (
+                    SELECT bd.full_code,
+                           bd.beopjung_dong_name as name,
+                           ST_AsMVTGeom(ST_Transform(bd.boundary, 3857), bounds.geom, ?, ?, true) as geom
+                    FROM beopjeong_dong bd, bounds
+                    WHERE bd.dong_type = ?
+                    AND bd.boundary && ST_Transform(bounds.geom, 4326)
+                ) mvt
+                """;
+
+        return jdbcTemplate.queryForObject(sql, byte[].class,
+                tile.z(), tile.x(), tile.y(), EXTENT, EXTENT, BUFFER, dongType);
+    }
+
+    /**
+     * 토지 경계 레이어 (land_gis, feature id = 토지 ID)
+     */
+    public byte[] findLandLayer(TileKey tile) {
+        String sql = """
+                WITH bounds AS (SELECT ST_TileEnvelope(?, ?, ?) AS geom)
+                SELECT COALESCE(ST_AsMVT(mvt, 'land', ?, 'geom', 'land_id'), ''::bytea)
+                FROM (
+                    SELECT lg.land_id,
+                           ST_AsMVTGeom(ST_Transform(lg.boundary, 3857), bounds.geom, ?, ?, true) as geom
+                    FROM land_gis lg, bounds
+                    WHERE lg.boundary && ST_Transform(bounds.geom, 4326)
+                ) mvt
+                """;
+
+        return jdbcTemplate.queryForObject(sql, byte[].class,
+                tile.z(), tile.x(), tile.y(), EXTENT, EXTENT, BUFFER);
+    }
+}
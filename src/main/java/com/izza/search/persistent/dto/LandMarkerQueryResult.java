@@ -0,0 +1,12 @@
+package com.izza.search.persistent.dto;
+
+/**
+ * 토지 마커 조회 결과 DTO (마커 표시에 필요한 값만 포함)
+ */
+public record LandMarkerQueryResult(
+        long id,
+        String address,
+        double centerLng,
+        double centerLat
+) {
+}
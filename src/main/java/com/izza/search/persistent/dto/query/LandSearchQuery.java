@@ -28,6 +28,13 @@ public record LandSearchQuery(
                northEastLat != null && northEastLng != null;
     }
     
+    /**
+     * 북동쪽 좌표가 남서쪽 좌표보다 작아 영역에 포함되는 토지가 없는지 확인
+     */
+    public boolean hasInvertedMapBounds() {
+        return hasMapBounds() && (northEastLng < southWestLng || northEastLat < southWestLat);
+    }
+    
     /**
      * 토지 면적 필터가 설정되어 있는지 확인
      */
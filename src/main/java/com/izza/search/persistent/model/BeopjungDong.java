@@ -1,13 +1,12 @@
 package com.izza.search.persistent.model;
 
+import com.izza.search.vo.PackedGeometry;
 import com.izza.search.vo.Point;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.util.List;
-
 /**
  * 행정구역 폴리곤 DTO
  */
@@ -19,6 +18,8 @@ public class BeopjungDong {
 
     private String fullCode;
 
+    private String parentCode;
+
     private String koreanName;
 
     private String englishName;
@@ -30,7 +31,7 @@ public class BeopjungDong {
     private String emdName;
     private String riName;
 
-    private List<Point> boundary;
+    private PackedGeometry boundary;
 
     private Point centerPoint;
 
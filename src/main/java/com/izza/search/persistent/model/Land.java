@@ -2,6 +2,7 @@ package com.izza.search.persistent.model;
 
 import com.izza.search.vo.LandCategoryCode;
 import com.izza.search.vo.UseDistrictCode;
+import com.izza.search.vo.PackedGeometry;
 import com.izza.search.vo.Point;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -9,7 +10,6 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.List;
 
 /**
  * 토지대장 DTO
@@ -66,8 +66,8 @@ public class Land {
     // 데이터 기준일자
     private LocalDateTime dataStandardDate;
     
-    // 경계 정보 (PostGIS Geometry를 PointDto 리스트로 처리)
-    private List<Point> boundary;
+    // 경계 정보 (PostGIS Geometry를 좌표 배열(PackedGeometry)로 처리)
+    private PackedGeometry boundary;
     
     // 토지 중심점
     private Point centerPoint;
@@ -1,24 +1,42 @@
 package com.izza.search.presentation;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.izza.search.domain.PolygonEncoding;
 import com.izza.search.service.MapSearchService;
+import com.izza.search.service.cache.RegionBoundaryStore;
 import com.izza.search.presentation.dto.response.AreaDetailResponse;
 import com.izza.search.presentation.dto.response.BaseApiResponse;
 import com.izza.search.presentation.dto.response.LandDetailResponse;
 import com.izza.search.presentation.dto.response.LandGroupSearchResponse;
+import com.izza.search.presentation.dto.response.LandMarkerDiffResponse;
 import com.izza.search.presentation.dto.request.LandSearchFilterRequest;
 import com.izza.search.presentation.dto.request.MapSearchRequest;
+import com.izza.search.presentation.dto.request.PolygonBatchRequest;
+import com.izza.search.presentation.dto.request.PreviousMapSearchRequest;
 import com.izza.search.presentation.dto.response.PolygonDataResponse;
+import com.izza.search.presentation.dto.response.PopulationTrendResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("${app.base-path}/api/v1/land-search")
@@ -26,6 +44,7 @@ import java.util.List;
 @Tag(name = "토지 검색")
 public class MapSearchController {
     private final MapSearchService mapSearchService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/points")
     @Operation(summary = "지도상 행정구역 정보 검색 (마커)",
@@ -40,18 +59,128 @@ public class MapSearchController {
         return BaseApiResponse.ok(mapSearchService.getAllLandGroupMarkers(mapSearchRequest, landSearchFilterRequest));
     }
 
+    @GetMapping(value = "/points/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "지도상 마커 스트리밍 조회",
+            description = """
+                    /points와 같은 형식의 응답을 조회 결과를 모으지 않고 바로 스트리밍합니다. \n
+                    LAND 줌 레벨에서는 클러스터링 없이 화면 범위의 모든 토지 마커를 반환합니다.
+                    """)
+    public ResponseEntity<StreamingResponseBody> streamLandGroupMarkers(
+            @ModelAttribute MapSearchRequest mapSearchRequest,
+            @ModelAttribute LandSearchFilterRequest landSearchFilterRequest
+    ) {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                // BaseApiResponse와 같은 형태로 기록
+                generator.writeStartObject();
+                generator.writeBooleanField("success", true);
+                generator.writeArrayFieldStart("data");
+                mapSearchService.forEachLandMarker(mapSearchRequest, landSearchFilterRequest,
+                        marker -> writeItem(generator, marker));
+                generator.writeEndArray();
+                generator.writeNullField("message");
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private void writeItem(JsonGenerator generator, Object item) {
+        try {
+            generator.writeObject(item);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @GetMapping("/points/diff")
+    @Operation(summary = "지도 이동 시 마커 변경분 조회",
+            description = """
+                    이전 지도 화면 범위(previous*) 대비 새로 나타난 마커와 사라진 마커만 조회합니다. \n
+                    이전 범위가 없거나 줌 레벨 구간이 바뀌면 full=true와 함께 전체 마커를 반환합니다.
+                    """)
+    public BaseApiResponse<LandMarkerDiffResponse> getLandGroupMarkerDiff(
+            @ModelAttribute MapSearchRequest mapSearchRequest,
+            @ModelAttribute PreviousMapSearchRequest previousMapSearchRequest,
+            @ModelAttribute LandSearchFilterRequest landSearchFilterRequest
+    ) {
+        return BaseApiResponse.ok(mapSearchService.getLandGroupMarkerDiff(
+                mapSearchRequest, previousMapSearchRequest, landSearchFilterRequest));
+    }
+
     @GetMapping("/polygon/{id}")
     @Operation(summary = "특정 행정구역, 토지 폴리곤 데이터 조회",
         description = """
                 특정 행정구역 또는 토지의 폴리곤 데이터를 조회합니다. \n
-                행정구역은 법정동 코드로, 토지는 토지번호로 조회합니다.
+                행정구역은 법정동 코드로, 토지는 토지번호로 조회합니다. \n
+                zoomLevel을 지정하면 행정구역 경계를 해당 줌 레벨에 맞게 단순화하여 반환합니다. \n
+                encoding=polyline|flat 이면 좌표를 encoded polyline 문자열(정밀도 1e-6) 또는 [lng, lat, ...] 배열로 반환합니다. \n
+                zoomLevel을 지정한 시도/시군구/읍면동 조회는 시작 시 미리 직렬화해 둔 응답을 DB 조회 없이 반환합니다.
                 """)
-    public BaseApiResponse<PolygonDataResponse> getLandPolygon(
+    public ResponseEntity<?> getLandPolygon(
             // polygonType: group (행정구역) || land (토지)
             @RequestParam("polygonType") String polygonType,
-            @PathVariable("id") String id
+            @PathVariable("id") String id,
+            // 행정구역 경계 단순화 기준 줌 레벨 (없으면 원본)
+            @RequestParam(value = "zoomLevel", required = false) Integer zoomLevel,
+            // 좌표 인코딩: points (기본) || polyline || flat
+            @RequestParam(value = "encoding", required = false) String encoding,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
-        return BaseApiResponse.ok(mapSearchService.getPolygonDataById(polygonType, id));
+        PolygonEncoding polygonEncoding = PolygonEncoding.from(encoding);
+
+        // 시작 시 적재된 행정구역 경계는 직렬화된 바이트를 그대로 반환
+        Optional<RegionBoundaryStore.StoredBoundary> stored =
+                mapSearchService.findStoredPolygon(polygonType, id, zoomLevel, polygonEncoding);
+        if (stored.isPresent()) {
+            return storedPolygonResponse(stored.get(), acceptEncoding);
+        }
+
+        if (polygonEncoding == PolygonEncoding.POINTS) {
+            return ResponseEntity.ok(BaseApiResponse.ok(mapSearchService.getPolygonDataById(polygonType, id, zoomLevel)));
+        }
+        return ResponseEntity.ok(BaseApiResponse.ok(
+                mapSearchService.getEncodedPolygonDataById(polygonType, id, zoomLevel, polygonEncoding)));
+    }
+
+    private ResponseEntity<byte[]> storedPolygonResponse(RegionBoundaryStore.StoredBoundary stored, String acceptEncoding) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (stored.gzipped() && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(stored.bytes());
+        }
+        return response.body(stored.json());
+    }
+
+    @PostMapping(value = "/polygons", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "행정구역, 토지 폴리곤 일괄 조회",
+        description = """
+                여러 토지(landIds)와 행정구역(regionCodes)의 폴리곤을 한 번에 조회하여 스트리밍합니다. \n
+                zoomLevel, encoding은 /polygon/{id}와 같으며, 경계가 없는 항목은 응답에서 제외됩니다. \n
+                한 번에 최대 1000개까지 조회할 수 있습니다.
+                """)
+    public ResponseEntity<StreamingResponseBody> streamPolygons(
+            @RequestBody PolygonBatchRequest polygonBatchRequest
+    ) {
+        polygonBatchRequest.validate();
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartObject();
+                generator.writeBooleanField("success", true);
+                generator.writeArrayFieldStart("data");
+                mapSearchService.forEachPolygon(polygonBatchRequest, polygon -> writeItem(generator, polygon));
+                generator.writeEndArray();
+                generator.writeNullField("message");
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     @GetMapping("/land/{landId}")
@@ -70,6 +199,14 @@ public class MapSearchController {
         return BaseApiResponse.ok(mapSearchService.getAreaDetailsByLandId(landId));
     }
 
+    @GetMapping("/area/{landId}/population-trend")
+    @Operation(summary = "특정 토지가 소속된 시군구의 기준연월별 인구 추이 조회")
+    public BaseApiResponse<PopulationTrendResponse> getPopulationTrend(
+            @PathVariable("landId") Long landId
+    ) {
+        return BaseApiResponse.ok(mapSearchService.getPopulationTrendByLandId(landId));
+    }
+
     @GetMapping("/address/{address}")
     @Operation(summary = "주소로 토지 검색")
     public BaseApiResponse<LandDetailResponse> searchByAddress(
@@ -0,0 +1,46 @@
+package com.izza.search.presentation;
+
+import com.izza.search.service.VectorTileService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("${app.base-path}/api/v1/tiles")
+@RequiredArgsConstructor
+@Tag(name = "벡터 타일")
+public class VectorTileController {
+    private static final MediaType MVT_MEDIA_TYPE = MediaType.parseMediaType("application/vnd.mapbox-vector-tile");
+
+    private final VectorTileService vectorTileService;
+
+    @GetMapping("/{z}/{x}/{y}.mvt")
+    @Operation(summary = "토지/행정구역 경계 벡터 타일 조회",
+            description = """
+                    Mapbox Vector Tile 형식으로 타일 범위의 경계 데이터를 조회합니다. \n
+                    beopjeong_dong 레이어는 모든 줌에서, land 레이어는 줌 15 이상에서 포함됩니다.
+                    """)
+    public ResponseEntity<byte[]> getTile(
+            @PathVariable("z") int z,
+            @PathVariable("x") int x,
+            @PathVariable("y") int y
+    ) {
+        byte[] tile = vectorTileService.getTile(z, x, y);
+        if (tile.length == 0) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MVT_MEDIA_TYPE)
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(10)))
+                .body(tile);
+    }
+}
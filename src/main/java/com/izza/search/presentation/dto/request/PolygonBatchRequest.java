@@ -0,0 +1,44 @@
+package com.izza.search.presentation.dto.request;
+
+import com.izza.exception.BusinessException;
+import com.izza.search.domain.PolygonEncoding;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+@Schema(description = "폴리곤 일괄 조회 요청")
+public record PolygonBatchRequest(
+        @Schema(description = "토지 ID 목록", example = "[1, 2, 3]")
+        List<Long> landIds,
+
+        @Schema(description = "행정구역 법정동 코드 목록", example = "[\"11680\", \"11650\"]")
+        List<String> regionCodes,
+
+        @Schema(description = "행정구역 경계 단순화 기준 줌 레벨 (없으면 원본)", example = "12")
+        Integer zoomLevel,
+
+        @Schema(description = "좌표 인코딩 (points, polyline, flat / 없으면 points)", example = "polyline")
+        String encoding
+) {
+
+    public static final int MAX_SIZE = 1000;
+
+    public List<Long> landIdsOrEmpty() {
+        return landIds != null ? landIds.stream().distinct().toList() : List.of();
+    }
+
+    public List<String> regionCodesOrEmpty() {
+        return regionCodes != null ? regionCodes.stream().distinct().toList() : List.of();
+    }
+
+    /**
+     * 스트리밍 시작 전에 요청 오류를 확인 (응답 헤더가 나간 뒤에는 오류 응답을 보낼 수 없음)
+     */
+    public void validate() {
+        PolygonEncoding.from(encoding);
+        if (landIdsOrEmpty().size() + regionCodesOrEmpty().size() > MAX_SIZE) {
+            throw new BusinessException("한 번에 조회할 수 있는 폴리곤은 최대 " + MAX_SIZE + "개입니다.", HttpStatus.BAD_REQUEST);
+        }
+    }
+}
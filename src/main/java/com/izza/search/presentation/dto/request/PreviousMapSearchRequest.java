@@ -0,0 +1,33 @@
+package com.izza.search.presentation.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "이전 지도 영역 (마커 변경분 조회용)")
+public record PreviousMapSearchRequest(
+        @Schema(description = "이전 남서쪽 위도", example = "37.4879")
+        Double previousSouthWestLat,
+
+        @Schema(description = "이전 남서쪽 경도", example = "127.0176")
+        Double previousSouthWestLng,
+
+        @Schema(description = "이전 북동쪽 위도", example = "37.5565")
+        Double previousNorthEastLat,
+
+        @Schema(description = "이전 북동쪽 경도", example = "127.0689")
+        Double previousNorthEastLng,
+
+        @Schema(description = "이전 지도 줌 레벨", example = "14")
+        Integer previousZoomLevel
+) {
+
+    public boolean isComplete() {
+        return previousSouthWestLat != null && previousSouthWestLng != null
+                && previousNorthEastLat != null && previousNorthEastLng != null
+                && previousZoomLevel != null;
+    }
+
+    public MapSearchRequest toMapSearchRequest() {
+        return new MapSearchRequest(
+                previousSouthWestLat, previousSouthWestLng, previousNorthEastLat, previousNorthEastLng, previousZoomLevel);
+    }
+}
@@ -0,0 +1,14 @@
+package com.izza.search.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "인코딩된 폴리곤 데이터 응답")
+public record EncodedPolygonDataResponse(
+        @Schema(description = "좌표 인코딩 (POLYLINE: encoded polyline 문자열, 정밀도 1e-6 / FLAT: [lng, lat, ...] 배열)",
+                example = "POLYLINE")
+        String encoding,
+
+        @Schema(description = "폴리곤(외곽선)별 인코딩된 좌표")
+        Object polygon
+) {
+}
@@ -2,10 +2,11 @@ package com.izza.search.presentation.dto.response;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.List;
 
+import com.izza.search.vo.PackedGeometry;
 import com.izza.search.vo.Point;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "토지 상세 정보 응답")
@@ -92,9 +93,10 @@ public record LandDetailResponse(
         @Schema(description = "데이터 기준일자", example = "2025-01-20 20:48:59.938")
         LocalDateTime dataStandardDate,
     
-        // 경계 정보 (PostGIS Geometry를 PointDto 리스트로 처리)
-        @Schema(description = "경계 정보")
-        List<Point> boundary,
+        // 경계 정보 (모든 외곽선 좌표를 이어 붙인 [{lng, lat}, ...] 형태로 기록)
+        @Schema(description = "경계 정보", type = "array", implementation = Point.class)
+        @JsonSerialize(using = PackedGeometry.PointListSerializer.class)
+        PackedGeometry boundary,
     
         // 토지 중심점
         @Schema(description = "토지 중심점")
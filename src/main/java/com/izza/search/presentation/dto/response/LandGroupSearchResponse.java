@@ -17,7 +17,7 @@ public record LandGroupSearchResponse(
         @Schema(description = "그룹 중심 좌표")
         Point point,
 
-        @Schema(description = "마커 타입", example = "GROUP, LAND")
+        @Schema(description = "마커 타입 (CLUSTER: 토지 밀집 구역의 클러스터, count에 토지 수 포함)", example = "GROUP, LAND, CLUSTER")
         String type
 ) {
 }
@@ -0,0 +1,18 @@
+package com.izza.search.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "이전 지도 영역 대비 마커 변경분 응답")
+public record LandMarkerDiffResponse(
+        @Schema(description = "전체 응답 여부 (true면 기존 마커를 모두 지우고 added로 교체)", example = "false")
+        boolean full,
+
+        @Schema(description = "새로 추가된 마커 (개수 등 내용이 바뀐 마커 포함)")
+        List<LandGroupSearchResponse> added,
+
+        @Schema(description = "제거할 마커 ID (내용이 바뀐 마커는 제거 후 added로 다시 추가)")
+        List<String> removedIds
+) {
+}
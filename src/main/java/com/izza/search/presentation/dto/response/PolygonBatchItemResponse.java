@@ -0,0 +1,16 @@
+package com.izza.search.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "폴리곤 일괄 조회 항목")
+public record PolygonBatchItemResponse(
+        @Schema(description = "폴리곤 타입 (GROUP: 행정구역, LAND: 토지)", example = "LAND")
+        String polygonType,
+
+        @Schema(description = "법정동 코드 또는 토지 ID", example = "12345")
+        String id,
+
+        @Schema(description = "폴리곤(외곽선)별 좌표 (요청한 인코딩 형식)")
+        Object polygon
+) {
+}
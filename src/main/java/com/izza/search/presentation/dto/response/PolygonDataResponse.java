@@ -1,11 +1,9 @@
 package com.izza.search.presentation.dto.response;
 
-import com.izza.search.vo.Point;
+import com.izza.search.vo.PackedGeometry;
 import io.swagger.v3.oas.annotations.media.Schema;
 
-import java.util.List;
-
 @Schema(description = "폴리곤 데이터 응답")
 public record PolygonDataResponse(
-                @Schema(description = "폴리곤을 구성하는 좌표점들의 리스트") List<List<Point>> polygon) {
-}
\ No newline at end of file
+                @Schema(description = "폴리곤을 구성하는 좌표점들의 리스트") PackedGeometry polygon) {
+}
@@ -0,0 +1,16 @@
+package com.izza.search.presentation.dto.response;
+
+import com.izza.search.vo.PopulationInfo;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "행정구역 인구 추이 응답")
+public record PopulationTrendResponse(
+
+                @Schema(description = "법정동 코드", example = "1100000000")
+                String fullCode,
+
+                @Schema(description = "기준연월별 시군구 인구 정보 (오래된 순)")
+                List<PopulationInfo> trend) {
+}
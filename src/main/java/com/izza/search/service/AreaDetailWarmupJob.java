@@ -0,0 +1,62 @@
+package com.izza.search.service;
+
+import com.izza.search.domain.DataVersionChangedEvent;
+import com.izza.search.persistent.model.BeopjungDong;
+import com.izza.search.service.index.RegionHierarchyIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 행정구역 상세 정보 캐시 예열 작업
+ * 시작 시(최초 데이터 버전 적용)와 관련 데이터가 다시 적재될 때마다 모든 시군구의 상세 정보를 미리 조회해 둠
+ * 데이터 버전 확인 스케줄러를 막지 않도록 가상 스레드에서 시군구를 하나씩 순서대로 조회하며,
+ * 그 사이 새 예열이 시작되면 이전 예열은 중단함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AreaDetailWarmupJob {
+
+    private final MapSearchService mapSearchService;
+    private final RegionHierarchyIndex regionHierarchyIndex;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(condition = "#event.dataSet() == T(com.izza.search.domain.DataSet).BEOPJEONG_DONG"
+            + " || #event.dataSet() == T(com.izza.search.domain.DataSet).ELECTRICITY_COST"
+            + " || #event.dataSet() == T(com.izza.search.domain.DataSet).EMERGENCY_TEXT"
+            + " || #event.dataSet() == T(com.izza.search.domain.DataSet).POPULATION")
+    public void warmUp(DataVersionChangedEvent event) {
+        long current = generation.incrementAndGet();
+        Thread.ofVirtual().name("area-detail-warmup-" + current).start(() -> warmUp(current));
+    }
+
+    private void warmUp(long current) {
+        long startTime = System.currentTimeMillis();
+        List<BeopjungDong> sigs = regionHierarchyIndex.findAllSig();
+
+        int warmed = 0;
+        for (BeopjungDong sig : sigs) {
+            if (generation.get() != current) {
+                log.info("행정구역 상세 정보 예열 중단 (새 예열 시작) - 완료: {}/{}", warmed, sigs.size());
+                return;
+            }
+            try {
+                mapSearchService.getAreaDetailsByFullCode(sig.getFullCode());
+                warmed++;
+            } catch (RuntimeException e) {
+                log.warn("행정구역 상세 정보 예열 실패 - fullCode: {}, 원인: {}", sig.getFullCode(), e.getMessage());
+            }
+        }
+        log.info("행정구역 상세 정보 예열 완료 - 시군구 수: {}/{}, 소요 시간: {}ms",
+                warmed, sigs.size(), System.currentTimeMillis() - startTime);
+    }
+}
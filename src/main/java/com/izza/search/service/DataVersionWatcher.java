@@ -0,0 +1,63 @@
+package com.izza.search.service;
+
+import com.izza.search.domain.DataSet;
+import com.izza.search.domain.DataVersionChangedEvent;
+import com.izza.search.persistent.dao.DataVersionDao;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * data_version 테이블을 주기적으로 확인하여 버전이 바뀐 데이터셋에 대해 이벤트 발행
+ * 최초 실행 시에는 모든 데이터셋에 대해 이벤트를 발행하여 초기 적재를 트리거함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DataVersionWatcher {
+
+    private final DataVersionDao dataVersionDao;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 스케줄러 단일 스레드에서만 접근
+    private final Map<DataSet, Long> appliedVersions = new EnumMap<>(DataSet.class);
+
+    @Scheduled(fixedDelayString = "${app.data-version.poll-interval-ms:60000}")
+    public void checkVersions() {
+        Map<String, Long> versions;
+        try {
+            versions = dataVersionDao.findAllVersions();
+        } catch (DataAccessException e) {
+            if (!appliedVersions.isEmpty()) {
+                log.warn("데이터 버전 조회 실패: {}", e.getMessage());
+                return;
+            }
+            // 버전 테이블이 없는 환경에서도 초기 적재는 수행
+            log.warn("데이터 버전 조회 실패, 기본 버전으로 초기 적재합니다: {}", e.getMessage());
+            versions = Map.of();
+        }
+
+        for (DataSet dataSet : DataSet.values()) {
+            long version = versions.getOrDefault(dataSet.name(), 0L);
+            Long appliedVersion = appliedVersions.get(dataSet);
+            if (appliedVersion != null && appliedVersion == version) {
+                continue;
+            }
+
+            log.info("데이터 버전 변경 감지 - dataSet: {}, version: {} -> {}", dataSet, appliedVersion, version);
+            try {
+                eventPublisher.publishEvent(new DataVersionChangedEvent(dataSet, version));
+                appliedVersions.put(dataSet, version);
+            } catch (RuntimeException e) {
+                // 적용 실패 시 다음 주기에 재시도
+                log.error("데이터 버전 적용 실패 - dataSet: {}, version: {}", dataSet, version, e);
+            }
+        }
+    }
+}
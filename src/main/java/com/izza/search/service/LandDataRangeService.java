@@ -1,7 +1,6 @@
 package com.izza.search.service;
 
 import com.izza.exception.BusinessException;
-import com.izza.search.persistent.dao.BeopjungDongDao;
 import com.izza.search.persistent.dao.ElectricityCostDao;
 import com.izza.search.persistent.dao.LandDao;
 import com.izza.search.persistent.dao.LandStatisticsDao;
@@ -12,6 +11,7 @@ import com.izza.search.persistent.model.ElectricityCost;
 import com.izza.search.persistent.model.LandStatistics;
 import com.izza.search.presentation.dto.LongRangeDto;
 import com.izza.search.presentation.dto.response.RegionResponse;
+import com.izza.search.service.index.RegionHierarchyIndex;
 import com.izza.utils.LongRangeUtils;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
@@ -37,7 +37,7 @@ public class LandDataRangeService {
 
     private final LandStatisticsDao landStatisticsDao;
     private final ElectricityCostDao electricityCostDao;
-    private final BeopjungDongDao beopjungDongDao;
+    private final RegionHierarchyIndex regionHierarchyIndex;
     private final LandDao landDao;
 
 
@@ -122,9 +122,9 @@ public class LandDataRangeService {
     public List<RegionResponse> getRegionsByFullCode(String fullCode) {
         List<BeopjungDong> regions;
         if (StringUtils.isEmpty(fullCode)) {
-            regions = beopjungDongDao.findAllSido();
+            regions = regionHierarchyIndex.findAllSido();
         } else {
-            regions = beopjungDongDao.findByParentCode(fullCode);
+            regions = regionHierarchyIndex.findByParentCode(fullCode);
         }
         return regions.stream()
                 .map(region -> {
@@ -1,13 +1,14 @@
 package com.izza.search.service;
 
 import com.izza.search.domain.BeopjungDongType;
+import com.izza.search.domain.PolygonEncoding;
 import com.izza.search.domain.ZoomLevel;
 import com.izza.search.persistent.dao.LandGisDao;
 import com.izza.search.persistent.model.BeopjungDong;
-import com.izza.search.persistent.dao.BeopjungDongDao;
 import com.izza.search.persistent.model.Land;
 import com.izza.search.persistent.dao.LandDao;
 import com.izza.search.persistent.dto.LandCountQueryResult;
+import com.izza.search.persistent.dto.LandMarkerQueryResult;
 import com.izza.search.persistent.model.ElectricityCost;
 import com.izza.search.persistent.dao.ElectricityCostDao;
 import com.izza.search.persistent.model.EmergencyText;
@@ -23,46 +24,84 @@ import com.izza.search.presentation.dto.response.LandDetailResponse;
 import com.izza.search.presentation.dto.response.LandGroupSearchResponse;
 import com.izza.search.presentation.dto.request.LandSearchFilterRequest;
 import com.izza.search.presentation.dto.request.MapSearchRequest;
+import com.izza.search.presentation.dto.request.PolygonBatchRequest;
+import com.izza.search.presentation.dto.request.PreviousMapSearchRequest;
+import com.izza.search.presentation.dto.response.LandMarkerDiffResponse;
 import com.izza.search.presentation.dto.response.PolygonDataResponse;
+import com.izza.search.presentation.dto.response.PopulationTrendResponse;
+import com.izza.search.presentation.dto.response.EncodedPolygonDataResponse;
+import com.izza.search.presentation.dto.response.PolygonBatchItemResponse;
+import com.izza.search.service.cache.AreaDetailCache;
+import com.izza.search.service.cache.MarkerTileCache;
+import com.izza.search.service.cache.RegionBoundaryStore;
+import com.izza.search.service.cache.RegionPolygonCache;
+import com.izza.search.service.index.LandCountIndex;
+import com.izza.search.service.index.LandPointIndex;
+import com.izza.search.service.index.LandPointSnapshot;
+import com.izza.search.service.index.RegionHierarchyIndex;
 import com.izza.search.vo.ElectricityCostInfo;
 import com.izza.search.vo.EmergencyTextInfo;
 import com.izza.search.vo.Point;
 import com.izza.search.vo.PopulationInfo;
+import com.izza.search.vo.TileKey;
 import com.izza.search.vo.UseZoneCode;
+import com.izza.utils.GisUtils;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Geometry;
 import org.springframework.stereotype.Service;
 import com.izza.exception.BusinessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true, isolation = Isolation.READ_UNCOMMITTED)
 public class MapSearchService {
-    private final BeopjungDongDao beopjungDongDao;
+    // LAND 줌 레벨에서 개별 토지 마커로 응답하는 최대 개수 (초과 시 클러스터 마커로 응답)
+    private static final int MAX_INDIVIDUAL_LAND_MARKERS = 500;
+    // 화면을 덮는 타일이 이보다 많으면 타일 캐시를 거치지 않고 화면 범위로 바로 조회
+    private static final int MAX_CACHED_TILES = 16;
+    // 행정구역 상세 정보 하위 조회 전체 제한 시간
+    private static final Duration AREA_DETAIL_TIMEOUT = Duration.ofSeconds(3);
+
     private final LandDao landDao;
     private final LandGisDao landGisDao;
     private final ElectricityCostDao electricityCostDao;
     private final EmergencyTextDao emergencyTextDao;
     private final PopulationDao populationDao;
+    private final LandPointIndex landPointIndex;
+    private final LandCountIndex landCountIndex;
+    private final RegionHierarchyIndex regionHierarchyIndex;
+    private final MarkerTileCache markerTileCache;
+    private final RegionPolygonCache regionPolygonCache;
+    private final RegionBoundaryStore regionBoundaryStore;
+    private final AreaDetailCache areaDetailCache;
+    private final ExecutorService queryFanOutExecutor;
 
     public List<LandGroupSearchResponse> getAllLandGroupMarkers(
             MapSearchRequest mapSearchRequest, LandSearchFilterRequest landSearchFilterRequest) {
         
-        if (landSearchFilterRequest.useZoneCategories() == null || landSearchFilterRequest.useZoneCategories().isEmpty()) {
-            landSearchFilterRequest = new LandSearchFilterRequest(
-                landSearchFilterRequest.landAreaMin(),
-                landSearchFilterRequest.landAreaMax(),
-                landSearchFilterRequest.officialLandPriceMin(),
-                landSearchFilterRequest.officialLandPriceMax(),
-                List.of("COMMERCIAL", "INDUSTRIAL", "MANAGEMENT")
-            );
-        }
+        landSearchFilterRequest = withDefaultUseZoneCategories(landSearchFilterRequest);
         
         ZoomLevel zoomLevel = ZoomLevel.from(mapSearchRequest.zoomLevel());
         if (zoomLevel.equals(ZoomLevel.LAND)) {
@@ -72,11 +111,53 @@ public class MapSearchService {
         }
     }
 
-    private List<LandGroupSearchResponse> getLandSearchResponses(MapSearchRequest mapSearchRequest,
-            LandSearchFilterRequest landSearchFilterRequest) {
+    /**
+     * 마커를 목록으로 모으지 않고 하나씩 consumer에 전달 (스트리밍 응답용)
+     * LAND 줌 레벨에서는 클러스터링 없이 개별 토지 마커를 모두 전달하며,
+     * 인메모리 인덱스가 없으면 DB 커서에서 읽은 행을 바로 마커로 변환함
+     */
+    public void forEachLandMarker(MapSearchRequest mapSearchRequest, LandSearchFilterRequest landSearchFilterRequest,
+                                  Consumer<LandGroupSearchResponse> consumer) {
+        landSearchFilterRequest = withDefaultUseZoneCategories(landSearchFilterRequest);
 
-        // useZoneCategories를 직접 사용 (더 이상 변환 불필요)
-        LandSearchQuery query = new LandSearchQuery(
+        ZoomLevel zoomLevel = ZoomLevel.from(mapSearchRequest.zoomLevel());
+        if (!zoomLevel.equals(ZoomLevel.LAND)) {
+            getGroupSearchResponses(mapSearchRequest, landSearchFilterRequest).forEach(consumer);
+            return;
+        }
+
+        LandSearchQuery query = toLandSearchQuery(mapSearchRequest, landSearchFilterRequest);
+        if (query.hasInvertedMapBounds()) {
+            return;
+        }
+        Optional<LandPointSnapshot> snapshot = landPointIndex.current();
+        if (snapshot.isPresent() && query.hasMapBounds()) {
+            LandPointSnapshot landPoints = snapshot.get();
+            for (int slot : searchLandSlots(landPoints, query, landSearchFilterRequest)) {
+                consumer.accept(toLandMarker(landPoints, slot));
+            }
+            return;
+        }
+
+        landDao.forEachLandMarker(query, land -> consumer.accept(toLandMarker(land)));
+    }
+
+    private LandSearchFilterRequest withDefaultUseZoneCategories(LandSearchFilterRequest landSearchFilterRequest) {
+        if (landSearchFilterRequest.useZoneCategories() == null || landSearchFilterRequest.useZoneCategories().isEmpty()) {
+            return new LandSearchFilterRequest(
+                landSearchFilterRequest.landAreaMin(),
+                landSearchFilterRequest.landAreaMax(),
+                landSearchFilterRequest.officialLandPriceMin(),
+                landSearchFilterRequest.officialLandPriceMax(),
+                List.of("COMMERCIAL", "INDUSTRIAL", "MANAGEMENT")
+            );
+        }
+        return landSearchFilterRequest;
+    }
+
+    private LandSearchQuery toLandSearchQuery(MapSearchRequest mapSearchRequest,
+                                              LandSearchFilterRequest landSearchFilterRequest) {
+        return new LandSearchQuery(
                 mapSearchRequest.southWestLng(),
                 mapSearchRequest.southWestLat(),
                 mapSearchRequest.northEastLng(),
@@ -86,39 +167,218 @@ public class MapSearchService {
                 landSearchFilterRequest.officialLandPriceMin(),
                 landSearchFilterRequest.officialLandPriceMax(),
                 landSearchFilterRequest.useZoneCategories());
+    }
+
+    /**
+     * 이전 지도 영역 대비 추가/제거된 마커만 조회
+     * 두 영역 모두 같은 타일 캐시와 인메모리 인덱스를 거쳐 계산하므로 겹치는 영역은 캐시된 결과를 재사용함
+     * 이전 영역 정보가 없거나 줌 레벨 구간이 바뀌면 전체 마커를 내려줌
+     */
+    public LandMarkerDiffResponse getLandGroupMarkerDiff(MapSearchRequest mapSearchRequest,
+                                                         PreviousMapSearchRequest previousMapSearchRequest,
+                                                         LandSearchFilterRequest landSearchFilterRequest) {
+        List<LandGroupSearchResponse> markers = getAllLandGroupMarkers(mapSearchRequest, landSearchFilterRequest);
+
+        if (!previousMapSearchRequest.isComplete()
+                || ZoomLevel.from(previousMapSearchRequest.previousZoomLevel()) != ZoomLevel.from(mapSearchRequest.zoomLevel())) {
+            return new LandMarkerDiffResponse(true, markers, List.of());
+        }
 
-        List<Land> lands = landDao.findLands(query);
+        List<LandGroupSearchResponse> previousMarkers = getAllLandGroupMarkers(
+                previousMapSearchRequest.toMapSearchRequest(), landSearchFilterRequest);
 
-        return lands.stream().map(land -> new LandGroupSearchResponse(
-                land.getId().toString(),
-                land.getAddress(),
+        Set<LandGroupSearchResponse> previous = new HashSet<>(previousMarkers);
+        Set<LandGroupSearchResponse> current = new HashSet<>(markers);
+
+        List<LandGroupSearchResponse> added = markers.stream()
+                .filter(marker -> !previous.contains(marker))
+                .toList();
+        List<String> removedIds = previousMarkers.stream()
+                .filter(marker -> !current.contains(marker))
+                .map(LandGroupSearchResponse::id)
+                .toList();
+
+        return new LandMarkerDiffResponse(false, added, removedIds);
+    }
+
+    private List<LandGroupSearchResponse> getLandSearchResponses(MapSearchRequest mapSearchRequest,
+            LandSearchFilterRequest landSearchFilterRequest) {
+
+        // useZoneCategories를 직접 사용 (더 이상 변환 불필요)
+        LandSearchQuery query = toLandSearchQuery(mapSearchRequest, landSearchFilterRequest);
+
+        // 뒤집힌 지도 영역은 인메모리 인덱스와 같이 빈 결과로 처리
+        // (ST_MakeEnvelope는 좌표 순서와 관계없이 사각형을 만들고, 클러스터 격자는 크기가 음수가 됨)
+        if (query.hasInvertedMapBounds()) {
+            return List.of();
+        }
+
+        // 인메모리 인덱스가 적재되어 있으면 DB 조회 없이 처리
+        Optional<LandPointSnapshot> snapshot = landPointIndex.current();
+        if (snapshot.isPresent() && query.hasMapBounds()) {
+            int[] slots = searchLandSlots(snapshot.get(), query, landSearchFilterRequest);
+            if (slots.length > MAX_INDIVIDUAL_LAND_MARKERS) {
+                return clusterLandMarkers(snapshot.get(), slots, query);
+            }
+            return toLandMarkers(snapshot.get(), slots);
+        }
+
+        List<LandMarkerQueryResult> lands = landDao.findLandMarkers(query);
+
+        // 토지가 많으면 화면 격자 단위 클러스터 마커로 응답 크기 제한
+        if (lands.size() > MAX_INDIVIDUAL_LAND_MARKERS && query.hasMapBounds()) {
+            MarkerClusterGrid grid = newClusterGrid(query);
+            for (LandMarkerQueryResult land : lands) {
+                grid.add(land.id(), land.address(), land.centerLng(), land.centerLat());
+            }
+            return grid.toMarkers();
+        }
+
+        return lands.stream().map(this::toLandMarker).toList();
+    }
+
+    /**
+     * 화면을 덮는 타일별 결과를 캐시에서 모은 뒤 화면 범위 밖의 토지를 제외
+     */
+    private int[] searchLandSlots(LandPointSnapshot snapshot, LandSearchQuery query,
+                                  LandSearchFilterRequest landSearchFilterRequest) {
+        int tileZoom = ZoomLevel.LAND.getTileZoom();
+        if (TileKey.countCovering(tileZoom, query.southWestLng(), query.southWestLat(),
+                query.northEastLng(), query.northEastLat()) > MAX_CACHED_TILES) {
+            return snapshot.search(query);
+        }
+
+        List<int[]> tileSlots = new ArrayList<>();
+        int total = 0;
+        for (TileKey tile : TileKey.covering(tileZoom, query.southWestLng(), query.southWestLat(),
+                query.northEastLng(), query.northEastLat())) {
+            int[] slots = markerTileCache.getLandSlots(snapshot.version(), tile, landSearchFilterRequest,
+                    () -> snapshot.searchTile(tile, query));
+            tileSlots.add(slots);
+            total += slots.length;
+        }
+
+        int[] result = new int[total];
+        int size = 0;
+        for (int[] slots : tileSlots) {
+            for (int slot : slots) {
+                double lng = snapshot.lng(slot);
+                double lat = snapshot.lat(slot);
+                if (lng > query.southWestLng() && lng < query.northEastLng()
+                        && lat > query.southWestLat() && lat < query.northEastLat()) {
+                    result[size++] = slot;
+                }
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private List<LandGroupSearchResponse> clusterLandMarkers(
+            LandPointSnapshot snapshot, int[] slots, LandSearchQuery query) {
+        MarkerClusterGrid grid = newClusterGrid(query);
+        for (int slot : slots) {
+            grid.add(snapshot.id(slot), snapshot.address(slot), snapshot.lng(slot), snapshot.lat(slot));
+        }
+        return grid.toMarkers();
+    }
+
+    private MarkerClusterGrid newClusterGrid(LandSearchQuery query) {
+        return MarkerClusterGrid.forViewport(
+                query.southWestLng(), query.southWestLat(), query.northEastLng(), query.northEastLat());
+    }
+
+    private List<LandGroupSearchResponse> toLandMarkers(LandPointSnapshot snapshot, int[] slots) {
+        List<LandGroupSearchResponse> responses = new ArrayList<>(slots.length);
+        for (int slot : slots) {
+            responses.add(toLandMarker(snapshot, slot));
+        }
+        return responses;
+    }
+
+    private LandGroupSearchResponse toLandMarker(LandMarkerQueryResult land) {
+        return new LandGroupSearchResponse(
+                Long.toString(land.id()),
+                land.address(),
+                null,
+                new Point(land.centerLng(), land.centerLat()),
+                "LAND");
+    }
+
+    private LandGroupSearchResponse toLandMarker(LandPointSnapshot snapshot, int slot) {
+        return new LandGroupSearchResponse(
+                Long.toString(snapshot.id(slot)),
+                snapshot.address(slot),
                 null,
-                land.getCenterPoint(),
-                "LAND")).toList();
+                new Point(snapshot.lng(slot), snapshot.lat(slot)),
+                "LAND");
     }
 
     private List<LandGroupSearchResponse> getGroupSearchResponses(
             MapSearchRequest mapSearchRequest, LandSearchFilterRequest landSearchFilterRequest) {
         ZoomLevel zoomLevel = ZoomLevel.from(mapSearchRequest.zoomLevel());
-        MapSearchQuery mapSearchQuery = new MapSearchQuery(
-                zoomLevel,
-                new Point(mapSearchRequest.southWestLng(), mapSearchRequest.southWestLat()),
-                new Point(mapSearchRequest.northEastLng(), mapSearchRequest.northEastLat()));
-
-        List<BeopjungDong> beopjeongDongs = beopjungDongDao.findAreasByZoomLevel(mapSearchQuery);
+        List<LandGroupSearchResponse> markers = findGroupMarkers(zoomLevel, mapSearchRequest, landSearchFilterRequest);
 
         // 법정동이 20개 이상이면 ZoomLevel을 한 단계 상승시켜 다시 조회
-        if (beopjeongDongs.size() >= 20) {
+        if (markers.size() >= 20) {
             ZoomLevel higherZoomLevel = getHigherZoomLevel(zoomLevel);
-            if (higherZoomLevel != null) {
-                MapSearchQuery higherMapSearchQuery = new MapSearchQuery(
-                        higherZoomLevel,
-                        new Point(mapSearchRequest.southWestLng(), mapSearchRequest.southWestLat()),
-                        new Point(mapSearchRequest.northEastLng(), mapSearchRequest.northEastLat()));
-                beopjeongDongs = beopjungDongDao.findAreasByZoomLevel(higherMapSearchQuery);
-                zoomLevel = higherZoomLevel;
+            if (higherZoomLevel != zoomLevel) {
+                markers = findGroupMarkers(higherZoomLevel, mapSearchRequest, landSearchFilterRequest);
+            }
+        }
+
+        return markers;
+    }
+
+    /**
+     * 화면을 덮는 타일별 그룹 마커를 캐시에서 모은 뒤 화면 범위 밖의 마커를 제외
+     */
+    private List<LandGroupSearchResponse> findGroupMarkers(ZoomLevel zoomLevel, MapSearchRequest mapSearchRequest,
+                                                           LandSearchFilterRequest landSearchFilterRequest) {
+        Point southWest = new Point(mapSearchRequest.southWestLng(), mapSearchRequest.southWestLat());
+        Point northEast = new Point(mapSearchRequest.northEastLng(), mapSearchRequest.northEastLat());
+
+        int tileZoom = zoomLevel.getTileZoom();
+        if (TileKey.countCovering(tileZoom, southWest.lng(), southWest.lat(), northEast.lng(), northEast.lat())
+                > MAX_CACHED_TILES) {
+            return computeGroupMarkers(zoomLevel, southWest, northEast, landSearchFilterRequest);
+        }
+
+        // 계산 전에 스냅샷 버전을 읽어 두어 교체 전 데이터로 계산한 결과가 새 버전 키로 저장되지 않도록 함
+        long countVersion = landCountIndex.snapshotVersion(
+                BeopjungDongType.valueOf(zoomLevel.getType()).getCodeLength());
+        long hierarchyVersion = regionHierarchyIndex.snapshotVersion();
+
+        List<LandGroupSearchResponse> markers = new ArrayList<>();
+        for (TileKey tile : TileKey.covering(tileZoom, southWest.lng(), southWest.lat(), northEast.lng(), northEast.lat())) {
+            List<LandGroupSearchResponse> tileMarkers = markerTileCache.getGroupMarkers(
+                    countVersion, hierarchyVersion, zoomLevel, tile, landSearchFilterRequest,
+                    () -> computeGroupMarkers(zoomLevel, tile, landSearchFilterRequest));
+            for (LandGroupSearchResponse marker : tileMarkers) {
+                Point point = marker.point();
+                if (point.lng() > southWest.lng() && point.lng() < northEast.lng()
+                        && point.lat() > southWest.lat() && point.lat() < northEast.lat()) {
+                    markers.add(marker);
+                }
             }
         }
+        return markers;
+    }
+
+    private List<LandGroupSearchResponse> computeGroupMarkers(ZoomLevel zoomLevel, TileKey tile,
+                                                              LandSearchFilterRequest landSearchFilterRequest) {
+        double margin = (tile.maxLng() - tile.minLng()) * 1e-6;
+        return computeGroupMarkers(zoomLevel,
+                new Point(tile.minLng() - margin, tile.minLat() - margin),
+                new Point(tile.maxLng() + margin, tile.maxLat() + margin),
+                landSearchFilterRequest).stream()
+                .filter(marker -> tile.contains(marker.point().lng(), marker.point().lat()))
+                .toList();
+    }
+
+    private List<LandGroupSearchResponse> computeGroupMarkers(ZoomLevel zoomLevel, Point southWest, Point northEast,
+                                                              LandSearchFilterRequest landSearchFilterRequest) {
+        List<BeopjungDong> beopjeongDongs = regionHierarchyIndex.findAreasByZoomLevel(
+                new MapSearchQuery(zoomLevel, southWest, northEast));
 
         BeopjungDongType beopjungDongType = BeopjungDongType.valueOf(zoomLevel.getType());
         List<String> fullCodePrefixes = beopjeongDongs.stream()
@@ -137,10 +397,11 @@ public class MapSearchService {
                     landSearchFilterRequest.officialLandPriceMax(),
                     landSearchFilterRequest.useZoneCategories());
 
-            landCountQueryResults = landDao.countLandsByRegions(query);
+            landCountQueryResults = landCountIndex.count(query)
+                    .orElseGet(() -> landDao.countLandsByRegions(query));
         }
 
-        return zipFrom(beopjeongDongs, landCountQueryResults);
+        return zipFrom(beopjeongDongs, landCountQueryResults, beopjungDongType.getCodeLength());
     }
 
     private ZoomLevel getHigherZoomLevel(ZoomLevel currentLevel) {
@@ -153,14 +414,15 @@ public class MapSearchService {
     }
 
     private List<LandGroupSearchResponse> zipFrom(
-            List<BeopjungDong> beopjeongDongs, List<LandCountQueryResult> landCountQueryResults) {
-        List<LandGroupSearchResponse> response = new ArrayList<>();
+            List<BeopjungDong> beopjeongDongs, List<LandCountQueryResult> landCountQueryResults, int prefixLength) {
+        Map<String, Long> countsByPrefix = new HashMap<>(landCountQueryResults.size() * 2);
+        for (LandCountQueryResult result : landCountQueryResults) {
+            countsByPrefix.putIfAbsent(result.beopjungDongCodePrefix(), result.count());
+        }
+
+        List<LandGroupSearchResponse> response = new ArrayList<>(beopjeongDongs.size());
         for (BeopjungDong beopjungDong : beopjeongDongs) {
-            Long count = landCountQueryResults.stream()
-                    .filter(result -> beopjungDong.getFullCode().startsWith(result.beopjungDongCodePrefix()))
-                    .findAny()
-                    .map(LandCountQueryResult::count)
-                    .orElse(0L);
+            Long count = countsByPrefix.getOrDefault(beopjungDong.getFullCode().substring(0, prefixLength), 0L);
 
             response.add(new LandGroupSearchResponse(
                     beopjungDong.getFullCode(),
@@ -172,20 +434,70 @@ public class MapSearchService {
         return response;
     }
 
+    /**
+     * 폴리곤 데이터 조회
+     * 행정구역은 줌 레벨에 맞게 단순화된 경계를 반환함 (줌 레벨이 없으면 원본 경계)
+     */
     public PolygonDataResponse getPolygonDataById(
             String polygonType,
-            String id) {
+            String id,
+            Integer zoomLevel) {
+        return new PolygonDataResponse(GisUtils.toPackedGeometry(findPolygonGeometry(polygonType, id, zoomLevel)));
+    }
+
+    /**
+     * 시작 시 적재된 행정구역 경계 응답 바이트 조회 (DB 연결을 사용하지 않음)
+     * 줌 레벨이 지정된 행정구역 조회만 해당하며, 저장소에 없으면 empty
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<RegionBoundaryStore.StoredBoundary> findStoredPolygon(
+            String polygonType,
+            String id,
+            Integer zoomLevel,
+            PolygonEncoding encoding) {
+        if (!polygonType.equalsIgnoreCase("GROUP") || zoomLevel == null) {
+            return Optional.empty();
+        }
+        return regionBoundaryStore.find(id, ZoomLevel.from(zoomLevel), encoding);
+    }
+
+    /**
+     * 인코딩된 폴리곤 데이터 조회 (Point 변환 없이 좌표열에서 바로 인코딩)
+     */
+    public EncodedPolygonDataResponse getEncodedPolygonDataById(
+            String polygonType,
+            String id,
+            Integer zoomLevel,
+            PolygonEncoding encoding) {
+        Geometry geometry = findPolygonGeometry(polygonType, id, zoomLevel);
+        return new EncodedPolygonDataResponse(encoding.name(), encoding.encode(geometry));
+    }
+
+    /**
+     * 여러 토지/행정구역 폴리곤 일괄 조회
+     * 타입별로 한 번의 쿼리(= ANY)로 조회하여 결과를 모으지 않고 consumer에 바로 전달하며,
+     * 경계가 없는 항목은 응답에서 제외함
+     */
+    public void forEachPolygon(PolygonBatchRequest request, Consumer<PolygonBatchItemResponse> consumer) {
+        PolygonEncoding encoding = PolygonEncoding.from(request.encoding());
+        ZoomLevel level = request.zoomLevel() != null ? ZoomLevel.from(request.zoomLevel()) : ZoomLevel.LAND;
+
+        regionPolygonCache.forEachBoundary(request.regionCodesOrEmpty(), level, (fullCode, geometry) ->
+                consumer.accept(new PolygonBatchItemResponse("GROUP", fullCode, encoding.encode(geometry))));
+        landGisDao.forEachBoundaryByLandIds(request.landIdsOrEmpty(), (landId, geometry) ->
+                consumer.accept(new PolygonBatchItemResponse("LAND", landId.toString(), encoding.encode(geometry))));
+    }
 
+    private Geometry findPolygonGeometry(String polygonType, String id, Integer zoomLevel) {
         if (polygonType.equalsIgnoreCase("GROUP")) {
-            List<List<Point>> areaPolygon = beopjungDongDao.findPolygonByFullCode(id);
-            return new PolygonDataResponse(areaPolygon);
+            ZoomLevel level = zoomLevel != null ? ZoomLevel.from(zoomLevel) : ZoomLevel.LAND;
+            return regionPolygonCache.getBoundary(id, level);
         } else if (polygonType.equalsIgnoreCase("LAND")) {
-            List<List<Point>> landPolygon = landGisDao.findPolygonByLandId(Long.valueOf(id));
-            return new PolygonDataResponse(landPolygon);
+            return landGisDao.findBoundaryByLandId(Long.valueOf(id))
+                    .orElseThrow(() -> new BusinessException("토지 경계를 찾을 수 없습니다: " + id, HttpStatus.NOT_FOUND));
         } else {
             throw new BusinessException("유효하지 않은 폴리곤 타입입니다: " + polygonType, HttpStatus.BAD_REQUEST);
         }
-
     }
 
     public LandDetailResponse getLandDataById(Long landId) {
@@ -224,6 +536,11 @@ public class MapSearchService {
                 land.getCenterPoint());
     }
 
+    /**
+     * 토지가 속한 시군구의 상세 정보 조회
+     * 하위 조회를 여러 커넥션에서 동시에 실행하므로 요청 스레드는 트랜잭션(커넥션)을 잡지 않음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AreaDetailResponse getAreaDetailsByLandId(Long landId) {
         // first fetch the land of the land from landId
         Optional<Land> landOptional = landDao.findById(landId);
@@ -237,12 +554,30 @@ public class MapSearchService {
         
         return getAreaDetailsByFullCode(fullCode);
     }
-    
+
+    /**
+     * 시군구 상세 정보 조회
+     * 결과는 시군구(코드 앞 5자리)에만 의존하므로 시군구별로 캐싱함
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AreaDetailResponse getAreaDetailsByFullCode(String fullCode) {
+        AreaDetailResponse sigDetails = areaDetailCache.get(fullCode.substring(0, 5), () -> loadAreaDetails(fullCode));
+        if (sigDetails.fullCode().equals(fullCode)) {
+            return sigDetails;
+        }
+        return new AreaDetailResponse(fullCode, sigDetails.address(), sigDetails.electricityCostInfo(),
+                sigDetails.emergencyTextInfo(), sigDetails.populationInfo());
+    }
+
+    /**
+     * 행정구역은 필수 정보로 먼저 확인하고(없으면 404), 전기 요금/재난 문자/인구 조회는 가상 스레드에서 동시에 실행함
+     * 각 조회는 별도 커넥션의 단건 읽기(auto-commit)로 실행되며, 제한 시간 안에 끝나지 않거나 실패한 항목은 null로 응답함
+     */
+    private AreaDetailResponse loadAreaDetails(String fullCode) {
         String sigCode = fullCode.substring(0, 5) + "00000";
 
         // then fetch the area's information using sig_code
-        Optional<BeopjungDong> areaOptional = beopjungDongDao.findByFullCode(sigCode);
+        Optional<BeopjungDong> areaOptional = regionHierarchyIndex.findByFullCode(sigCode);
         if (areaOptional.isEmpty()) {
             throw new BusinessException("행정구역을 찾을 수 없습니다: " + sigCode, HttpStatus.NOT_FOUND);
         }
@@ -250,34 +585,69 @@ public class MapSearchService {
         BeopjungDong area = areaOptional.get();
         String address = area.getKoreanName();
 
-        // then fetch electricity cost
-        ElectricityCost electricityCost = electricityCostDao.findByFullCode(sigCode).orElse(null);
-        ElectricityCostInfo costInfo = ElectricityCostInfo.of(electricityCost);
+        long deadline = System.nanoTime() + AREA_DETAIL_TIMEOUT.toNanos();
+        Future<ElectricityCostInfo> costInfo = queryFanOutExecutor.submit(() ->
+                ElectricityCostInfo.of(electricityCostDao.findByFullCode(sigCode).orElse(null)));
+        Future<EmergencyTextInfo> textInfo = queryFanOutExecutor.submit(() ->
+                EmergencyTextInfo.fromDisasterList(emergencyTextDao.findByFullCode(sigCode)));
+        // population data need to be accumulated - they're on EMD level
+        Future<PopulationInfo> populationInfo = queryFanOutExecutor.submit(() ->
+                PopulationInfo.of(populationDao.findAggregatedByFullCode(fullCode)));
+
+        return new AreaDetailResponse(
+                fullCode,
+                address,
+                awaitPartial(costInfo, deadline, "electricity", fullCode),
+                awaitPartial(textInfo, deadline, "emergency text", fullCode),
+                awaitPartial(populationInfo, deadline, "population", fullCode));
+    }
 
-        // then fetch emergency texts
-        List<EmergencyText> emergencyText = emergencyTextDao.findByFullCode(sigCode);
-        EmergencyTextInfo textInfo = EmergencyTextInfo.fromDisasterList(emergencyText);
+    /**
+     * 토지가 속한 시군구의 기준연월별 인구 추이 조회 (미리 합산된 시군구 집계에서 조회)
+     */
+    public PopulationTrendResponse getPopulationTrendByLandId(Long landId) {
+        Land land = landDao.findById(landId)
+                .orElseThrow(() -> new BusinessException("토지를 찾을 수 없습니다: " + landId, HttpStatus.NOT_FOUND));
+        String fullCode = land.getBeopjungDongCode();
 
-        // lastly populations
-        // population data need to be accumulated - they're on EMD level
-        Population populationSum = populationDao.findAggregatedByFullCode(fullCode);
-        PopulationInfo populationInfo = PopulationInfo.of(populationSum);
+        List<PopulationInfo> trend = populationDao.findAggregatedTrendByFullCode(fullCode).stream()
+                .map(PopulationInfo::of)
+                .toList();
+        return new PopulationTrendResponse(fullCode, trend);
+    }
 
-        return new AreaDetailResponse(fullCode, address, costInfo, textInfo, populationInfo);
+    /**
+     * 마감 시각까지 결과를 기다리고, 실패하거나 시간이 지나면 작업을 취소한 뒤 null 반환
+     */
+    private <T> T awaitPartial(Future<T> future, long deadline, String name, String fullCode) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("행정구역 상세 {} 조회 시간 초과 - fullCode: {}", name, fullCode);
+        } catch (ExecutionException e) {
+            log.warn("행정구역 상세 {} 조회 실패 - fullCode: {}", name, fullCode, e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        return null;
     }
     
     /**
-     * fullCode와 범위 조건으로 토지 목록 조회
-     * 
-     * @param fullCode 법정동 코드
-     * @param landSearchFilterRequest 토지 검색 필터 (면적, 가격, 용도지역)
-     * @return 조건에 맞는 토지 목록
+     * fullCode와 범위 조건으로 토지 한 페이지 조회 (id 순 keyset 페이지네이션, 다음 페이지는 마지막 id를 afterId로 전달)
      */
-    public List<Land> findLandsByFullCodeAndFilter(String fullCode, LandSearchFilterRequest landSearchFilterRequest) {
+    public List<Land> findLandPageByFullCodeAndFilter(String fullCode, LandSearchFilterRequest landSearchFilterRequest,
+                                                      long afterId, int limit) {
+        return landDao.findLandPageByFullCode(toFullCodeLandSearchQuery(fullCode, landSearchFilterRequest), afterId, limit);
+    }
+
+    private FullCodeLandSearchQuery toFullCodeLandSearchQuery(String fullCode,
+                                                              LandSearchFilterRequest landSearchFilterRequest) {
         String sigCode = fullCode.substring(0, 5);
 
         // 용도지역 카테고리를 직접 사용 (더 이상 변환 불필요)
-        FullCodeLandSearchQuery query = new FullCodeLandSearchQuery(
+        return new FullCodeLandSearchQuery(
                 sigCode,
                 landSearchFilterRequest.landAreaMin(),
                 landSearchFilterRequest.landAreaMax(),
@@ -285,8 +655,6 @@ public class MapSearchService {
                 landSearchFilterRequest.officialLandPriceMax(),
                 landSearchFilterRequest.useZoneCategories().get(0)
         );
-        
-        return landDao.findLandsByFullCode(query);
     }
 
     public LandDetailResponse searchByAddress(String address) {
@@ -0,0 +1,107 @@
+package com.izza.search.service;
+
+import com.izza.search.presentation.dto.response.LandGroupSearchResponse;
+import com.izza.search.vo.Point;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 화면 격자 기반 토지 마커 클러스터링
+ * 셀 크기는 화면 범위를 GRID_SIZE 등분한 값 이상의 2의 거듭제곱(도 단위)으로 정하고
+ * 격자를 경위도 원점에 고정하여, 같은 줌에서 지도를 이동해도 클러스터 경계가 유지되도록 함
+ */
+public final class MarkerClusterGrid {
+
+    private static final int GRID_SIZE = 16;
+
+    private final int cellExponent;
+    private final double cellSize;
+    private final long originX;
+    private final long originY;
+    private final int columns;
+    private final int rows;
+
+    private final int[] counts;
+    private final double[] sumLngs;
+    private final double[] sumLats;
+    // 토지가 하나뿐인 셀은 개별 마커로 내려주기 위해 첫 토지 정보 보관
+    private final long[] firstIds;
+    private final String[] firstNames;
+
+    private MarkerClusterGrid(double swLng, double swLat, double neLng, double neLat) {
+        double target = Math.max(neLng - swLng, neLat - swLat) / GRID_SIZE;
+        int exponent = Math.getExponent(target);
+        if (Math.scalb(1.0, exponent) < target) {
+            exponent++;
+        }
+        this.cellExponent = exponent;
+        this.cellSize = Math.scalb(1.0, exponent);
+        this.originX = (long) Math.floor(swLng / cellSize);
+        this.originY = (long) Math.floor(swLat / cellSize);
+        this.columns = (int) ((long) Math.floor(neLng / cellSize) - originX + 1);
+        this.rows = (int) ((long) Math.floor(neLat / cellSize) - originY + 1);
+
+        int cellCount = columns * rows;
+        this.counts = new int[cellCount];
+        this.sumLngs = new double[cellCount];
+        this.sumLats = new double[cellCount];
+        this.firstIds = new long[cellCount];
+        this.firstNames = new String[cellCount];
+    }
+
+    public static MarkerClusterGrid forViewport(double swLng, double swLat, double neLng, double neLat) {
+        return new MarkerClusterGrid(swLng, swLat, neLng, neLat);
+    }
+
+    public void add(long id, String name, double lng, double lat) {
+        int column = clamp((int) ((long) Math.floor(lng / cellSize) - originX), columns);
+        int row = clamp((int) ((long) Math.floor(lat / cellSize) - originY), rows);
+        int cell = row * columns + column;
+
+        if (counts[cell] == 0) {
+            firstIds[cell] = id;
+            firstNames[cell] = name;
+        }
+        counts[cell]++;
+        sumLngs[cell] += lng;
+        sumLats[cell] += lat;
+    }
+
+    /**
+     * 셀별 마커 생성 (토지 1개 셀은 LAND, 2개 이상은 CLUSTER 마커)
+     */
+    public List<LandGroupSearchResponse> toMarkers() {
+        List<LandGroupSearchResponse> markers = new ArrayList<>();
+        for (int cell = 0; cell < counts.length; cell++) {
+            int count = counts[cell];
+            if (count == 0) {
+                continue;
+            }
+
+            if (count == 1) {
+                markers.add(new LandGroupSearchResponse(
+                        Long.toString(firstIds[cell]),
+                        firstNames[cell],
+                        null,
+                        new Point(sumLngs[cell], sumLats[cell]),
+                        "LAND"));
+                continue;
+            }
+
+            long cellX = originX + cell % columns;
+            long cellY = originY + cell / columns;
+            markers.add(new LandGroupSearchResponse(
+                    cellExponent + ":" + cellX + ":" + cellY,
+                    null,
+                    (long) count,
+                    new Point(sumLngs[cell] / count, sumLats[cell] / count),
+                    "CLUSTER"));
+        }
+        return markers;
+    }
+
+    private static int clamp(int value, int size) {
+        return Math.max(0, Math.min(size - 1, value));
+    }
+}
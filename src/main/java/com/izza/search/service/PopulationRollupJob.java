@@ -0,0 +1,40 @@
+package com.izza.search.service;
+
+import com.izza.search.domain.DataVersionChangedEvent;
+import com.izza.search.persistent.dao.PopulationDao;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 시군구 인구 집계(population_sig_rollup) 갱신 작업
+ * POPULATION 데이터 버전이 바뀌면 읍면동 단위 인구를 시군구/기준연월별로 다시 합산함
+ * 행정구역 상세 정보 캐시가 이전 집계를 다시 담지 않도록 캐시 무효화보다 먼저 실행되며,
+ * 실패하면 예외를 전파하여 다음 데이터 버전 확인 주기에 재시도함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopulationRollupJob {
+
+    private final PopulationDao populationDao;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(condition = "#event.dataSet() == T(com.izza.search.domain.DataSet).POPULATION")
+    @Transactional
+    public void refresh(DataVersionChangedEvent event) {
+        long startTime = System.currentTimeMillis();
+
+        int rows = populationDao.refreshRollup(event.version());
+        if (rows < 0) {
+            log.info("시군구 인구 집계가 이미 최신입니다 - version: {}", event.version());
+            return;
+        }
+        log.info("시군구 인구 집계 갱신 완료 - version: {}, 행 수: {}, 소요 시간: {}ms",
+                event.version(), rows, System.currentTimeMillis() - startTime);
+    }
+}
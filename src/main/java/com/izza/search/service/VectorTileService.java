@@ -0,0 +1,59 @@
+package com.izza.search.service;
+
+import com.izza.exception.BusinessException;
+import com.izza.search.domain.ZoomLevel;
+import com.izza.search.persistent.dao.VectorTileDao;
+import com.izza.search.service.cache.VectorTileCache;
+import com.izza.search.vo.TileKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class VectorTileService {
+    private static final int MAX_TILE_ZOOM = 22;
+
+    private final VectorTileDao vectorTileDao;
+    private final VectorTileCache vectorTileCache;
+
+    /**
+     * z/x/y 타일의 벡터 타일 조회
+     * 행정구역 레이어는 줌에 맞는 법정동 단위로, 토지 레이어는 LAND 줌 이상에서만 포함
+     */
+    public byte[] getTile(int z, int x, int y) {
+        if (z < 0 || z > MAX_TILE_ZOOM || x < 0 || y < 0 || x >= (1 << z) || y >= (1 << z)) {
+            throw new BusinessException("유효하지 않은 타일 좌표입니다: " + z + "/" + x + "/" + y, HttpStatus.BAD_REQUEST);
+        }
+
+        TileKey tile = new TileKey(z, x, y);
+        return vectorTileCache.get(tile, () -> render(tile));
+    }
+
+    private byte[] render(TileKey tile) {
+        byte[] regionLayer = vectorTileDao.findRegionLayer(tile, regionTypeOf(tile.z()));
+        if (tile.z() < ZoomLevel.LAND.getTileZoom()) {
+            return regionLayer;
+        }
+
+        // MVT 레이어는 바이트 단위로 이어 붙여도 유효한 타일이 됨
+        byte[] landLayer = vectorTileDao.findLandLayer(tile);
+        byte[] tileBytes = Arrays.copyOf(regionLayer, regionLayer.length + landLayer.length);
+        System.arraycopy(landLayer, 0, tileBytes, regionLayer.length, landLayer.length);
+        return tileBytes;
+    }
+
+    private String regionTypeOf(int z) {
+        if (z < ZoomLevel.SIG.getTileZoom()) {
+            return ZoomLevel.SIDO.getType();
+        }
+        if (z < ZoomLevel.EMD.getTileZoom()) {
+            return ZoomLevel.SIG.getType();
+        }
+        return ZoomLevel.EMD.getType();
+    }
+}
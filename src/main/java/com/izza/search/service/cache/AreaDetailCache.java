@@ -0,0 +1,69 @@
+package com.izza.search.service.cache;
+
+import com.izza.search.domain.DataVersionChangedEvent;
+import com.izza.search.presentation.dto.response.AreaDetailResponse;
+import com.izza.utils.LruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 시군구(법정동 코드 앞 5자리)별 행정구역 상세 정보 캐시
+ * 전기 요금/재난 문자/인구/행정구역 데이터가 다시 적재되면 세대(generation)를 올려 무효화하며,
+ * 무효화 이전에 시작된 조회 결과는 이전 세대 키로 저장되어 다시 읽히지 않음
+ */
+@Slf4j
+@Component
+public class AreaDetailCache {
+
+    // 시군구는 약 250개
+    private static final int MAX_SIZE = 1024;
+
+    private final LruCache<CacheKey, AreaDetailResponse> cache = LruCache.ofMaxSize(MAX_SIZE);
+    private volatile long generation;
+
+    /**
+     * 캐시된 상세 정보 조회, 없으면 loader로 조회
+     * 일부 항목이 비어 있는(부분 결과) 응답은 다음 조회에서 다시 시도하도록 저장하지 않음
+     */
+    public AreaDetailResponse get(String sigCode, Supplier<AreaDetailResponse> loader) {
+        CacheKey key = new CacheKey(generation, sigCode);
+        AreaDetailResponse cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        AreaDetailResponse loaded = loader.get();
+        if (isComplete(loaded)) {
+            cache.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 시군구 인구 집계 갱신(PopulationRollupJob) 직후, 다시 채우는 작업(AreaDetailWarmupJob)보다 먼저 실행됨
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @EventListener(condition = "#event.dataSet() == T(com.izza.search.domain.DataSet).BEOPJEONG_DONG"
+            + " || #event.dataSet() == T(com.izza.search.domain.DataSet).ELECTRICITY_COST"
+            + " || #event.dataSet() == T(com.izza.search.domain.DataSet).EMERGENCY_TEXT"
+            + " || #event.dataSet() == T(com.izza.search.domain.DataSet).POPULATION")
+    public synchronized void invalidate(DataVersionChangedEvent event) {
+        generation++;
+        cache.clear();
+        log.info("행정구역 상세 정보 캐시 초기화 - dataSet: {}, version: {}", event.dataSet(), event.version());
+    }
+
+    private static boolean isComplete(AreaDetailResponse response) {
+        return response.electricityCostInfo() != null
+                && response.emergencyTextInfo() != null
+                && response.populationInfo() != null;
+    }
+
+    private record CacheKey(long generation, String sigCode) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.izza.search.service.cache;
+
+import com.izza.search.domain.DataVersionChangedEvent;
+import com.izza.search.domain.ZoomLevel;
+import com.izza.search.presentation.dto.request.LandSearchFilterRequest;
+import com.izza.search.presentation.dto.response.LandGroupSearchResponse;
+import com.izza.search.vo.TileKey;
+import com.izza.utils.LruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 지도 마커 타일 캐시
+ * 화면 범위 대신 타일(z/x/y) + 정규화된 필터 조건 단위로 결과를 캐싱하여
+ * 지도 이동 시 겹치는 타일의 결과를 재사용함
+ */
+@Slf4j
+@Component
+public class MarkerTileCache {
+
+    // 가중치 합 상한 (LAND 타일은 토지 slot 개수, GROUP 타일은 마커 개수 기준)
+    private static final long MAX_WEIGHT = 4_000_000L;
+    private static final int GROUP_MARKER_WEIGHT = 8;
+
+    private final LruCache<CacheKey, Object> cache = new LruCache<>(MAX_WEIGHT, MarkerTileCache::weigh);
+
+    /**
+     * LAND 줌 레벨 타일의 토지 slot 목록 (인덱스 스냅샷 버전별로 구분)
+     */
+    public int[] getLandSlots(long snapshotVersion, TileKey tile, LandSearchFilterRequest filter,
+                              Supplier<int[]> loader) {
+        CacheKey key = new CacheKey(ZoomLevel.LAND, snapshotVersion, 0L, tile, FilterKey.from(filter));
+        return (int[]) cache.computeIfAbsent(key, k -> loader.get());
+    }
+
+    /**
+     * 행정구역 줌 레벨 타일의 그룹 마커 목록 (카운트 큐브/행정구역 계층 스냅샷 버전별로 구분)
+     * 버전은 계산 전에 읽어 전달하므로, 무효화와 스냅샷 교체 사이에 계산된 이전 데이터가 새 버전 키로 남지 않음
+     */
+    @SuppressWarnings("unchecked")
+    public List<LandGroupSearchResponse> getGroupMarkers(long countVersion, long hierarchyVersion,
+                                                         ZoomLevel zoomLevel, TileKey tile,
+                                                         LandSearchFilterRequest filter,
+                                                         Supplier<List<LandGroupSearchResponse>> loader) {
+        CacheKey key = new CacheKey(zoomLevel, countVersion, hierarchyVersion, tile, FilterKey.from(filter));
+        return (List<LandGroupSearchResponse>) cache.computeIfAbsent(key, k -> loader.get());
+    }
+
+    /**
+     * 토지/행정구역/토지 통계 데이터가 다시 적재되면 전체 무효화
+     * 이전 버전 키의 항목은 더 이상 조회되지 않으므로 메모리 회수 목적이며, 스냅샷 교체와의 순서는 무관함
+     */
+    @EventListener(condition = "#event.dataSet() == T(com.izza.search.domain.DataSet).LAND"
+            + " || #event.dataSet() == T(com.izza.search.domain.DataSet).BEOPJEONG_DONG"
+            + " || #event.dataSet() == T(com.izza.search.domain.DataSet).LAND_STATISTICS")
+    public void invalidate(DataVersionChangedEvent event) {
+        cache.clear();
+        log.info("마커 타일 캐시 초기화 - dataSet: {}, version: {}", event.dataSet(), event.version());
+    }
+
+    private static long weigh(Object value) {
+        if (value instanceof int[] slots) {
+            return slots.length + 1L;
+        }
+        if (value instanceof List<?> markers) {
+            return (long) markers.size() * GROUP_MARKER_WEIGHT + 1L;
+        }
+        return 1L;
+    }
+
+    private record CacheKey(ZoomLevel zoomLevel, long version, long regionVersion, TileKey tile, FilterKey filter) {
+    }
+
+    /**
+     * 필터 조건 정규화 (용도지역 순서/중복과 무관하게 같은 키)
+     */
+    private record FilterKey(Long landAreaMin, Long landAreaMax,
+                             Long officialLandPriceMin, Long officialLandPriceMax,
+                             List<String> useZoneCategories) {
+
+        static FilterKey from(LandSearchFilterRequest filter) {
+            List<String> categories = filter.useZoneCategories() == null
+                    ? List.of()
+                    : filter.useZoneCategories().stream().distinct().sorted().toList();
+            return new FilterKey(
+                    filter.landAreaMin(),
+                    filter.landAreaMax(),
+                    filter.officialLandPriceMin(),
+                    filter.officialLandPriceMax(),
+                    categories);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.izza.search.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.izza.search.domain.DataVersionChangedEvent;
+import com.izza.search.domain.PolygonEncoding;
+import com.izza.search.domain.ZoomLevel;
+import com.izza.search.persistent.dao.BeopjungDongDao;
+import com.izza.search.presentation.dto.response.BaseApiResponse;
+import com.izza.search.presentation.dto.response.EncodedPolygonDataResponse;
+import com.izza.search.presentation.dto.response.PolygonDataResponse;
+import com.izza.utils.GisUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 행정구역(시도/시군구/읍면동) 경계 응답 저장소
+ * 단순화 단계(LOD)와 인코딩별로 직렬화를 마친 응답 JSON 바이트(설정 시 gzip 압축)를 상주시켜
+ * 행정구역 폴리곤 조회를 DB 접근/직렬화 없이 바이트 복사만으로 처리함
+ * BEOPJEONG_DONG 데이터 버전이 바뀌면 다시 적재하며, app.region-boundary.snapshot-file이 설정된 경우
+ * 같은 버전의 스냅샷 파일이 있으면 DB 대신 파일에서 읽고, 없으면 DB에서 만든 뒤 파일로 저장함
+ */
+@Slf4j
+@Component
+public class RegionBoundaryStore {
+
+    private static final int SNAPSHOT_MAGIC = 0x495A5242;
+    private static final int SNAPSHOT_FORMAT = 1;
+    // 원본(LAND)을 제외한 단순화 단계
+    private static final List<ZoomLevel> LODS = Arrays.stream(ZoomLevel.values())
+            .filter(level -> level.getSimplifyTolerance() > 0)
+            .toList();
+    private static final PolygonEncoding[] ENCODINGS = PolygonEncoding.values();
+
+    private final BeopjungDongDao beopjungDongDao;
+    private final ObjectMapper objectMapper;
+    // null이면 스냅샷 파일 미사용
+    private final Path snapshotFile;
+    private final boolean gzip;
+
+    private volatile Snapshot snapshot;
+
+    public RegionBoundaryStore(BeopjungDongDao beopjungDongDao,
+                               ObjectMapper objectMapper,
+                               @Value("${app.region-boundary.snapshot-file:}") String snapshotFile,
+                               @Value("${app.region-boundary.gzip:false}") boolean gzip) {
+        this.beopjungDongDao = beopjungDongDao;
+        this.objectMapper = objectMapper;
+        this.snapshotFile = snapshotFile.isBlank() ? null : Path.of(snapshotFile);
+        this.gzip = gzip;
+    }
+
+    @EventListener(condition = "#event.dataSet() == T(com.izza.search.domain.DataSet).BEOPJEONG_DONG")
+    @Transactional(readOnly = true)
+    public void reload(DataVersionChangedEvent event) {
+        long startTime = System.currentTimeMillis();
+
+        Snapshot loaded = readSnapshotFile(event.version());
+        String source = "snapshot";
+        if (loaded == null) {
+            loaded = build(event.version());
+            writeSnapshotFile(loaded);
+            source = "database";
+        }
+        snapshot = loaded;
+
+        log.info("행정구역 경계 저장소 적재 완료 - version: {}, source: {}, 행정구역 수: {}, 크기: {}KB, 소요 시간: {}ms",
+                loaded.version(), source, loaded.regions().size(), loaded.totalBytes() / 1024,
+                System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 행정구역 경계 응답 바이트 조회
+     * 적재 전이거나 원본(LAND) 단계, 저장소에 없는 행정구역이면 empty
+     */
+    public Optional<StoredBoundary> find(String fullCode, ZoomLevel zoomLevel, PolygonEncoding encoding) {
+        Snapshot current = snapshot;
+        int lod = LODS.indexOf(zoomLevel);
+        if (current == null || lod < 0) {
+            return Optional.empty();
+        }
+        byte[][] responses = current.regions().get(fullCode);
+        if (responses == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new StoredBoundary(responses[lod * ENCODINGS.length + encoding.ordinal()], current.gzipped()));
+    }
+
+    private Snapshot build(long version) {
+        Map<String, byte[][]> regions = new HashMap<>();
+        long[] totalBytes = new long[1];
+        beopjungDongDao.forEachRegionBoundary(rs -> {
+            String fullCode = rs.getString("full_code");
+            try {
+                byte[][] responses = encodeResponses(GisUtils.readWkb(rs.getBytes("boundary_wkb")));
+                regions.put(fullCode, responses);
+                for (byte[] response : responses) {
+                    totalBytes[0] += response.length;
+                }
+            } catch (RuntimeException e) {
+                // 저장소에 없는 행정구역은 기존 조회 경로로 처리됨
+                log.warn("행정구역 경계 저장소 적재 제외 - fullCode: {}, 원인: {}", fullCode, e.getMessage());
+            }
+        });
+        return new Snapshot(version, gzip, regions, totalBytes[0]);
+    }
+
+    private byte[][] encodeResponses(Geometry boundary) {
+        byte[][] responses = new byte[LODS.size() * ENCODINGS.length][];
+        for (int lod = 0; lod < LODS.size(); lod++) {
+            Geometry simplified = TopologyPreservingSimplifier.simplify(boundary, LODS.get(lod).getSimplifyTolerance());
+            for (PolygonEncoding encoding : ENCODINGS) {
+                Object data = encoding == PolygonEncoding.POINTS
+                        ? new PolygonDataResponse(GisUtils.toPackedGeometry(simplified))
+                        : new EncodedPolygonDataResponse(encoding.name(), encoding.encode(simplified));
+                responses[lod * ENCODINGS.length + encoding.ordinal()] = serialize(BaseApiResponse.ok(data));
+            }
+        }
+        return responses;
+    }
+
+    private byte[] serialize(BaseApiResponse<?> response) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            return gzip ? gzip(json) : json;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * 스냅샷 파일 읽기 (파일이 없거나 데이터 버전/형식이 다르면 null)
+     */
+    private Snapshot readSnapshotFile(long version) {
+        if (snapshotFile == null || !Files.exists(snapshotFile)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_FORMAT
+                    || in.readLong() != version || in.readBoolean() != gzip || !readLayout(in)) {
+                log.info("행정구역 경계 스냅샷 파일이 현재 버전/설정과 달라 다시 생성합니다: {}", snapshotFile);
+                return null;
+            }
+
+            int regionCount = in.readInt();
+            Map<String, byte[][]> regions = new HashMap<>(regionCount * 2);
+            long totalBytes = 0;
+            for (int r = 0; r < regionCount; r++) {
+                String fullCode = in.readUTF();
+                byte[][] responses = new byte[LODS.size() * ENCODINGS.length][];
+                for (int i = 0; i < responses.length; i++) {
+                    responses[i] = new byte[in.readInt()];
+                    in.readFully(responses[i]);
+                    totalBytes += responses[i].length;
+                }
+                regions.put(fullCode, responses);
+            }
+            return new Snapshot(version, gzip, regions, totalBytes);
+        } catch (IOException e) {
+            log.warn("행정구역 경계 스냅샷 파일 읽기 실패: {}", snapshotFile, e);
+            return null;
+        }
+    }
+
+    /**
+     * 스냅샷의 단순화 단계(허용 오차)와 인코딩 구성이 현재 코드와 같은지 확인
+     */
+    private static boolean readLayout(DataInputStream in) throws IOException {
+        int lodCount = in.readInt();
+        boolean matches = lodCount == LODS.size();
+        for (int lod = 0; lod < lodCount; lod++) {
+            double tolerance = in.readDouble();
+            if (matches && LODS.get(lod).getSimplifyTolerance() != tolerance) {
+                matches = false;
+            }
+        }
+        int encodingCount = in.readInt();
+        matches = matches && encodingCount == ENCODINGS.length;
+        for (int i = 0; i < encodingCount; i++) {
+            String encoding = in.readUTF();
+            if (matches && !ENCODINGS[i].name().equals(encoding)) {
+                matches = false;
+            }
+        }
+        return matches;
+    }
+
+    private void writeSnapshotFile(Snapshot snapshot) {
+        if (snapshotFile == null) {
+            return;
+        }
+        try {
+            Path directory = snapshotFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, snapshotFile.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_FORMAT);
+                out.writeLong(snapshot.version());
+                out.writeBoolean(snapshot.gzipped());
+                out.writeInt(LODS.size());
+                for (ZoomLevel lod : LODS) {
+                    out.writeDouble(lod.getSimplifyTolerance());
+                }
+                out.writeInt(ENCODINGS.length);
+                for (PolygonEncoding encoding : ENCODINGS) {
+                    out.writeUTF(encoding.name());
+                }
+                out.writeInt(snapshot.regions().size());
+                for (Map.Entry<String, byte[][]> region : snapshot.regions().entrySet()) {
+                    out.writeUTF(region.getKey());
+                    for (byte[] response : region.getValue()) {
+                        out.writeInt(response.length);
+                        out.write(response);
+                    }
+                }
+            }
+            Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("행정구역 경계 스냅샷 파일 쓰기 실패: {}", snapshotFile, e);
+        }
+    }
+
+    /**
+     * 직렬화된 응답 바이트 (공유되므로 수정하지 않아야 함)
+     */
+    public record StoredBoundary(byte[] bytes, boolean gzipped) {
+
+        /**
+         * gzip을 지원하지 않는 클라이언트용 압축 해제된 JSON 바이트
+         */
+        public byte[] json() {
+            if (!gzipped) {
+                return bytes;
+            }
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private record Snapshot(long version, boolean gzipped, Map<String, byte[][]> regions, long totalBytes) {
+    }
+}
@@ -0,0 +1,105 @@
+package com.izza.search.service.cache;
+
+import com.izza.exception.BusinessException;
+import com.izza.search.domain.DataVersionChangedEvent;
+import com.izza.search.domain.ZoomLevel;
+import com.izza.search.persistent.dao.BeopjungDongDao;
+import com.izza.utils.LruCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * 행정구역 경계 LOD(level of detail) 캐시
+ * 행정구역 경계를 처음 조회할 때 줌 레벨별 허용 오차로 한 번에 단순화해 두고,
+ * 이후에는 요청한 줌 레벨에 맞는 단계를 DB 조회 없이 반환함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegionPolygonCache {
+
+    // 가중치 합 상한 (보관 중인 좌표 개수 기준)
+    private static final long MAX_POINTS = 4_000_000L;
+
+    private final BeopjungDongDao beopjungDongDao;
+    private final LruCache<String, RegionLevels> cache = new LruCache<>(MAX_POINTS, RegionLevels::pointCount);
+
+    /**
+     * 줌 레벨에 맞게 단순화된 행정구역 경계 (LAND 줌 레벨은 원본)
+     * 반환한 geometry는 공유되므로 수정하지 않아야 함
+     */
+    public Geometry getBoundary(String fullCode, ZoomLevel zoomLevel) {
+        return cache.computeIfAbsent(fullCode, this::load).get(zoomLevel);
+    }
+
+    /**
+     * 여러 행정구역의 줌 레벨별 경계 일괄 조회
+     * 캐시에 없는 행정구역만 한 번의 쿼리로 조회하며, 경계가 없는 행정구역은 건너뜀
+     */
+    public void forEachBoundary(List<String> fullCodes, ZoomLevel zoomLevel, BiConsumer<String, Geometry> consumer) {
+        List<String> missingCodes = new ArrayList<>();
+        for (String fullCode : fullCodes) {
+            RegionLevels cached = cache.get(fullCode);
+            if (cached != null) {
+                consumer.accept(fullCode, cached.get(zoomLevel));
+            } else {
+                missingCodes.add(fullCode);
+            }
+        }
+
+        beopjungDongDao.findBoundariesByFullCodes(missingCodes).forEach((fullCode, boundary) -> {
+            RegionLevels levels = simplify(boundary);
+            cache.put(fullCode, levels);
+            consumer.accept(fullCode, levels.get(zoomLevel));
+        });
+    }
+
+    @EventListener(condition = "#event.dataSet() == T(com.izza.search.domain.DataSet).BEOPJEONG_DONG")
+    public void invalidate(DataVersionChangedEvent event) {
+        cache.clear();
+        log.info("행정구역 경계 LOD 캐시 초기화 - version: {}", event.version());
+    }
+
+    private RegionLevels load(String fullCode) {
+        Geometry boundary = beopjungDongDao.findBoundaryByFullCode(fullCode)
+                .orElseThrow(() -> new BusinessException("행정구역 경계를 찾을 수 없습니다: " + fullCode, HttpStatus.NOT_FOUND));
+        return simplify(boundary);
+    }
+
+    private static RegionLevels simplify(Geometry boundary) {
+        // 허용 오차가 같은 줌 레벨은 같은 결과를 공유
+        Map<Double, Geometry> byTolerance = new HashMap<>();
+        Map<ZoomLevel, Geometry> levels = new EnumMap<>(ZoomLevel.class);
+        long pointCount = 0;
+        for (ZoomLevel zoomLevel : ZoomLevel.values()) {
+            double tolerance = zoomLevel.getSimplifyTolerance();
+            Geometry level = byTolerance.get(tolerance);
+            if (level == null) {
+                level = tolerance > 0 ? TopologyPreservingSimplifier.simplify(boundary, tolerance) : boundary;
+                byTolerance.put(tolerance, level);
+                pointCount += level.getNumPoints();
+            }
+            levels.put(zoomLevel, level);
+        }
+        return new RegionLevels(levels, pointCount);
+    }
+
+    private record RegionLevels(Map<ZoomLevel, Geometry> levels, long pointCount) {
+
+        Geometry get(ZoomLevel zoomLevel) {
+            return levels.get(zoomLevel);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.izza.search.service.cache;
+
+import com.izza.search.domain.DataSet;
+import com.izza.search.domain.DataVersionChangedEvent;
+import com.izza.search.vo.TileKey;
+import com.izza.utils.LruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 벡터 타일 캐시 (메모리 LRU + 선택적 디스크 캐시)
+ * 디스크 캐시는 app.tile-cache.dir이 설정된 경우에만 사용하며,
+ * 토지/법정동 데이터 버전별 하위 디렉토리에 저장하고 버전이 바뀌면 현재 버전 외의 디렉토리를 모두 삭제함
+ * (재시작 후 버전 태그가 처음부터 다시 시작되어도 이전 실행의 디렉토리가 남지 않도록 함)
+ */
+@Slf4j
+@Component
+public class VectorTileCache {
+
+    private static final long MAX_MEMORY_BYTES = 64L * 1024 * 1024;
+    private static final Pattern VERSION_TAG_PATTERN = Pattern.compile("land-\\d+_dong-\\d+");
+
+    private final LruCache<CacheKey, byte[]> memoryCache =
+            new LruCache<>(MAX_MEMORY_BYTES, tile -> tile.length + 64L);
+    // null이면 디스크 캐시 미사용
+    private final Path diskDirectory;
+    private final Map<DataSet, Long> versions = new EnumMap<>(DataSet.class);
+    private volatile String versionTag;
+    // 디스크 쓰기(읽기 락)와 버전 교체/디렉토리 삭제(쓰기 락)를 분리하여 교체 중에는 이전 버전 태그로 쓰지 않도록 함
+    private final ReadWriteLock diskLock = new ReentrantReadWriteLock();
+
+    public VectorTileCache(@Value("${app.tile-cache.dir:}") String diskDirectory) {
+        this.diskDirectory = diskDirectory.isBlank() ? null : Path.of(diskDirectory);
+        this.versionTag = versionTag();
+    }
+
+    public byte[] get(TileKey tile, Supplier<byte[]> renderer) {
+        String tag = versionTag;
+        CacheKey key = new CacheKey(tag, tile);
+        byte[] cached = memoryCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        byte[] tileBytes = readFromDisk(tag, tile);
+        if (tileBytes == null) {
+            tileBytes = renderer.get();
+            writeToDisk(tag, tile, tileBytes);
+        }
+        // 렌더링 중 버전이 바뀌었으면 이전 버전 키로 저장하지 않음
+        if (tag.equals(versionTag)) {
+            memoryCache.put(key, tileBytes);
+        }
+        return tileBytes;
+    }
+
+    @EventListener(condition = "#event.dataSet() == T(com.izza.search.domain.DataSet).LAND"
+            + " || #event.dataSet() == T(com.izza.search.domain.DataSet).BEOPJEONG_DONG")
+    public void invalidate(DataVersionChangedEvent event) {
+        diskLock.writeLock().lock();
+        try {
+            versions.put(event.dataSet(), event.version());
+            versionTag = versionTag();
+            memoryCache.clear();
+            deleteStaleDirectories();
+        } finally {
+            diskLock.writeLock().unlock();
+        }
+        log.info("벡터 타일 캐시 초기화 - dataSet: {}, version: {}", event.dataSet(), event.version());
+    }
+
+    private String versionTag() {
+        return "land-" + versions.getOrDefault(DataSet.LAND, 0L)
+                + "_dong-" + versions.getOrDefault(DataSet.BEOPJEONG_DONG, 0L);
+    }
+
+    private Path tilePath(String tag, TileKey tile) {
+        return diskDirectory.resolve(tag)
+                .resolve(String.valueOf(tile.z()))
+                .resolve(String.valueOf(tile.x()))
+                .resolve(tile.y() + ".mvt");
+    }
+
+    private byte[] readFromDisk(String tag, TileKey tile) {
+        if (diskDirectory == null) {
+            return null;
+        }
+        Path path = tilePath(tag, tile);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            log.warn("벡터 타일 디스크 캐시 읽기 실패: {}", path, e);
+            return null;
+        }
+    }
+
+    /**
+     * 렌더링 전에 읽은 버전 태그가 현재 태그와 같을 때만 기록
+     * (버전이 바뀐 뒤 이전 태그로 쓰면 삭제된 디렉토리가 다시 생기고 새 데이터가 이전 태그에 저장됨)
+     */
+    private void writeToDisk(String tag, TileKey tile, byte[] tileBytes) {
+        if (diskDirectory == null) {
+            return;
+        }
+        diskLock.readLock().lock();
+        try {
+            if (!tag.equals(versionTag)) {
+                return;
+            }
+            Path path = tilePath(tag, tile);
+            try {
+                Files.createDirectories(path.getParent());
+                Path temp = Files.createTempFile(path.getParent(), tile.y() + "-", ".tmp");
+                Files.write(temp, tileBytes);
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                log.warn("벡터 타일 디스크 캐시 쓰기 실패: {}", path, e);
+            }
+        } finally {
+            diskLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 디스크 캐시 디렉토리에서 현재 버전 태그를 제외한 버전 디렉토리를 모두 삭제
+     */
+    private void deleteStaleDirectories() {
+        if (diskDirectory == null || !Files.isDirectory(diskDirectory)) {
+            return;
+        }
+        List<Path> staleDirectories;
+        try (Stream<Path> children = Files.list(diskDirectory)) {
+            staleDirectories = children
+                    .filter(Files::isDirectory)
+                    .filter(directory -> {
+                        String name = directory.getFileName().toString();
+                        return VERSION_TAG_PATTERN.matcher(name).matches() && !name.equals(versionTag);
+                    })
+                    .toList();
+        } catch (IOException e) {
+            log.warn("벡터 타일 디스크 캐시 목록 조회 실패: {}", diskDirectory, e);
+            return;
+        }
+        staleDirectories.forEach(this::deleteDirectory);
+    }
+
+    private void deleteDirectory(Path directory) {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("벡터 타일 디스크 캐시 삭제 실패: {}", path);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("벡터 타일 디스크 캐시 삭제 실패: {}", directory, e);
+        }
+    }
+
+    private record CacheKey(String versionTag, TileKey tile) {
+    }
+}
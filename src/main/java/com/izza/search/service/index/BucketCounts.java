@@ -0,0 +1,50 @@
+package com.izza.search.service.index;
+
+import java.util.Arrays;
+
+/**
+ * 한 지역 × 한 용도지역 카테고리의 면적 버킷 × 공시지가 버킷별 토지 수
+ */
+interface BucketCounts {
+
+    // 압축 누적 그리드 크기가 토지가 있는 버킷 수의 이 배수를 넘으면 희소 형식으로 보관
+    int SPARSE_RATIO = 8;
+    int MIN_SPARSE_CELLS = 64;
+
+    /**
+     * 버킷 범위(양끝 포함)에 속하는 토지 수
+     */
+    long count(int areaBucketMin, int areaBucketMax, int priceBucketMin, int priceBucketMax);
+
+    /**
+     * 보관 중인 값 개수 (메모리 사용량 확인용)
+     */
+    int cellCount();
+
+    /**
+     * 버킷별 토지 수 목록으로부터 생성
+     * 분포가 넓게 흩어져 압축 누적 그리드가 커지는 경우 희소 형식을 사용함
+     */
+    static BucketCounts fromHistogram(int[] areaBuckets, int[] priceBuckets, int[] counts, int size) {
+        int[] areaKeys = distinctWithZero(areaBuckets, size);
+        int[] priceKeys = distinctWithZero(priceBuckets, size);
+        long cells = (long) areaKeys.length * priceKeys.length;
+        if (cells > MIN_SPARSE_CELLS && cells > (long) size * SPARSE_RATIO) {
+            return SparseBucketCounts.of(areaBuckets, priceBuckets, counts, size);
+        }
+        return PrefixSumGrid.fromHistogram(areaKeys, priceKeys, areaBuckets, priceBuckets, counts, size);
+    }
+
+    private static int[] distinctWithZero(int[] values, int size) {
+        int[] keys = Arrays.copyOf(values, size + 1);
+        keys[size] = 0;
+        Arrays.sort(keys);
+        int count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (i == 0 || keys[i] != keys[i - 1]) {
+                keys[count++] = keys[i];
+            }
+        }
+        return Arrays.copyOf(keys, count);
+    }
+}
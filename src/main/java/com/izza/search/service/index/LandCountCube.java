@@ -0,0 +1,251 @@
+package com.izza.search.service.index;
+
+import com.izza.search.persistent.dto.LandCountQueryResult;
+import com.izza.search.persistent.dto.query.CountLandQuery;
+import com.izza.search.vo.UseZoneCode.UseZoneCategory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 지역 × 용도지역 카테고리별 버킷 개수 그리드 묶음 (불변 스냅샷)
+ * land_statistics_prefix_sum과 같은 버킷 기준(면적 500㎡, 공시지가 50만원 단위)을 사용
+ */
+public final class LandCountCube {
+
+    public static final int AREA_BUCKET_SIZE = 500;
+    public static final int PRICE_BUCKET_SIZE = 500_000;
+    public static final int AREA_BUCKETS = 2000;
+    public static final int PRICE_BUCKETS = 361;
+
+    private static final Map<String, Integer> CATEGORY_INDEXES = new HashMap<>();
+
+    static {
+        for (UseZoneCategory category : UseZoneCategory.values()) {
+            CATEGORY_INDEXES.put(category.name(), category.ordinal());
+        }
+    }
+
+    private final long version;
+    // key_prefix -> 카테고리 ordinal별 그리드 (데이터가 없는 카테고리는 null)
+    private final Map<String, BucketCounts[]> grids;
+    // 적재된 key_prefix 길이 (이 길이의 지역 코드만 조회 가능)
+    private final Set<Integer> keyLengths;
+
+    // 적재된 토지의 면적/공시지가 최솟값, 최댓값 (값 범위를 받지 않은 큐브는 무한대)
+    private final double minLandArea;
+    private final double maxLandArea;
+    private final double minOfficialLandPrice;
+    private final double maxOfficialLandPrice;
+
+    private LandCountCube(long version, Map<String, BucketCounts[]> grids, Set<Integer> keyLengths,
+                          double minLandArea, double maxLandArea,
+                          double minOfficialLandPrice, double maxOfficialLandPrice) {
+        this.version = version;
+        this.grids = grids;
+        this.keyLengths = keyLengths;
+        this.minLandArea = minLandArea;
+        this.maxLandArea = maxLandArea;
+        this.minOfficialLandPrice = minOfficialLandPrice;
+        this.maxOfficialLandPrice = maxOfficialLandPrice;
+    }
+
+    public static Builder builder(long version) {
+        return new Builder(version);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * 해당 길이의 지역 코드 조회를 지원하는지 여부
+     */
+    public boolean covers(int keyLength) {
+        return keyLengths.contains(keyLength);
+    }
+
+    /**
+     * count 결과가 면적/공시지가를 양끝 포함 BETWEEN으로 조회한 값과 같은지 여부
+     * 최솟값은 버킷 시작값이거나 적재된 모든 값 이하, 최댓값은 적재된 모든 값 이상이어야 함
+     * (면적은 소수점 값이 있어 정수 최댓값이 버킷 끝과 일치하지 않으므로 버킷 끝은 허용하지 않음)
+     */
+    public boolean isExact(CountLandQuery query) {
+        return isExactMin(query.landAreaMin(), AREA_BUCKET_SIZE, AREA_BUCKETS, minLandArea)
+                && isExactMax(query.landAreaMax(), maxLandArea)
+                && isExactMin(query.officialLandPriceMin(), PRICE_BUCKET_SIZE, PRICE_BUCKETS, minOfficialLandPrice)
+                && isExactMax(query.officialLandPriceMax(), maxOfficialLandPrice);
+    }
+
+    private static boolean isExactMin(Long min, int bucketSize, int buckets, double minValue) {
+        if (min == null || min <= minValue) {
+            return true;
+        }
+        return min > 0 && min % bucketSize == 0 && min / bucketSize < buckets;
+    }
+
+    private static boolean isExactMax(Long max, double maxValue) {
+        return max == null || max >= maxValue;
+    }
+
+    /**
+     * 지역별 필터 조건에 맞는 토지 수 (카테고리별 결과가 0 이하면 0으로 합산)
+     * 필터 조건을 면적/공시지가 버킷 단위로 내려 계산하므로 버킷 경계와 맞지 않으면 근사값임 (isExact 참고)
+     */
+    public List<LandCountQueryResult> count(CountLandQuery query) {
+        int areaBucketMin = query.landAreaMin() == null ? 0
+                : Math.max(0, (int) (query.landAreaMin() / AREA_BUCKET_SIZE));
+        int areaBucketMax = query.landAreaMax() == null ? AREA_BUCKETS - 1
+                : Math.min(AREA_BUCKETS - 1, (int) (query.landAreaMax() / AREA_BUCKET_SIZE));
+        int priceBucketMin = query.officialLandPriceMin() == null ? 0
+                : Math.max(0, (int) (query.officialLandPriceMin() / PRICE_BUCKET_SIZE));
+        int priceBucketMax = query.officialLandPriceMax() == null ? PRICE_BUCKETS - 1
+                : Math.min(PRICE_BUCKETS - 1, (int) (query.officialLandPriceMax() / PRICE_BUCKET_SIZE));
+
+        // 최솟값이 최댓값보다 크면 모서리 값 계산이 양수가 될 수 있어 바로 0으로 처리
+        boolean empty = areaBucketMin > areaBucketMax || priceBucketMin > priceBucketMax;
+
+        List<LandCountQueryResult> results = new ArrayList<>(query.fullCodePrefixes().size());
+        for (String regionCode : query.fullCodePrefixes()) {
+            BucketCounts[] regionGrids = empty ? null : grids.get(regionCode);
+            long total = 0;
+            if (regionGrids != null) {
+                for (String useZoneCategory : query.useZoneCategories()) {
+                    Integer categoryIndex = CATEGORY_INDEXES.get(useZoneCategory);
+                    BucketCounts grid = categoryIndex == null ? null : regionGrids[categoryIndex];
+                    if (grid == null) {
+                        continue;
+                    }
+                    long categoryCount = grid.count(areaBucketMin, areaBucketMax, priceBucketMin, priceBucketMax);
+                    if (categoryCount > 0) {
+                        total += categoryCount;
+                    }
+                }
+            }
+            results.add(new LandCountQueryResult(regionCode, total));
+        }
+        return results;
+    }
+
+    /**
+     * 스냅샷 적재용 빌더 (단일 스레드에서 사용)
+     * (key_prefix, use_zone_category) 순으로 정렬된 행을 받아 블록 단위로 그리드를 만듦
+     * 한 블록은 누적 개수 행(addCumulative) 또는 버킷별 개수 행(addHistogram) 중 한 가지로만 구성해야 함
+     */
+    public static final class Builder {
+        private final long version;
+        private final Map<String, BucketCounts[]> grids = new HashMap<>();
+        private final Set<Integer> keyLengths = new HashSet<>();
+
+        // 누적 개수 블록의 조밀한 버퍼 (처음 사용할 때 할당하고 블록마다 재사용)
+        private int[] dense;
+        // 버킷별 개수 블록의 버퍼
+        private int[] histogramAreas = new int[256];
+        private int[] histogramPrices = new int[256];
+        private int[] histogramCounts = new int[256];
+        private int histogramSize;
+
+        private String currentKey;
+        private Integer currentCategory;
+        private boolean hasCumulativeRows;
+        private long cellCount;
+        private double minLandArea = Double.POSITIVE_INFINITY;
+        private double maxLandArea = Double.NEGATIVE_INFINITY;
+        private double minOfficialLandPrice = Double.POSITIVE_INFINITY;
+        private double maxOfficialLandPrice = Double.NEGATIVE_INFINITY;
+
+        private Builder(long version) {
+            this.version = version;
+        }
+
+        public void addCumulative(String keyPrefix, String useZoneCategory,
+                                  int areaBucket, int priceBucket, long cumulativeCount) {
+            Integer category = startBlock(keyPrefix, useZoneCategory);
+            if (category == null || !inRange(areaBucket, priceBucket)) {
+                return;
+            }
+            if (dense == null) {
+                dense = new int[AREA_BUCKETS * PRICE_BUCKETS];
+            }
+            dense[areaBucket * PRICE_BUCKETS + priceBucket] = (int) cumulativeCount;
+            hasCumulativeRows = true;
+        }
+
+        public void addHistogram(String keyPrefix, String useZoneCategory,
+                                 int areaBucket, int priceBucket, long landCount) {
+            Integer category = startBlock(keyPrefix, useZoneCategory);
+            if (category == null || !inRange(areaBucket, priceBucket) || landCount <= 0) {
+                return;
+            }
+            if (histogramSize == histogramCounts.length) {
+                int capacity = histogramSize * 2;
+                histogramAreas = Arrays.copyOf(histogramAreas, capacity);
+                histogramPrices = Arrays.copyOf(histogramPrices, capacity);
+                histogramCounts = Arrays.copyOf(histogramCounts, capacity);
+            }
+            histogramAreas[histogramSize] = areaBucket;
+            histogramPrices[histogramSize] = priceBucket;
+            histogramCounts[histogramSize] = (int) landCount;
+            histogramSize++;
+        }
+
+        /**
+         * 버킷별 개수 행에 속한 토지의 면적/공시지가 범위 (isExact 판단용)
+         */
+        public void addValueRange(double minLandArea, double maxLandArea,
+                                  double minOfficialLandPrice, double maxOfficialLandPrice) {
+            this.minLandArea = Math.min(this.minLandArea, minLandArea);
+            this.maxLandArea = Math.max(this.maxLandArea, maxLandArea);
+            this.minOfficialLandPrice = Math.min(this.minOfficialLandPrice, minOfficialLandPrice);
+            this.maxOfficialLandPrice = Math.max(this.maxOfficialLandPrice, maxOfficialLandPrice);
+        }
+
+        private Integer startBlock(String keyPrefix, String useZoneCategory) {
+            Integer category = CATEGORY_INDEXES.get(useZoneCategory);
+            if (!keyPrefix.equals(currentKey) || !Objects.equals(category, currentCategory)) {
+                flush();
+                currentKey = keyPrefix;
+                currentCategory = category;
+            }
+            return category;
+        }
+
+        private static boolean inRange(int areaBucket, int priceBucket) {
+            return areaBucket >= 0 && areaBucket < AREA_BUCKETS && priceBucket >= 0 && priceBucket < PRICE_BUCKETS;
+        }
+
+        private void flush() {
+            BucketCounts grid = null;
+            if (hasCumulativeRows) {
+                grid = PrefixSumGrid.fromCumulative(dense, AREA_BUCKETS, PRICE_BUCKETS);
+                Arrays.fill(dense, 0);
+            } else if (histogramSize > 0) {
+                grid = BucketCounts.fromHistogram(histogramAreas, histogramPrices, histogramCounts, histogramSize);
+            }
+            if (grid != null) {
+                grids.computeIfAbsent(currentKey, key -> new BucketCounts[UseZoneCategory.values().length])
+                        [currentCategory] = grid;
+                keyLengths.add(currentKey.length());
+                cellCount += grid.cellCount();
+            }
+            hasCumulativeRows = false;
+            histogramSize = 0;
+        }
+
+        public long cellCount() {
+            return cellCount;
+        }
+
+        public LandCountCube build() {
+            flush();
+            return new LandCountCube(version, grids, Set.copyOf(keyLengths),
+                    minLandArea, maxLandArea, minOfficialLandPrice, maxOfficialLandPrice);
+        }
+    }
+}
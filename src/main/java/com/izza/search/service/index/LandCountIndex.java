@@ -0,0 +1,118 @@
+package com.izza.search.service.index;
+
+import com.izza.search.domain.DataVersionChangedEvent;
+import com.izza.search.persistent.dao.LandDao;
+import com.izza.search.persistent.dao.LandStatisticsDao;
+import com.izza.search.persistent.dto.LandCountQueryResult;
+import com.izza.search.persistent.dto.query.CountLandQuery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 지역별 토지 수 인메모리 카운트 큐브
+ * 필터 조건별 지역 토지 수를 DB 왕복 없이 계산함
+ * - 시도(2자리): land_statistics_prefix_sum을 상주 (LAND_STATISTICS 버전 변경 시 재적재)
+ * - 시군구(5자리)/읍면동(8자리): land에서 버킷별 토지 수를 직접 집계 (LAND 버전 변경 시 재적재)
+ *   버킷 단위 근사값이 되지 않도록 버킷 경계에 맞는 필터 조건일 때만 사용
+ * 새 스냅샷을 만든 뒤 한 번에 교체함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LandCountIndex {
+
+    private static final int[] REGION_KEY_LENGTHS = {5, 8};
+
+    private final LandStatisticsDao landStatisticsDao;
+    private final LandDao landDao;
+
+    private volatile LandCountCube statisticsCube;
+    private volatile LandCountCube regionCube;
+
+    @EventListener(condition = "#event.dataSet() == T(com.izza.search.domain.DataSet).LAND_STATISTICS")
+    @Transactional(readOnly = true)
+    public void reloadStatistics(DataVersionChangedEvent event) {
+        long startTime = System.currentTimeMillis();
+
+        LandCountCube.Builder builder = LandCountCube.builder(event.version());
+        landStatisticsDao.forEachPrefixSum(rs -> builder.addCumulative(
+                rs.getString("key_prefix"),
+                rs.getString("use_zone_category"),
+                rs.getInt("area_bucket"),
+                rs.getInt("price_bucket"),
+                rs.getLong("cumulative_count")));
+        LandCountCube loaded = builder.build();
+        statisticsCube = loaded;
+
+        log.info("토지 수 카운트 큐브(prefix sum) 적재 완료 - version: {}, 누적 값 수: {}, 소요 시간: {}ms",
+                loaded.version(), builder.cellCount(), System.currentTimeMillis() - startTime);
+    }
+
+    @EventListener(condition = "#event.dataSet() == T(com.izza.search.domain.DataSet).LAND")
+    @Transactional(readOnly = true)
+    public void reloadRegions(DataVersionChangedEvent event) {
+        long startTime = System.currentTimeMillis();
+
+        LandCountCube.Builder builder = LandCountCube.builder(event.version());
+        for (int keyLength : REGION_KEY_LENGTHS) {
+            landDao.forEachLandBucketCount(keyLength, rs -> {
+                builder.addHistogram(
+                        rs.getString("key_prefix"),
+                        rs.getString("use_zone_category"),
+                        rs.getInt("area_bucket"),
+                        rs.getInt("price_bucket"),
+                        rs.getLong("land_count"));
+                builder.addValueRange(
+                        rs.getDouble("min_land_area"),
+                        rs.getDouble("max_land_area"),
+                        rs.getDouble("min_official_land_price"),
+                        rs.getDouble("max_official_land_price"));
+            });
+        }
+        LandCountCube loaded = builder.build();
+        regionCube = loaded;
+
+        log.info("토지 수 카운트 큐브(시군구/읍면동) 적재 완료 - version: {}, 저장 값 수: {}, 소요 시간: {}ms",
+                loaded.version(), builder.cellCount(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 해당 길이의 지역 코드를 계산하는 카운트 큐브의 버전 (적재 전이면 0)
+     * 큐브 교체 전에 계산된 결과와 구분하도록 타일 캐시 키에 사용함
+     */
+    public long snapshotVersion(int keyLength) {
+        for (LandCountCube cube : new LandCountCube[]{statisticsCube, regionCube}) {
+            if (cube != null && cube.covers(keyLength)) {
+                return cube.version();
+            }
+        }
+        return 0L;
+    }
+
+    /**
+     * 지역별 토지 수 (적재 전이거나 해당 길이의 지역 코드를 지원하지 않으면 empty)
+     * 시군구/읍면동은 기존 조회(면적/공시지가 BETWEEN)와 같은 정확한 값이어야 하므로
+     * 필터 조건이 버킷 경계와 맞지 않으면 empty를 반환해 DB에서 조회하도록 함
+     */
+    public Optional<List<LandCountQueryResult>> count(CountLandQuery query) {
+        if (query.fullCodePrefixes().isEmpty()) {
+            return Optional.empty();
+        }
+        int keyLength = query.fullCodePrefixes().getFirst().length();
+        LandCountCube statistics = statisticsCube;
+        if (statistics != null && statistics.covers(keyLength)) {
+            return Optional.of(statistics.count(query));
+        }
+        LandCountCube regions = regionCube;
+        if (regions != null && regions.covers(keyLength) && regions.isExact(query)) {
+            return Optional.of(regions.count(query));
+        }
+        return Optional.empty();
+    }
+}
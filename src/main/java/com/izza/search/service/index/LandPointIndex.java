@@ -0,0 +1,64 @@
+package com.izza.search.service.index;
+
+import com.izza.search.domain.DataVersionChangedEvent;
+import com.izza.search.persistent.dao.LandDao;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 토지 중심점 인메모리 공간 인덱스
+ * LAND 줌 레벨의 마커 조회를 DB 왕복 없이 처리하기 위해 land_gis 중심점을 상주시킴
+ * LAND 데이터 버전이 바뀌면 새 스냅샷을 만든 뒤 한 번에 교체함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LandPointIndex {
+
+    private final LandDao landDao;
+
+    private volatile LandPointSnapshot snapshot;
+
+    @EventListener(condition = "#event.dataSet() == T(com.izza.search.domain.DataSet).LAND")
+    @Transactional(readOnly = true)
+    public void reload(DataVersionChangedEvent event) {
+        long startTime = System.currentTimeMillis();
+
+        LandPointSnapshot.Builder builder = LandPointSnapshot.builder(event.version());
+        landDao.forEachLandPoint(rs -> {
+            double area = rs.getDouble("land_area");
+            if (rs.wasNull()) {
+                area = Double.NaN;
+            }
+            double price = rs.getDouble("official_land_price");
+            if (rs.wasNull()) {
+                price = Double.NaN;
+            }
+            builder.add(
+                    rs.getLong("id"),
+                    rs.getString("address"),
+                    rs.getString("use_zone_category"),
+                    area,
+                    price,
+                    rs.getDouble("center_lng"),
+                    rs.getDouble("center_lat"));
+        });
+        LandPointSnapshot loaded = builder.build();
+        snapshot = loaded;
+
+        log.info("토지 중심점 인덱스 적재 완료 - version: {}, 토지 수: {}, 소요 시간: {}ms",
+                loaded.version(), loaded.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 현재 스냅샷 (초기 적재 전이면 empty)
+     */
+    public Optional<LandPointSnapshot> current() {
+        return Optional.ofNullable(snapshot);
+    }
+}
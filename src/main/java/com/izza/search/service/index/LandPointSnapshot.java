@@ -0,0 +1,222 @@
+package com.izza.search.service.index;
+
+import com.izza.search.persistent.dto.query.LandSearchQuery;
+import com.izza.search.vo.TileKey;
+import com.izza.search.vo.UseZoneCode.UseZoneCategory;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 토지 중심점 인덱스의 불변 스냅샷
+ * 마커 조회와 필터링에 필요한 값만 토지별 primitive 배열(slot 단위)로 보관
+ */
+public final class LandPointSnapshot {
+
+    private static final byte UNKNOWN_CATEGORY = -1;
+    private static final int ALL_CATEGORIES = -1;
+    private static final Map<String, Byte> CATEGORY_CODES = new HashMap<>();
+
+    static {
+        for (UseZoneCategory category : UseZoneCategory.values()) {
+            CATEGORY_CODES.put(category.name(), (byte) category.ordinal());
+        }
+    }
+
+    private final long version;
+    private final int size;
+    private final long[] ids;
+    private final String[] addresses;
+    private final byte[] categories;
+    // 값이 없는 경우 NaN
+    private final double[] areas;
+    private final double[] prices;
+    private final double[] lngs;
+    private final double[] lats;
+    private final PackedPointRTree tree;
+
+    private LandPointSnapshot(Builder builder) {
+        this.version = builder.version;
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.addresses = Arrays.copyOf(builder.addresses, size);
+        this.categories = Arrays.copyOf(builder.categories, size);
+        this.areas = Arrays.copyOf(builder.areas, size);
+        this.prices = Arrays.copyOf(builder.prices, size);
+        this.lngs = Arrays.copyOf(builder.lngs, size);
+        this.lats = Arrays.copyOf(builder.lats, size);
+        this.tree = PackedPointRTree.build(lngs, lats, size);
+    }
+
+    public static Builder builder(long version) {
+        return new Builder(version);
+    }
+
+    /**
+     * 지도 영역과 필터 조건에 맞는 토지의 slot 목록 조회
+     * 필터 값이 null이면 해당 조건은 적용하지 않음
+     */
+    public int[] search(LandSearchQuery query) {
+        return search(query.southWestLng(), query.southWestLat(), query.northEastLng(), query.northEastLat(),
+                query, null);
+    }
+
+    /**
+     * 타일에 속한 토지 중 필터 조건에 맞는 slot 목록 조회 (query의 지도 영역은 사용하지 않음)
+     * 타일 경계 위의 점도 정확히 한 타일에만 포함되도록 타일 좌표로 다시 판정함
+     */
+    public int[] searchTile(TileKey tile, LandSearchQuery query) {
+        double margin = (tile.maxLng() - tile.minLng()) * 1e-6;
+        return search(tile.minLng() - margin, tile.minLat() - margin, tile.maxLng() + margin, tile.maxLat() + margin,
+                query, tile);
+    }
+
+    private int[] search(double minLng, double minLat, double maxLng, double maxLat,
+                         LandSearchQuery query, TileKey tile) {
+        int categoryMask = categoryMask(query.useZoneCategories());
+        boolean hasAreaMin = query.landAreaMin() != null;
+        boolean hasAreaMax = query.landAreaMax() != null;
+        boolean hasPriceMin = query.officialLandPriceMin() != null;
+        boolean hasPriceMax = query.officialLandPriceMax() != null;
+        double areaMin = hasAreaMin ? query.landAreaMin() : 0;
+        double areaMax = hasAreaMax ? query.landAreaMax() : 0;
+        double priceMin = hasPriceMin ? query.officialLandPriceMin() : 0;
+        double priceMax = hasPriceMax ? query.officialLandPriceMax() : 0;
+
+        SlotCollector collector = new SlotCollector();
+        tree.search(minLng, minLat, maxLng, maxLat, slot -> {
+            if (tile != null && !tile.contains(lngs[slot], lats[slot])) {
+                return;
+            }
+            if (categoryMask != ALL_CATEGORIES) {
+                byte category = categories[slot];
+                if (category == UNKNOWN_CATEGORY || (categoryMask & (1 << category)) == 0) {
+                    return;
+                }
+            }
+            // NaN(값 없음)은 조건이 있으면 비교 결과가 false가 되어 제외됨
+            double area = areas[slot];
+            if ((hasAreaMin && !(area >= areaMin)) || (hasAreaMax && !(area <= areaMax))) {
+                return;
+            }
+            double price = prices[slot];
+            if ((hasPriceMin && !(price >= priceMin)) || (hasPriceMax && !(price <= priceMax))) {
+                return;
+            }
+            collector.add(slot);
+        });
+        return collector.toArray();
+    }
+
+    private static int categoryMask(List<String> useZoneCategories) {
+        if (useZoneCategories == null || useZoneCategories.isEmpty()) {
+            return ALL_CATEGORIES;
+        }
+        int mask = 0;
+        for (String useZoneCategory : useZoneCategories) {
+            Byte code = CATEGORY_CODES.get(useZoneCategory);
+            if (code != null) {
+                mask |= 1 << code;
+            }
+        }
+        return mask;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long id(int slot) {
+        return ids[slot];
+    }
+
+    public String address(int slot) {
+        return addresses[slot];
+    }
+
+    public double lng(int slot) {
+        return lngs[slot];
+    }
+
+    public double lat(int slot) {
+        return lats[slot];
+    }
+
+    /**
+     * 스냅샷 적재용 빌더 (단일 스레드에서 사용)
+     */
+    public static final class Builder {
+        private static final int INITIAL_CAPACITY = 1 << 16;
+
+        private final long version;
+        private int size;
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private String[] addresses = new String[INITIAL_CAPACITY];
+        private byte[] categories = new byte[INITIAL_CAPACITY];
+        private double[] areas = new double[INITIAL_CAPACITY];
+        private double[] prices = new double[INITIAL_CAPACITY];
+        private double[] lngs = new double[INITIAL_CAPACITY];
+        private double[] lats = new double[INITIAL_CAPACITY];
+
+        private Builder(long version) {
+            this.version = version;
+        }
+
+        public Builder add(long id, String address, String useZoneCategory,
+                           double area, double price, double lng, double lat) {
+            if (size == ids.length) {
+                grow();
+            }
+            ids[size] = id;
+            addresses[size] = address;
+            Byte category = useZoneCategory != null ? CATEGORY_CODES.get(useZoneCategory) : null;
+            categories[size] = category != null ? category : UNKNOWN_CATEGORY;
+            areas[size] = area;
+            prices[size] = price;
+            lngs[size] = lng;
+            lats[size] = lat;
+            size++;
+            return this;
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            addresses = Arrays.copyOf(addresses, capacity);
+            categories = Arrays.copyOf(categories, capacity);
+            areas = Arrays.copyOf(areas, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            lngs = Arrays.copyOf(lngs, capacity);
+            lats = Arrays.copyOf(lats, capacity);
+        }
+
+        public LandPointSnapshot build() {
+            return new LandPointSnapshot(this);
+        }
+    }
+
+    /**
+     * 조회 결과 slot을 모으는 가변 int 배열
+     */
+    private static final class SlotCollector {
+        private int[] slots = new int[256];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(slots, size);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.izza.search.service.index;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 점 데이터 전용 정적 R-tree (Packed Hilbert R-tree)
+ * 점을 힐베르트 곡선 순서로 정렬한 뒤 NODE_SIZE 개씩 묶어 상위 노드를 구성하며,
+ * 모든 좌표와 노드 경계는 primitive 배열에 보관하여 객체 생성 없이 조회함
+ */
+public final class PackedPointRTree {
+
+    private static final int NODE_SIZE = 16;
+    private static final int HILBERT_MAX = (1 << 16) - 1;
+
+    private final int size;
+    // 힐베르트 순서로 정렬된 좌표와 원본 인덱스
+    private final double[] xs;
+    private final double[] ys;
+    private final int[] indexes;
+    // levelBoxes[0]은 리프 노드, 마지막 레벨이 루트 (노드당 minX, minY, maxX, maxY)
+    private final double[][] levelBoxes;
+
+    private PackedPointRTree(double[] xs, double[] ys, int[] indexes, double[][] levelBoxes) {
+        this.size = indexes.length;
+        this.xs = xs;
+        this.ys = ys;
+        this.indexes = indexes;
+        this.levelBoxes = levelBoxes;
+    }
+
+    /**
+     * 좌표 배열로 트리 생성
+     * @param xs 경도 배열
+     * @param ys 위도 배열
+     * @param size 유효한 점 개수
+     */
+    public static PackedPointRTree build(double[] xs, double[] ys, int size) {
+        if (size == 0) {
+            return new PackedPointRTree(new double[0], new double[0], new int[0], new double[0][]);
+        }
+
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            minX = Math.min(minX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxX = Math.max(maxX, xs[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+        double width = maxX - minX > 0 ? maxX - minX : 1;
+        double height = maxY - minY > 0 ? maxY - minY : 1;
+
+        // 상위 32비트: 힐베르트 값, 하위 31비트: 원본 인덱스 (long 정렬 한 번으로 순서 결정)
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            int hx = (int) (HILBERT_MAX * (xs[i] - minX) / width);
+            int hy = (int) (HILBERT_MAX * (ys[i] - minY) / height);
+            keys[i] = (hilbert(hx, hy) << 31) | i;
+        }
+        Arrays.sort(keys);
+
+        double[] sortedXs = new double[size];
+        double[] sortedYs = new double[size];
+        int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            int index = (int) (keys[i] & 0x7FFFFFFFL);
+            sortedXs[i] = xs[index];
+            sortedYs[i] = ys[index];
+            indexes[i] = index;
+        }
+
+        return new PackedPointRTree(sortedXs, sortedYs, indexes, buildLevels(sortedXs, sortedYs, size));
+    }
+
+    private static double[][] buildLevels(double[] xs, double[] ys, int size) {
+        int levelCount = 1;
+        for (int nodes = ceilDiv(size, NODE_SIZE); nodes > 1; nodes = ceilDiv(nodes, NODE_SIZE)) {
+            levelCount++;
+        }
+
+        double[][] levels = new double[levelCount][];
+
+        // 리프 노드: 연속된 점 NODE_SIZE 개의 경계
+        int leafCount = ceilDiv(size, NODE_SIZE);
+        double[] leaves = new double[leafCount * 4];
+        for (int node = 0; node < leafCount; node++) {
+            int start = node * NODE_SIZE;
+            int end = Math.min(start + NODE_SIZE, size);
+            double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+            for (int i = start; i < end; i++) {
+                minX = Math.min(minX, xs[i]);
+                minY = Math.min(minY, ys[i]);
+                maxX = Math.max(maxX, xs[i]);
+                maxY = Math.max(maxY, ys[i]);
+            }
+            leaves[node * 4] = minX;
+            leaves[node * 4 + 1] = minY;
+            leaves[node * 4 + 2] = maxX;
+            leaves[node * 4 + 3] = maxY;
+        }
+        levels[0] = leaves;
+
+        // 상위 노드: 하위 노드 NODE_SIZE 개의 경계
+        for (int level = 1; level < levelCount; level++) {
+            double[] children = levels[level - 1];
+            int childCount = children.length / 4;
+            int nodeCount = ceilDiv(childCount, NODE_SIZE);
+            double[] boxes = new double[nodeCount * 4];
+            for (int node = 0; node < nodeCount; node++) {
+                int start = node * NODE_SIZE;
+                int end = Math.min(start + NODE_SIZE, childCount);
+                double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+                double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+                for (int child = start; child < end; child++) {
+                    minX = Math.min(minX, children[child * 4]);
+                    minY = Math.min(minY, children[child * 4 + 1]);
+                    maxX = Math.max(maxX, children[child * 4 + 2]);
+                    maxY = Math.max(maxY, children[child * 4 + 3]);
+                }
+                boxes[node * 4] = minX;
+                boxes[node * 4 + 1] = minY;
+                boxes[node * 4 + 2] = maxX;
+                boxes[node * 4 + 3] = maxY;
+            }
+            levels[level] = boxes;
+        }
+        return levels;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 영역 내부에 포함되는 점의 원본 인덱스를 전달
+     * 경계선 위의 점은 제외 (PostGIS ST_Contains와 동일)
+     */
+    public void search(double minX, double minY, double maxX, double maxY, IntConsumer consumer) {
+        if (size == 0 || !(minX < maxX) || !(minY < maxY)) {
+            return;
+        }
+        int top = levelBoxes.length - 1;
+        int nodeCount = levelBoxes[top].length / 4;
+        for (int node = 0; node < nodeCount; node++) {
+            search(top, node, minX, minY, maxX, maxY, consumer);
+        }
+    }
+
+    private void search(int level, int node, double minX, double minY, double maxX, double maxY,
+                        IntConsumer consumer) {
+        double[] boxes = levelBoxes[level];
+        double nodeMinX = boxes[node * 4];
+        double nodeMinY = boxes[node * 4 + 1];
+        double nodeMaxX = boxes[node * 4 + 2];
+        double nodeMaxY = boxes[node * 4 + 3];
+
+        if (nodeMinX >= maxX || nodeMinY >= maxY || nodeMaxX <= minX || nodeMaxY <= minY) {
+            return;
+        }
+
+        // 노드 전체가 영역 내부면 하위 점을 검사 없이 전달 (점은 힐베르트 순서로 연속 저장됨)
+        if (nodeMinX > minX && nodeMinY > minY && nodeMaxX < maxX && nodeMaxY < maxY) {
+            long span = pow(NODE_SIZE, level + 1);
+            int start = (int) (node * span);
+            int end = (int) Math.min(start + span, size);
+            for (int i = start; i < end; i++) {
+                consumer.accept(indexes[i]);
+            }
+            return;
+        }
+
+        int childStart = node * NODE_SIZE;
+        if (level == 0) {
+            int end = Math.min(childStart + NODE_SIZE, size);
+            for (int i = childStart; i < end; i++) {
+                double x = xs[i];
+                double y = ys[i];
+                if (x > minX && x < maxX && y > minY && y < maxY) {
+                    consumer.accept(indexes[i]);
+                }
+            }
+            return;
+        }
+
+        int childCount = levelBoxes[level - 1].length / 4;
+        int end = Math.min(childStart + NODE_SIZE, childCount);
+        for (int child = childStart; child < end; child++) {
+            search(level - 1, child, minX, minY, maxX, maxY, consumer);
+        }
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+
+    /**
+     * 16비트 정수 좌표의 힐베르트 곡선 인덱스 (32비트)
+     */
+    private static long hilbert(int x, int y) {
+        int a = x ^ y;
+        int b = 0xFFFF ^ a;
+        int c = 0xFFFF ^ (x | y);
+        int d = x & (y ^ 0xFFFF);
+
+        int A = a | (b >> 1);
+        int B = (a >> 1) ^ a;
+        int C = ((c >> 1) ^ (b & (d >> 1))) ^ c;
+        int D = ((a & (c >> 1)) ^ (d >> 1)) ^ d;
+
+        a = A; b = B; c = C; d = D;
+        A = (a & (a >> 2)) ^ (b & (b >> 2));
+        B = (a & (b >> 2)) ^ (b & ((a ^ b) >> 2));
+        C ^= (a & (c >> 2)) ^ (b & (d >> 2));
+        D ^= (b & (c >> 2)) ^ ((a ^ b) & (d >> 2));
+
+        a = A; b = B; c = C; d = D;
+        A = (a & (a >> 4)) ^ (b & (b >> 4));
+        B = (a & (b >> 4)) ^ (b & ((a ^ b) >> 4));
+        C ^= (a & (c >> 4)) ^ (b & (d >> 4));
+        D ^= (b & (c >> 4)) ^ ((a ^ b) & (d >> 4));
+
+        a = A; b = B; c = C; d = D;
+        C ^= (a & (c >> 8)) ^ (b & (d >> 8));
+        D ^= (b & (c >> 8)) ^ ((a ^ b) & (d >> 8));
+
+        a = C ^ (C >> 1);
+        b = D ^ (D >> 1);
+
+        int i0 = x ^ y;
+        int i1 = b | (0xFFFF ^ (i0 | a));
+
+        i0 = (i0 | (i0 << 8)) & 0x00FF00FF;
+        i0 = (i0 | (i0 << 4)) & 0x0F0F0F0F;
+        i0 = (i0 | (i0 << 2)) & 0x33333333;
+        i0 = (i0 | (i0 << 1)) & 0x55555555;
+
+        i1 = (i1 | (i1 << 8)) & 0x00FF00FF;
+        i1 = (i1 | (i1 << 4)) & 0x0F0F0F0F;
+        i1 = (i1 | (i1 << 2)) & 0x33333333;
+        i1 = (i1 | (i1 << 1)) & 0x55555555;
+
+        return ((i1 << 1) | i0) & 0xFFFFFFFFL;
+    }
+}
@@ -0,0 +1,133 @@
+package com.izza.search.service.index;
+
+import java.util.Arrays;
+
+/**
+ * 면적 버킷 × 공시지가 버킷 2차원 누적 개수 (한 지역 × 한 용도지역 카테고리)
+ * 값이 변하지 않는 연속 구간의 행/열을 하나로 합쳐(좌표 압축) 실제 데이터 분포에 비례하는 크기로 보관
+ * P(a, p) = 면적 버킷 <= a, 공시지가 버킷 <= p 인 토지 수
+ */
+public final class PrefixSumGrid implements BucketCounts {
+
+    private static final PrefixSumGrid EMPTY = new PrefixSumGrid(new int[]{0}, new int[]{0}, new int[]{0});
+
+    // 오름차순, 항상 0 포함
+    private final int[] areaKeys;
+    private final int[] priceKeys;
+    // areaKeys.length × priceKeys.length
+    private final int[] cumulative;
+
+    private PrefixSumGrid(int[] areaKeys, int[] priceKeys, int[] cumulative) {
+        this.areaKeys = areaKeys;
+        this.priceKeys = priceKeys;
+        this.cumulative = cumulative;
+    }
+
+    /**
+     * 조밀한 누적 개수 배열(면적 버킷 우선, 행 길이 priceBuckets)로부터 생성
+     */
+    public static PrefixSumGrid fromCumulative(int[] dense, int areaBuckets, int priceBuckets) {
+        int[] areaKeys = new int[areaBuckets];
+        int areaKeyCount = 0;
+        for (int a = 0; a < areaBuckets; a++) {
+            if (a == 0 || !Arrays.equals(
+                    dense, a * priceBuckets, (a + 1) * priceBuckets,
+                    dense, (a - 1) * priceBuckets, a * priceBuckets)) {
+                areaKeys[areaKeyCount++] = a;
+            }
+        }
+
+        // 압축된 행이 모두 같은 값을 갖는 열은 하나로 합침
+        int[] priceKeys = new int[priceBuckets];
+        int priceKeyCount = 0;
+        for (int p = 0; p < priceBuckets; p++) {
+            boolean changed = p == 0;
+            for (int i = 0; i < areaKeyCount && !changed; i++) {
+                int row = areaKeys[i] * priceBuckets;
+                changed = dense[row + p] != dense[row + p - 1];
+            }
+            if (changed) {
+                priceKeys[priceKeyCount++] = p;
+            }
+        }
+
+        if (areaKeyCount == 1 && priceKeyCount == 1 && dense[0] == 0) {
+            return EMPTY;
+        }
+
+        int[] cumulative = new int[areaKeyCount * priceKeyCount];
+        for (int i = 0; i < areaKeyCount; i++) {
+            int row = areaKeys[i] * priceBuckets;
+            for (int j = 0; j < priceKeyCount; j++) {
+                cumulative[i * priceKeyCount + j] = dense[row + priceKeys[j]];
+            }
+        }
+
+        return new PrefixSumGrid(
+                Arrays.copyOf(areaKeys, areaKeyCount),
+                Arrays.copyOf(priceKeys, priceKeyCount),
+                cumulative);
+    }
+
+    /**
+     * 버킷별 토지 수 목록으로부터 생성 (areaKeys/priceKeys는 목록의 버킷 값과 0을 모두 포함하는 정렬된 키)
+     */
+    static PrefixSumGrid fromHistogram(int[] areaKeys, int[] priceKeys,
+                                       int[] areaBuckets, int[] priceBuckets, int[] counts, int size) {
+        int columns = priceKeys.length;
+        int[] cumulative = new int[areaKeys.length * columns];
+        for (int k = 0; k < size; k++) {
+            int i = Arrays.binarySearch(areaKeys, areaBuckets[k]);
+            int j = Arrays.binarySearch(priceKeys, priceBuckets[k]);
+            cumulative[i * columns + j] += counts[k];
+        }
+        for (int i = 0; i < areaKeys.length; i++) {
+            for (int j = 0; j < columns; j++) {
+                int cell = i * columns + j;
+                if (i > 0) {
+                    cumulative[cell] += cumulative[cell - columns];
+                }
+                if (j > 0) {
+                    cumulative[cell] += cumulative[cell - 1];
+                }
+                if (i > 0 && j > 0) {
+                    cumulative[cell] -= cumulative[cell - columns - 1];
+                }
+            }
+        }
+        return new PrefixSumGrid(areaKeys, priceKeys, cumulative);
+    }
+
+    /**
+     * 버킷 범위(양끝 포함)에 속하는 토지 수 (2D prefix sum 공식: p1 - p2 - p3 + p4)
+     */
+    @Override
+    public long count(int areaBucketMin, int areaBucketMax, int priceBucketMin, int priceBucketMax) {
+        return cumulativeAt(areaBucketMax, priceBucketMax)
+                - cumulativeAt(areaBucketMin - 1, priceBucketMax)
+                - cumulativeAt(areaBucketMax, priceBucketMin - 1)
+                + cumulativeAt(areaBucketMin - 1, priceBucketMin - 1);
+    }
+
+    private long cumulativeAt(int areaBucket, int priceBucket) {
+        if (areaBucket < 0 || priceBucket < 0) {
+            return 0;
+        }
+        int i = floorIndex(areaKeys, areaBucket);
+        int j = floorIndex(priceKeys, priceBucket);
+        return cumulative[i * priceKeys.length + j];
+    }
+
+    /**
+     * value 이하인 가장 큰 키의 위치 (keys[0] == 0 이므로 value >= 0 이면 항상 존재)
+     */
+    private static int floorIndex(int[] keys, int value) {
+        int index = Arrays.binarySearch(keys, value);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    @Override
+    public int cellCount() {
+        return cumulative.length;
+    }
+}
@@ -0,0 +1,141 @@
+package com.izza.search.service.index;
+
+import com.izza.search.domain.BeopjungDongType;
+import com.izza.search.persistent.model.BeopjungDong;
+import com.izza.search.vo.Point;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 행정구역(법정동) 계층의 불변 스냅샷
+ * 코드 → 행정구역, 상위 코드 → 하위 행정구역 목록, 유형별 중심점 공간 인덱스를 보관
+ * 경계 폴리곤은 보관하지 않으며, 반환하는 BeopjungDong 인스턴스는 공유되므로 수정하지 않아야 함
+ */
+public final class RegionHierarchy {
+
+    private final long version;
+    private final Map<String, BeopjungDong> regionsByCode;
+    private final Map<String, List<BeopjungDong>> childrenByParentCode;
+    private final Map<BeopjungDongType, TypeIndex> typeIndexes;
+
+    private RegionHierarchy(long version, Map<String, BeopjungDong> regionsByCode,
+                            Map<String, List<BeopjungDong>> childrenByParentCode,
+                            Map<BeopjungDongType, TypeIndex> typeIndexes) {
+        this.version = version;
+        this.regionsByCode = regionsByCode;
+        this.childrenByParentCode = childrenByParentCode;
+        this.typeIndexes = typeIndexes;
+    }
+
+    /**
+     * full_code 순으로 정렬된 행정구역 목록으로 생성
+     */
+    public static RegionHierarchy of(long version, List<BeopjungDong> regions) {
+        Map<String, BeopjungDong> regionsByCode = new HashMap<>(regions.size() * 2);
+        Map<String, List<BeopjungDong>> childrenByParentCode = new HashMap<>();
+        Map<BeopjungDongType, List<BeopjungDong>> regionsByType = new EnumMap<>(BeopjungDongType.class);
+
+        for (BeopjungDong region : regions) {
+            regionsByCode.put(region.getFullCode(), region);
+            if (region.getParentCode() != null) {
+                childrenByParentCode.computeIfAbsent(region.getParentCode(), code -> new ArrayList<>()).add(region);
+            }
+            BeopjungDongType type = typeOf(region);
+            if (type != null) {
+                regionsByType.computeIfAbsent(type, t -> new ArrayList<>()).add(region);
+            }
+        }
+        childrenByParentCode.replaceAll((code, children) -> List.copyOf(children));
+
+        Map<BeopjungDongType, TypeIndex> typeIndexes = new EnumMap<>(BeopjungDongType.class);
+        regionsByType.forEach((type, typeRegions) -> typeIndexes.put(type, TypeIndex.of(typeRegions)));
+
+        return new RegionHierarchy(version, regionsByCode, childrenByParentCode, typeIndexes);
+    }
+
+    private static BeopjungDongType typeOf(BeopjungDong region) {
+        // dong_type은 char(4)라 공백이 붙어 올 수 있음
+        return region.getType() == null ? null : typeOf(region.getType().strip());
+    }
+
+    private static BeopjungDongType typeOf(String type) {
+        try {
+            return BeopjungDongType.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return regionsByCode.size();
+    }
+
+    public Optional<BeopjungDong> findByFullCode(String fullCode) {
+        return Optional.ofNullable(regionsByCode.get(fullCode));
+    }
+
+    /**
+     * 상위 코드가 parentCode인 행정구역 목록 (full_code 순)
+     */
+    public List<BeopjungDong> findByParentCode(String parentCode) {
+        return childrenByParentCode.getOrDefault(parentCode, Collections.emptyList());
+    }
+
+    /**
+     * 유형별 전체 목록 (full_code 순)
+     */
+    public List<BeopjungDong> findAllByType(BeopjungDongType type) {
+        TypeIndex index = typeIndexes.get(type);
+        return index == null ? Collections.emptyList() : index.regions;
+    }
+
+    /**
+     * 지도 영역 안(경계 제외)에 중심점이 있는 해당 유형의 행정구역 목록
+     */
+    public List<BeopjungDong> findInBounds(String type,
+                                           double minLng, double minLat, double maxLng, double maxLat) {
+        BeopjungDongType dongType = typeOf(type);
+        TypeIndex index = dongType == null ? null : typeIndexes.get(dongType);
+        if (index == null) {
+            return Collections.emptyList();
+        }
+        List<BeopjungDong> results = new ArrayList<>();
+        index.tree.search(minLng, minLat, maxLng, maxLat,
+                slot -> results.add(index.regions.get(index.regionIndexes[slot])));
+        return results;
+    }
+
+    /**
+     * 유형별 행정구역 목록과 중심점 R-tree (tree slot -> regions 위치는 regionIndexes로 변환)
+     */
+    private record TypeIndex(List<BeopjungDong> regions, int[] regionIndexes, PackedPointRTree tree) {
+
+        static TypeIndex of(List<BeopjungDong> regions) {
+            int[] regionIndexes = new int[regions.size()];
+            double[] lngs = new double[regions.size()];
+            double[] lats = new double[regions.size()];
+            int size = 0;
+            for (int i = 0; i < regions.size(); i++) {
+                Point centerPoint = regions.get(i).getCenterPoint();
+                if (centerPoint == null) {
+                    continue;
+                }
+                regionIndexes[size] = i;
+                lngs[size] = centerPoint.lng();
+                lats[size] = centerPoint.lat();
+                size++;
+            }
+            return new TypeIndex(List.copyOf(regions), regionIndexes, PackedPointRTree.build(lngs, lats, size));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.izza.search.service.index;
+
+import com.izza.search.domain.BeopjungDongType;
+import com.izza.search.domain.DataVersionChangedEvent;
+import com.izza.search.persistent.dao.BeopjungDongDao;
+import com.izza.search.persistent.dto.query.MapSearchQuery;
+import com.izza.search.persistent.model.BeopjungDong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 행정구역 계층 인메모리 캐시
+ * 수천 건 규모로 거의 변하지 않는 beopjeong_dong을 상주시켜 행정구역 조회를 DB 왕복 없이 처리함
+ * BEOPJEONG_DONG 데이터 버전이 바뀌면 새 스냅샷을 만든 뒤 한 번에 교체하며, 적재 전에는 DB에서 조회함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegionHierarchyIndex {
+
+    private final BeopjungDongDao beopjungDongDao;
+
+    private volatile RegionHierarchy hierarchy;
+
+    /**
+     * 새 계층으로 시군구 목록을 조회하는 작업(AreaDetailWarmupJob)보다 먼저 실행됨
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(condition = "#event.dataSet() == T(com.izza.search.domain.DataSet).BEOPJEONG_DONG")
+    public void reload(DataVersionChangedEvent event) {
+        long startTime = System.currentTimeMillis();
+
+        RegionHierarchy loaded = RegionHierarchy.of(event.version(), beopjungDongDao.findAllWithoutBoundary());
+        hierarchy = loaded;
+
+        log.info("행정구역 계층 적재 완료 - version: {}, 행정구역 수: {}, 소요 시간: {}ms",
+                loaded.version(), loaded.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 현재 행정구역 계층 스냅샷 버전 (적재 전이면 0)
+     */
+    public long snapshotVersion() {
+        RegionHierarchy current = hierarchy;
+        return current != null ? current.version() : 0L;
+    }
+
+    /**
+     * 줌 레벨 유형의 행정구역 중 지도 영역 안에 중심점이 있는 목록
+     */
+    public List<BeopjungDong> findAreasByZoomLevel(MapSearchQuery query) {
+        RegionHierarchy current = hierarchy;
+        if (current == null) {
+            return beopjungDongDao.findAreasByZoomLevel(query);
+        }
+        return current.findInBounds(
+                query.zoomLevel().getType(),
+                query.southWest().lng(), query.southWest().lat(),
+                query.northEast().lng(), query.northEast().lat());
+    }
+
+    /**
+     * 행정구역 코드로 조회 (경계 폴리곤은 포함하지 않음)
+     */
+    public Optional<BeopjungDong> findByFullCode(String fullCode) {
+        RegionHierarchy current = hierarchy;
+        if (current == null) {
+            return beopjungDongDao.findByFullCode(fullCode);
+        }
+        return current.findByFullCode(fullCode);
+    }
+
+    public List<BeopjungDong> findAllSido() {
+        RegionHierarchy current = hierarchy;
+        if (current == null) {
+            return beopjungDongDao.findAllSido();
+        }
+        return current.findAllByType(BeopjungDongType.SIDO);
+    }
+
+    public List<BeopjungDong> findAllSig() {
+        RegionHierarchy current = hierarchy;
+        if (current == null) {
+            return beopjungDongDao.findAllWithoutBoundary().stream()
+                    .filter(region -> region.getType() != null
+                            && BeopjungDongType.SIG.name().equals(region.getType().trim()))
+                    .toList();
+        }
+        return current.findAllByType(BeopjungDongType.SIG);
+    }
+
+    public List<BeopjungDong> findByParentCode(String parentCode) {
+        RegionHierarchy current = hierarchy;
+        if (current == null) {
+            return beopjungDongDao.findByParentCode(parentCode);
+        }
+        return current.findByParentCode(parentCode);
+    }
+}
@@ -0,0 +1,72 @@
+package com.izza.search.service.index;
+
+import java.util.Arrays;
+
+/**
+ * 토지가 있는 버킷만 면적 버킷 순으로 보관하는 희소 형식
+ * 면적 범위는 이진 탐색으로 찾고, 그 안에서 공시지가 조건만 확인함
+ */
+final class SparseBucketCounts implements BucketCounts {
+
+    private final int[] areaBuckets;
+    private final int[] priceBuckets;
+    private final int[] counts;
+
+    private SparseBucketCounts(int[] areaBuckets, int[] priceBuckets, int[] counts) {
+        this.areaBuckets = areaBuckets;
+        this.priceBuckets = priceBuckets;
+        this.counts = counts;
+    }
+
+    static SparseBucketCounts of(int[] areaBuckets, int[] priceBuckets, int[] counts, int size) {
+        Integer[] indexes = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        Arrays.sort(indexes, (left, right) -> Integer.compare(areaBuckets[left], areaBuckets[right]));
+
+        int[] sortedAreas = new int[size];
+        int[] sortedPrices = new int[size];
+        int[] sortedCounts = new int[size];
+        for (int i = 0; i < size; i++) {
+            sortedAreas[i] = areaBuckets[indexes[i]];
+            sortedPrices[i] = priceBuckets[indexes[i]];
+            sortedCounts[i] = counts[indexes[i]];
+        }
+        return new SparseBucketCounts(sortedAreas, sortedPrices, sortedCounts);
+    }
+
+    @Override
+    public long count(int areaBucketMin, int areaBucketMax, int priceBucketMin, int priceBucketMax) {
+        long total = 0;
+        for (int i = lowerBound(areaBucketMin); i < areaBuckets.length && areaBuckets[i] <= areaBucketMax; i++) {
+            int price = priceBuckets[i];
+            if (price >= priceBucketMin && price <= priceBucketMax) {
+                total += counts[i];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * value 이상인 첫 면적 버킷 위치
+     */
+    private int lowerBound(int value) {
+        int low = 0;
+        int high = areaBuckets.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (areaBuckets[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public int cellCount() {
+        return counts.length;
+    }
+}
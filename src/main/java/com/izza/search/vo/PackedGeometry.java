@@ -0,0 +1,171 @@
+package com.izza.search.vo;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 폴리곤 외곽선 좌표를 primitive 배열로 보관하는 값 객체
+ * 좌표마다 Point 객체를 만들지 않고 [lng0, lat0, lng1, lat1, ...] 하나의 배열과 외곽선 시작 위치만 보관함
+ * JSON은 기존 List<List<Point>>와 같은 형태로 기록됨
+ */
+@Schema(description = "폴리곤(외곽선)별 좌표점 리스트", type = "array")
+@JsonSerialize(using = PackedGeometry.RingListSerializer.class)
+public final class PackedGeometry {
+
+    public static final PackedGeometry EMPTY = new PackedGeometry(new double[0], new int[]{0});
+
+    private final double[] coordinates;
+    // 외곽선 r의 좌표 index 범위 = [ringOffsets[r], ringOffsets[r + 1])
+    private final int[] ringOffsets;
+
+    private PackedGeometry(double[] coordinates, int[] ringOffsets) {
+        this.coordinates = coordinates;
+        this.ringOffsets = ringOffsets;
+    }
+
+    /**
+     * 배열을 복사하지 않고 생성하므로 전달한 배열은 이후 수정하지 않아야 함
+     *
+     * @param coordinates 모든 외곽선의 [lng, lat, ...] 좌표 (길이는 ringOffsets 마지막 값 × 2)
+     * @param ringOffsets 외곽선별 시작 좌표 index와 마지막 값으로 전체 좌표 개수 (길이는 외곽선 개수 + 1)
+     */
+    public static PackedGeometry of(double[] coordinates, int[] ringOffsets) {
+        if (ringOffsets.length == 0 || coordinates.length != ringOffsets[ringOffsets.length - 1] * 2) {
+            throw new IllegalArgumentException("좌표 개수와 외곽선 범위가 일치하지 않습니다.");
+        }
+        return new PackedGeometry(coordinates, ringOffsets);
+    }
+
+    public static PackedGeometry ofRings(List<List<Point>> rings) {
+        int[] ringOffsets = new int[rings.size() + 1];
+        for (int r = 0; r < rings.size(); r++) {
+            ringOffsets[r + 1] = ringOffsets[r] + rings.get(r).size();
+        }
+        double[] coordinates = new double[ringOffsets[rings.size()] * 2];
+        int index = 0;
+        for (List<Point> ring : rings) {
+            for (Point point : ring) {
+                coordinates[index++] = point.lng();
+                coordinates[index++] = point.lat();
+            }
+        }
+        return new PackedGeometry(coordinates, ringOffsets);
+    }
+
+    public static PackedGeometry ofRing(List<Point> ring) {
+        return ofRings(List.of(ring));
+    }
+
+    public int ringCount() {
+        return ringOffsets.length - 1;
+    }
+
+    public int pointCount() {
+        return ringOffsets[ringOffsets.length - 1];
+    }
+
+    public boolean isEmpty() {
+        return pointCount() == 0;
+    }
+
+    /**
+     * 외곽선 ring의 첫 좌표 index
+     */
+    public int ringStart(int ring) {
+        return ringOffsets[ring];
+    }
+
+    /**
+     * 외곽선 ring의 마지막 좌표 다음 index
+     */
+    public int ringEnd(int ring) {
+        return ringOffsets[ring + 1];
+    }
+
+    public double lng(int index) {
+        return coordinates[index * 2];
+    }
+
+    public double lat(int index) {
+        return coordinates[index * 2 + 1];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PackedGeometry other)) {
+            return false;
+        }
+        return Arrays.equals(ringOffsets, other.ringOffsets) && Arrays.equals(coordinates, other.coordinates);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(ringOffsets) + Arrays.hashCode(coordinates);
+    }
+
+    @Override
+    public String toString() {
+        return "PackedGeometry{rings=" + ringCount() + ", points=" + pointCount() + "}";
+    }
+
+    private static void writePoint(JsonGenerator generator, PackedGeometry geometry, int index) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("lng", geometry.lng(index));
+        generator.writeNumberField("lat", geometry.lat(index));
+        generator.writeEndObject();
+    }
+
+    /**
+     * 외곽선별 좌표 리스트 [[{lng, lat}, ...], ...] 로 기록
+     */
+    public static class RingListSerializer extends StdSerializer<PackedGeometry> {
+
+        public RingListSerializer() {
+            super(PackedGeometry.class);
+        }
+
+        @Override
+        public void serialize(PackedGeometry value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartArray();
+            for (int r = 0; r < value.ringCount(); r++) {
+                generator.writeStartArray();
+                for (int i = value.ringStart(r); i < value.ringEnd(r); i++) {
+                    writePoint(generator, value, i);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * 모든 외곽선 좌표를 이어 붙인 리스트 [{lng, lat}, ...] 로 기록 (기존 List<Point> 경계 필드 형태)
+     */
+    public static class PointListSerializer extends StdSerializer<PackedGeometry> {
+
+        public PointListSerializer() {
+            super(PackedGeometry.class);
+        }
+
+        @Override
+        public void serialize(PackedGeometry value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartArray();
+            for (int i = 0; i < value.pointCount(); i++) {
+                writePoint(generator, value, i);
+            }
+            generator.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.izza.search.vo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 슬리피 맵(웹 메르카토르) 타일 좌표 z/x/y
+ * 타일 경계는 반열림 구간으로 취급하여 모든 점이 정확히 하나의 타일에 속함
+ */
+public record TileKey(
+        int z,
+        int x,
+        int y
+) {
+
+    /**
+     * 좌표가 속한 타일
+     */
+    public static TileKey of(int z, double lng, double lat) {
+        int n = 1 << z;
+        int x = (int) Math.floor((lng + 180.0) / 360.0 * n);
+        double latRad = Math.toRadians(lat);
+        int y = (int) Math.floor((1.0 - Math.log(Math.tan(latRad) + 1.0 / Math.cos(latRad)) / Math.PI) / 2.0 * n);
+        return new TileKey(z, clamp(x, n), clamp(y, n));
+    }
+
+    /**
+     * 영역을 덮는 타일 개수
+     */
+    public static long countCovering(int z, double swLng, double swLat, double neLng, double neLat) {
+        TileKey northWest = of(z, swLng, neLat);
+        TileKey southEast = of(z, neLng, swLat);
+        return (long) (southEast.x - northWest.x + 1) * (southEast.y - northWest.y + 1);
+    }
+
+    /**
+     * 영역을 덮는 타일 목록
+     */
+    public static List<TileKey> covering(int z, double swLng, double swLat, double neLng, double neLat) {
+        TileKey northWest = of(z, swLng, neLat);
+        TileKey southEast = of(z, neLng, swLat);
+        List<TileKey> tiles = new ArrayList<>();
+        for (int y = northWest.y; y <= southEast.y; y++) {
+            for (int x = northWest.x; x <= southEast.x; x++) {
+                tiles.add(new TileKey(z, x, y));
+            }
+        }
+        return tiles;
+    }
+
+    public boolean contains(double lng, double lat) {
+        TileKey tile = of(z, lng, lat);
+        return tile.x == x && tile.y == y;
+    }
+
+    public double minLng() {
+        return lngOf(x);
+    }
+
+    public double maxLng() {
+        return lngOf(x + 1);
+    }
+
+    public double minLat() {
+        return latOf(y + 1);
+    }
+
+    public double maxLat() {
+        return latOf(y);
+    }
+
+    private double lngOf(int tileX) {
+        return (double) tileX / (1 << z) * 360.0 - 180.0;
+    }
+
+    private double latOf(int tileY) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1.0 - 2.0 * tileY / (1 << z)))));
+    }
+
+    private static int clamp(int value, int n) {
+        return Math.max(0, Math.min(n - 1, value));
+    }
+}
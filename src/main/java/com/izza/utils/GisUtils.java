@@ -1,14 +1,17 @@
 package com.izza.utils;
 
 
+import com.izza.search.vo.PackedGeometry;
 import com.izza.search.vo.Point;
 import lombok.experimental.UtilityClass;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBReader;
 import org.locationtech.jts.io.WKTReader;
 
 import java.util.ArrayList;
@@ -17,82 +20,164 @@ import java.util.List;
 @UtilityClass
 public class GisUtils {
     private static final GeometryFactory geometryFactory = new GeometryFactory();
+    private static final double POLYLINE_FACTOR = 1e6;
 
     /**
      * WKT를 멀티폴리곤을 고려한 List<List<Point>> 형태로 파싱
      */
     public List<List<Point>> parsePolygonToMultiPointList(String wkt) {
-        List<List<Point>> polygons = new ArrayList<>();
-        WKTReader reader = new WKTReader(geometryFactory);
-        Geometry geometry = null;
+        return toMultiPointList(readWkt(wkt));
+    }
+
+    /**
+     * 기존 호환성을 위한 단일 폴리곤 파싱 메서드 (deprecated)
+     * @deprecated 멀티폴리곤을 고려하지 않으므로 parsePolygonToMultiPointList 사용 권장
+     */
+    @Deprecated
+    public List<Point> parsePolygonToPointList(String wkt) {
+        return toPointList(readWkt(wkt));
+    }
+
+    /**
+     * WKB(ST_AsBinary 결과)를 폴리곤별 외곽선 좌표의 PackedGeometry로 파싱
+     * Geometry/Point 객체를 만들지 않고 바이트에서 바로 좌표 배열로 읽음
+     */
+    public PackedGeometry parsePolygonToPackedGeometry(byte[] wkb) {
+        if (wkb == null || wkb.length == 0) {
+            return PackedGeometry.EMPTY;
+        }
+        return PackedWkbReader.read(wkb);
+    }
+
+    /**
+     * Polygon/MultiPolygon의 외곽선 좌표를 PackedGeometry로 변환
+     */
+    public PackedGeometry toPackedGeometry(Geometry geometry) {
+        List<Polygon> polygons = polygons(geometry);
+        int[] ringOffsets = new int[polygons.size() + 1];
+        for (int r = 0; r < polygons.size(); r++) {
+            ringOffsets[r + 1] = ringOffsets[r] + polygons.get(r).getExteriorRing().getNumPoints();
+        }
+        double[] coordinates = new double[ringOffsets[polygons.size()] * 2];
+        int index = 0;
+        for (Polygon polygon : polygons) {
+            CoordinateSequence sequence = polygon.getExteriorRing().getCoordinateSequence();
+            for (int i = 0; i < sequence.size(); i++) {
+                coordinates[index++] = sequence.getX(i);
+                coordinates[index++] = sequence.getY(i);
+            }
+        }
+        return PackedGeometry.of(coordinates, ringOffsets);
+    }
+
+    public Geometry readWkb(byte[] wkb) {
         try {
-            geometry = reader.read(wkt);
+            return new WKBReader(geometryFactory).read(wkb);
         } catch (ParseException e) {
             throw new RuntimeException(e);
         }
+    }
 
-        if (geometry instanceof Polygon) {
-            Polygon polygon = (Polygon) geometry;
-            List<Point> points = new ArrayList<>();
-            Coordinate[] coords = polygon.getExteriorRing().getCoordinates();
-            for (Coordinate coord : coords) {
-                points.add(new Point(coord.x, coord.y));
-            }
-            polygons.add(points);
-        } else if (geometry instanceof MultiPolygon) {
-            MultiPolygon multiPolygon = (MultiPolygon) geometry;
-            int numGeometries = multiPolygon.getNumGeometries();
-            for (int i = 0; i < numGeometries; i++) {
-                Polygon polygon = (Polygon) multiPolygon.getGeometryN(i);
-                List<Point> points = new ArrayList<>();
-                Coordinate[] coords = polygon.getExteriorRing().getCoordinates();
-                for (Coordinate coord : coords) {
-                    points.add(new Point(coord.x, coord.y));
-                }
-                polygons.add(points);
-            }
-        } else {
-            throw new IllegalArgumentException("Unsupported geometry type: " + geometry.getGeometryType());
+    private Geometry readWkt(String wkt) {
+        try {
+            return new WKTReader(geometryFactory).read(wkt);
+        } catch (ParseException e) {
+            throw new RuntimeException(e);
         }
+    }
 
+    /**
+     * Polygon/MultiPolygon의 외곽선 좌표를 폴리곤별 List<Point>로 변환
+     */
+    public List<List<Point>> toMultiPointList(Geometry geometry) {
+        List<List<Point>> polygons = new ArrayList<>();
+        for (Polygon polygon : polygons(geometry)) {
+            polygons.add(exteriorRingPoints(polygon));
+        }
         return polygons;
     }
 
+    private List<Point> toPointList(Geometry geometry) {
+        List<Point> points = new ArrayList<>();
+        for (List<Point> polygon : toMultiPointList(geometry)) {
+            points.addAll(polygon);
+        }
+        return points;
+    }
+
     /**
-     * 기존 호환성을 위한 단일 폴리곤 파싱 메서드 (deprecated)
-     * @deprecated 멀티폴리곤을 고려하지 않으므로 parsePolygonToMultiPointList 사용 권장
+     * Polygon/MultiPolygon의 외곽선별 encoded polyline 문자열 (정밀도 1e-6, 위도/경도 순)
+     * 좌표를 Point로 변환하지 않고 좌표열에서 바로 인코딩함
      */
-    @Deprecated
-    public List<Point> parsePolygonToPointList(String wkt) {
-        List<Point> points = new ArrayList<>();
-        WKTReader reader = new WKTReader(geometryFactory);
-        Geometry geometry = null;
-        try {
-            geometry = reader.read(wkt);
-        } catch (ParseException e) {
-            throw new RuntimeException(e);
+    public List<String> toEncodedPolylines(Geometry geometry) {
+        List<String> polylines = new ArrayList<>();
+        for (Polygon polygon : polygons(geometry)) {
+            CoordinateSequence sequence = polygon.getExteriorRing().getCoordinateSequence();
+            StringBuilder encoded = new StringBuilder(sequence.size() * 6);
+            long previousLat = 0;
+            long previousLng = 0;
+            for (int i = 0; i < sequence.size(); i++) {
+                long lat = Math.round(sequence.getY(i) * POLYLINE_FACTOR);
+                long lng = Math.round(sequence.getX(i) * POLYLINE_FACTOR);
+                appendPolylineValue(encoded, lat - previousLat);
+                appendPolylineValue(encoded, lng - previousLng);
+                previousLat = lat;
+                previousLng = lng;
+            }
+            polylines.add(encoded.toString());
         }
+        return polylines;
+    }
 
-        if (geometry instanceof Polygon) {
-            Polygon polygon = (Polygon) geometry;
-            Coordinate[] coords = polygon.getExteriorRing().getCoordinates();
-            for (Coordinate coord : coords) {
-                points.add(new Point(coord.x, coord.y));
+    /**
+     * Polygon/MultiPolygon의 외곽선별 [lng, lat, lng, lat, ...] 배열
+     */
+    public List<double[]> toFlatCoordinates(Geometry geometry) {
+        List<double[]> rings = new ArrayList<>();
+        for (Polygon polygon : polygons(geometry)) {
+            CoordinateSequence sequence = polygon.getExteriorRing().getCoordinateSequence();
+            double[] coordinates = new double[sequence.size() * 2];
+            for (int i = 0; i < sequence.size(); i++) {
+                coordinates[i * 2] = sequence.getX(i);
+                coordinates[i * 2 + 1] = sequence.getY(i);
             }
-        } else if (geometry instanceof MultiPolygon) {
-            MultiPolygon multiPolygon = (MultiPolygon) geometry;
-            int numGeometries = multiPolygon.getNumGeometries();
-            for (int i = 0; i < numGeometries; i++) {
-                Polygon polygon = (Polygon) multiPolygon.getGeometryN(i);
-                Coordinate[] coords = polygon.getExteriorRing().getCoordinates();
-                for (Coordinate coord : coords) {
-                    points.add(new Point(coord.x, coord.y));
-                }
+            rings.add(coordinates);
+        }
+        return rings;
+    }
+
+    /**
+     * Google encoded polyline 규칙 (zigzag 후 5비트 단위 가변 길이)
+     */
+    private void appendPolylineValue(StringBuilder encoded, long value) {
+        long zigzag = value < 0 ? ~(value << 1) : value << 1;
+        while (zigzag >= 0x20) {
+            encoded.append((char) ((0x20 | (zigzag & 0x1f)) + 63));
+            zigzag >>= 5;
+        }
+        encoded.append((char) (zigzag + 63));
+    }
+
+    private List<Polygon> polygons(Geometry geometry) {
+        if (geometry instanceof Polygon polygon) {
+            return List.of(polygon);
+        }
+        if (geometry instanceof MultiPolygon multiPolygon) {
+            List<Polygon> polygons = new ArrayList<>(multiPolygon.getNumGeometries());
+            for (int i = 0; i < multiPolygon.getNumGeometries(); i++) {
+                polygons.add((Polygon) multiPolygon.getGeometryN(i));
             }
-        } else {
-            throw new IllegalArgumentException("Unsupported geometry type: " + geometry.getGeometryType());
+            return polygons;
         }
+        throw new IllegalArgumentException("Unsupported geometry type: " + geometry.getGeometryType());
+    }
 
+    private List<Point> exteriorRingPoints(Polygon polygon) {
+        Coordinate[] coords = polygon.getExteriorRing().getCoordinates();
+        List<Point> points = new ArrayList<>(coords.length);
+        for (Coordinate coord : coords) {
+            points.add(new Point(coord.x, coord.y));
+        }
         return points;
     }
 }
@@ -0,0 +1,122 @@
+package com.izza.utils;
+
+import com.izza.search.vo.PackedGeometry;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * WKB(ST_AsBinary 결과)의 Polygon/MultiPolygon 외곽선 좌표를 PackedGeometry로 직접 읽는 디코더
+ * JTS Geometry/Coordinate 객체를 거치지 않고 바이트에서 바로 double 배열로 복사함
+ * (내부 링(구멍)은 기존 Point 변환과 같이 제외)
+ */
+final class PackedWkbReader {
+
+    private static final int POLYGON = 3;
+    private static final int MULTI_POLYGON = 6;
+    // EWKB 플래그
+    private static final int EWKB_Z = 0x80000000;
+    private static final int EWKB_M = 0x40000000;
+    private static final int EWKB_SRID = 0x20000000;
+
+    private final ByteBuffer buffer;
+    private double[] coordinates;
+    private int coordinateSize;
+    private int[] ringOffsets = new int[8];
+    private int ringCount;
+
+    private PackedWkbReader(byte[] wkb) {
+        this.buffer = ByteBuffer.wrap(wkb);
+        // 좌표 하나는 최소 16바이트이므로 wkb 길이 / 8 이 좌표 배열 길이의 상한
+        this.coordinates = new double[wkb.length / 8];
+    }
+
+    static PackedGeometry read(byte[] wkb) {
+        PackedWkbReader reader = new PackedWkbReader(wkb);
+        reader.readGeometry();
+        return reader.build();
+    }
+
+    private void readGeometry() {
+        int type = readHeader();
+        int baseType = type & 0xFFFF;
+        int dimensions = dimensions(type);
+        if (baseType == POLYGON) {
+            readPolygon(dimensions);
+        } else if (baseType == MULTI_POLYGON) {
+            int polygonCount = buffer.getInt();
+            for (int p = 0; p < polygonCount; p++) {
+                int polygonType = readHeader();
+                if ((polygonType & 0xFFFF) != POLYGON) {
+                    throw new IllegalArgumentException("Unsupported geometry type in MultiPolygon: " + polygonType);
+                }
+                readPolygon(dimensions(polygonType));
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported geometry type: " + baseType);
+        }
+    }
+
+    /**
+     * 바이트 순서와 타입을 읽고 SRID가 있으면 건너뜀
+     * 반환값의 하위 16비트는 기본 타입, 그 위는 차원 정보
+     */
+    private int readHeader() {
+        buffer.order(buffer.get() == 0 ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        int rawType = buffer.getInt();
+        if ((rawType & EWKB_SRID) != 0) {
+            buffer.getInt();
+        }
+        boolean hasZ = (rawType & EWKB_Z) != 0;
+        boolean hasM = (rawType & EWKB_M) != 0;
+        // ISO WKB: 1000 = Z, 2000 = M, 3000 = ZM
+        int isoType = rawType & 0x0FFFFFFF;
+        int isoDimension = isoType / 1000;
+        hasZ |= isoDimension == 1 || isoDimension == 3;
+        hasM |= isoDimension == 2 || isoDimension == 3;
+        return (isoType % 1000) | (hasZ ? 1 << 16 : 0) | (hasM ? 1 << 17 : 0);
+    }
+
+    private static int dimensions(int type) {
+        return 2 + ((type >> 16) & 1) + ((type >> 17) & 1);
+    }
+
+    private void readPolygon(int dimensions) {
+        int ringTotal = buffer.getInt();
+        if (ringTotal == 0) {
+            // 빈 폴리곤은 JTS 변환과 같이 좌표가 없는 외곽선 하나로 읽음
+            readRing(0, dimensions);
+            return;
+        }
+        for (int r = 0; r < ringTotal; r++) {
+            int pointCount = buffer.getInt();
+            if (r == 0) {
+                readRing(pointCount, dimensions);
+            } else {
+                buffer.position(buffer.position() + pointCount * dimensions * Double.BYTES);
+            }
+        }
+    }
+
+    private void readRing(int pointCount, int dimensions) {
+        if (ringCount + 1 == ringOffsets.length) {
+            ringOffsets = Arrays.copyOf(ringOffsets, ringOffsets.length * 2);
+        }
+        int extraBytes = (dimensions - 2) * Double.BYTES;
+        for (int i = 0; i < pointCount; i++) {
+            coordinates[coordinateSize++] = buffer.getDouble();
+            coordinates[coordinateSize++] = buffer.getDouble();
+            if (extraBytes > 0) {
+                buffer.position(buffer.position() + extraBytes);
+            }
+        }
+        ringOffsets[++ringCount] = coordinateSize / 2;
+    }
+
+    private PackedGeometry build() {
+        return PackedGeometry.of(
+                Arrays.copyOf(coordinates, coordinateSize),
+                Arrays.copyOf(ringOffsets, ringCount + 1));
+    }
+}
@@ -102,4 +102,16 @@ public class ResultSetUtils {
             return Optional.empty();
         }
     }
+
+    /**
+     * byte[] 타입 값을 안전하게 가져옴 (null 가능)
+     */
+    public static Optional<byte[]> getBytesSafe(ResultSet rs, String columnName) {
+        try {
+            byte[] value = rs.getBytes(columnName);
+            return Optional.ofNullable(value);
+        } catch (SQLException e) {
+            return Optional.empty();
+        }
+    }
 }
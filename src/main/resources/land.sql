@@ -52,6 +52,8 @@ create table land_gis
 );
 
 create index idx_land_gis_center_point_gist on land_gis using gist(center_point);
+-- 벡터 타일 조회용 경계 공간 인덱스
+create index idx_land_gis_boundary_gist on land_gis using gist(boundary);
 
 
 -- 토지 통계 테이블 생성
@@ -139,3 +141,39 @@ create table land_power_infrastructure_proximity (
 
 -- 성능을 위한 인덱스
 create index idx_land_power_proximity_land_id on land_power_infrastructure_proximity(land_id);
+
+-- 데이터셋 버전 테이블 (배치 작업이 데이터 적재 후 version 증가)
+-- 애플리케이션은 주기적으로 조회하여 버전이 바뀐 데이터셋의 인메모리 구조를 다시 적재함
+create table data_version
+(
+    data_set   varchar(50) primary key, -- LAND, BEOPJEONG_DONG, LAND_STATISTICS, ELECTRICITY_COST, EMERGENCY_TEXT, POPULATION
+    version    bigint    not null default 0,
+    updated_at timestamp default CURRENT_TIMESTAMP
+);
+
+insert into data_version (data_set, version) values ('LAND', 1), ('BEOPJEONG_DONG', 1), ('LAND_STATISTICS', 1),
+                                                    ('ELECTRICITY_COST', 1), ('EMERGENCY_TEXT', 1), ('POPULATION', 1);
+
+-- 시군구(법정동 코드 앞 5자리)/기준연월별 인구 집계 (읍면동 단위 population_simple을 미리 합산)
+-- POPULATION 데이터 버전이 바뀌면 애플리케이션(PopulationRollupJob)이 다시 채우며, source_version에 반영한 버전을 기록함
+create table population_sig_rollup
+(
+    sig_code       varchar(5)  not null,
+    기준연월           varchar(10) not null,
+    시도명            varchar(50),
+    시군구명           varchar(50),
+    계              bigint,
+    "0~9세"         bigint,
+    "10~19세"       bigint,
+    "20~29세"       bigint,
+    "30~39세"       bigint,
+    "40~49세"       bigint,
+    "50~59세"       bigint,
+    "60~69세"       bigint,
+    "70~79세"       bigint,
+    "80세~"         bigint,
+    남자             bigint,
+    여자             bigint,
+    source_version bigint      not null,
+    primary key (sig_code, 기준연월)
+);
@@ -0,0 +1,306 @@
+package com.izza.analysis.service;
+
+import com.izza.analysis.persistent.model.LandPowerInfrastructureSummary;
+import com.izza.analysis.service.dto.LandAnalysisData;
+import com.izza.analysis.service.dto.ScoreResult;
+import com.izza.analysis.vo.AnalysisStatisticsType;
+import com.izza.analysis.vo.IndustryType;
+import com.izza.analysis.vo.WeightedStatisticsRange;
+import com.izza.search.persistent.model.Land;
+import com.izza.search.presentation.dto.response.AreaDetailResponse;
+import com.izza.search.vo.ElectricityCostInfo;
+import com.izza.search.vo.EmergencyTextInfo;
+import com.izza.search.vo.PopulationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ColumnarScoringEngine의 총합 점수가 기존 경로
+ * (토지별 ScoreCalculator 계산 + WeightCalculator.calculateFinalWeightedScore)와 같은지 비교
+ */
+@DisplayName("ColumnarScoringEngine 테스트")
+class ColumnarScoringEngineTest {
+
+    private static final List<ScoreCalculator> CALCULATORS = List.of(
+            new LandAreaScoreCalculator(),
+            new OfficialLandPriceScoreCalculator(),
+            new ElectricityCostScoreCalculator(),
+            new SubstationCountScoreCalculator(),
+            new TransmissionTowerCountScoreCalculator(),
+            new TransmissionLineCountScoreCalculator(),
+            new DisasterCountScoreCalculator(),
+            new PopulationDensityScoreCalculator());
+
+    private final WeightCalculator weightCalculator = new WeightCalculator();
+
+    private final AreaDetailResponse seoul = area("11650", 120.5, 12, 2500);
+    private final AreaDetailResponse daegu = area("27140", 180.0, 40, 4200);
+
+    @Test
+    @DisplayName("일반적인 토지 값은 기존 계산 경로와 같은 총합 점수를 낸다")
+    void score_RegularLands_MatchesCalculators() {
+        // given
+        List<Land> lands = List.of(
+                land(1L, 1200.0, 850000L),
+                land(2L, 300.0, 4200000L),
+                land(3L, 4800.0, 15000L),
+                land(4L, 99.0, 9000000L));
+        Map<Long, LandPowerInfrastructureSummary> infra = Map.of(
+                1L, infra(1L, 2, 7, 3),
+                2L, infra(2L, 0, 25, 1),
+                4L, infra(4L, 5, 0, 10));
+
+        // when & then
+        assertSameTotals(allRanges(60), IndustryType.LOGISTICS, lands, infra,
+                land -> land.getId() % 2 == 0 ? seoul : daegu);
+    }
+
+    @Test
+    @DisplayName("면적/공시지가/전기 단가/인프라 개수가 null이면 해당 지표는 0점으로 계산된다")
+    void score_NullValues_ScoreZero() {
+        // given
+        List<Land> lands = List.of(
+                land(1L, null, 850000L),
+                land(2L, 300.0, null),
+                land(3L, null, null));
+        Map<Long, LandPowerInfrastructureSummary> infra = Map.of(
+                1L, infra(1L, null, 3, null),
+                3L, infra(3L, 2, null, 4));
+        AreaDetailResponse nullUnitCost = area("11590", null, 5, 3000);
+
+        // when & then
+        assertSameTotals(allRanges(50), IndustryType.IT, lands, infra, land -> nullUnitCost);
+    }
+
+    @Test
+    @DisplayName("행정구역 정보가 없으면 전기 요금은 기본 단가(170)로, 재해/인구는 0점으로 계산된다")
+    void score_MissingAreaDetail_UsesDefaultElectricityCost() {
+        // given
+        List<Land> lands = List.of(
+                land(1L, 1200.0, 850000L),
+                land(2L, 300.0, 4200000L),
+                land(3L, 2500.0, 1000000L));
+
+        // when & then
+        assertSameTotals(allRanges(70), IndustryType.MANUFACTURING, lands, Map.of(),
+                land -> land.getId() == 2L ? seoul : null);
+    }
+
+    @Test
+    @DisplayName("최솟값과 최댓값이 같은 지표는 기준 점수로 계산된다")
+    void score_SameMinMax_UsesBaseScore() {
+        // given
+        Map<AnalysisStatisticsType, WeightedStatisticsRange> ranges = new EnumMap<>(AnalysisStatisticsType.class);
+        ranges.put(AnalysisStatisticsType.LAND_AREA, WeightedStatisticsRange.of(1000L, 1000L, 40));
+        ranges.put(AnalysisStatisticsType.ELECTRICITY_COST, WeightedStatisticsRange.of(150L, 150L, 80));
+        ranges.put(AnalysisStatisticsType.SUBSTATION_COUNT, WeightedStatisticsRange.of(3L, 3L, 60));
+        ranges.put(AnalysisStatisticsType.DISASTER_COUNT, WeightedStatisticsRange.of(20L, 20L, 30));
+        List<Land> lands = List.of(land(1L, 1200.0, 850000L), land(2L, 300.0, 4200000L));
+        Map<Long, LandPowerInfrastructureSummary> infra = Map.of(1L, infra(1L, 5, 0, 0));
+
+        // when
+        double[] totals = assertSameTotals(ranges, IndustryType.MANUFACTURING, lands, infra, land -> daegu);
+
+        // then - 위치 조건(면적 0.5, 전기 0.5), 안전 조건(변전소 0, 재해 0.5)
+        assertThat(totals[0]).isCloseTo(totals[1], within(1e-12));
+        assertThat(totals[0]).isGreaterThan(0.0);
+    }
+
+    @Test
+    @DisplayName("모든 가중치가 0이면 전역 가중치가 없어 총합 점수는 0이다")
+    void score_AllWeightsZero_TotalZero() {
+        // given
+        List<Land> lands = List.of(land(1L, 1200.0, 850000L), land(2L, 4800.0, 15000L));
+
+        // when
+        double[] totals = assertSameTotals(allRanges(0), IndustryType.LOGISTICS, lands, Map.of(), land -> seoul);
+
+        // then
+        assertThat(totals).containsOnly(0.0);
+    }
+
+    @Test
+    @DisplayName("업종 타입이 없으면 인구밀도는 제조업 기준으로 계산된다")
+    void score_PopulationWithoutIndustryType_UsesManufacturing() {
+        // given
+        Map<AnalysisStatisticsType, WeightedStatisticsRange> ranges = new EnumMap<>(AnalysisStatisticsType.class);
+        ranges.put(AnalysisStatisticsType.POPULATION_DENSITY, WeightedStatisticsRange.of(0L, 10000L, 100));
+        List<Land> lands = List.of(land(1L, 1200.0, 850000L), land(2L, 300.0, 4200000L), land(3L, 10.0, 10L));
+        Function<Land, AreaDetailResponse> areas = land -> switch (land.getId().intValue()) {
+            case 1 -> area("11650", 120.0, 0, 1000);
+            case 2 -> area("11590", 120.0, 0, 3500);
+            default -> area("27140", 120.0, 0, 9000);
+        };
+
+        // when
+        double[] totals = assertSameTotals(ranges, null, lands, Map.of(), areas);
+        double[] manufacturing = scoreWithEngine(ranges, IndustryType.MANUFACTURING, lands, Map.of(), areas);
+
+        // then
+        assertThat(totals).containsExactly(manufacturing);
+    }
+
+    @Test
+    @DisplayName("구간을 나누어 계산해도 한 번에 계산한 결과와 같다")
+    void score_SplitRanges_MatchesWholeRange() {
+        // given
+        List<Land> lands = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            lands.add(land(id, 150.0 * id, 300000L * id));
+        }
+        ScoringPlan plan = compile(allRanges(50), IndustryType.IT);
+        LandColumns columns = LandColumns.of(lands, Map.of(), land -> land.getId() < 5 ? seoul : daegu);
+        ColumnarScoringEngine engine = new ColumnarScoringEngine(plan);
+
+        // when
+        double[] whole = new double[columns.size];
+        engine.score(columns, 0, columns.size, whole);
+        double[] split = new double[columns.size];
+        engine.score(columns, 0, 3, split);
+        engine.score(columns, 3, columns.size, split);
+
+        // then
+        assertThat(split).containsExactly(whole);
+    }
+
+    /**
+     * 엔진 총합 점수와 기존 계산 경로의 총합 점수를 토지별로 비교하고 엔진 결과를 반환
+     */
+    private double[] assertSameTotals(Map<AnalysisStatisticsType, WeightedStatisticsRange> ranges,
+                                      IndustryType industryType, List<Land> lands,
+                                      Map<Long, LandPowerInfrastructureSummary> infra,
+                                      Function<Land, AreaDetailResponse> areas) {
+        double[] totals = scoreWithEngine(ranges, industryType, lands, infra, areas);
+
+        ScoringPlan plan = compile(ranges, industryType);
+        Map<AnalysisStatisticsType, Double> globalWeights = weightCalculator.createGlobalNormalizedWeights(ranges);
+        for (int i = 0; i < lands.size(); i++) {
+            Land land = lands.get(i);
+            LandAnalysisData data = analysisData(land, infra.get(land.getId()), areas.apply(land), ranges, plan);
+
+            Map<AnalysisStatisticsType, Double> originalScores = new HashMap<>();
+            calculateScores(data).forEach((type, result) -> originalScores.put(type, result.getOriginalScore()));
+            double expected = weightCalculator.calculateFinalWeightedScore(originalScores, globalWeights);
+
+            assertThat(totals[i]).as("landId=%d", land.getId()).isCloseTo(expected, within(1e-12));
+        }
+        return totals;
+    }
+
+    private double[] scoreWithEngine(Map<AnalysisStatisticsType, WeightedStatisticsRange> ranges,
+                                     IndustryType industryType, List<Land> lands,
+                                     Map<Long, LandPowerInfrastructureSummary> infra,
+                                     Function<Land, AreaDetailResponse> areas) {
+        LandColumns columns = LandColumns.of(lands, infra, areas);
+        double[] totals = new double[columns.size];
+        new ColumnarScoringEngine(compile(ranges, industryType)).score(columns, 0, columns.size, totals);
+        return totals;
+    }
+
+    private ScoringPlan compile(Map<AnalysisStatisticsType, WeightedStatisticsRange> ranges,
+                                IndustryType industryType) {
+        return ScoringPlan.compile(ranges,
+                weightCalculator.createCategoryNormalizedWeights(ranges),
+                weightCalculator.createGlobalNormalizedWeights(ranges),
+                industryType,
+                CALCULATORS);
+    }
+
+    /**
+     * LandAnalysisService.calculateScores와 같은 방식 (계산기 오류 시 해당 지표 0점)
+     */
+    private Map<AnalysisStatisticsType, ScoreResult> calculateScores(LandAnalysisData data) {
+        Map<AnalysisStatisticsType, ScoreResult> scoreResults = new HashMap<>();
+        for (ScoreCalculator calculator : CALCULATORS) {
+            try {
+                ScoreResult scoreResult = calculator.calculateScore(data);
+                if (scoreResult != null) {
+                    scoreResults.put(scoreResult.getStatisticsType(), scoreResult);
+                }
+            } catch (Exception e) {
+                scoreResults.put(calculator.getStatisticsType(), ScoreResult.builder()
+                        .statisticsType(calculator.getStatisticsType())
+                        .originalScore(0.0)
+                        .categoryNormalizedScore(0.0)
+                        .globalNormalizedScore(0.0)
+                        .build());
+            }
+        }
+        return scoreResults;
+    }
+
+    /**
+     * LandAnalysisService.calculateScoreResults와 같은 방식으로 분석 데이터 구성
+     */
+    private LandAnalysisData analysisData(Land land, LandPowerInfrastructureSummary summary,
+                                          AreaDetailResponse areaDetails,
+                                          Map<AnalysisStatisticsType, WeightedStatisticsRange> ranges,
+                                          ScoringPlan plan) {
+        return LandAnalysisData.builder()
+                .land(land)
+                .electricityCostInfo(areaDetails != null ? areaDetails.electricityCostInfo() : null)
+                .emergencyTextInfo(areaDetails != null ? areaDetails.emergencyTextInfo() : null)
+                .populationInfo(areaDetails != null ? areaDetails.populationInfo() : null)
+                .substationCount(summary != null ? summary.getSubstationCount() : Integer.valueOf(0))
+                .transmissionTowerCount(summary != null ? summary.getTransmissionTowerCount() : Integer.valueOf(0))
+                .transmissionLineCount(summary != null ? summary.getTransmissionLineCount() : Integer.valueOf(0))
+                .statisticsRanges(ranges)
+                .scoringPlan(plan)
+                .build();
+    }
+
+    private static Map<AnalysisStatisticsType, WeightedStatisticsRange> allRanges(int weight) {
+        Map<AnalysisStatisticsType, WeightedStatisticsRange> ranges = new EnumMap<>(AnalysisStatisticsType.class);
+        ranges.put(AnalysisStatisticsType.LAND_AREA, WeightedStatisticsRange.of(100L, 5000L, weight));
+        ranges.put(AnalysisStatisticsType.OFFICIAL_LAND_PRICE, WeightedStatisticsRange.of(10000L, 5000000L, weight / 2));
+        ranges.put(AnalysisStatisticsType.ELECTRICITY_COST, WeightedStatisticsRange.of(100L, 200L, weight));
+        ranges.put(AnalysisStatisticsType.SUBSTATION_COUNT, WeightedStatisticsRange.of(0L, 5L, weight));
+        ranges.put(AnalysisStatisticsType.TRANSMISSION_TOWER_COUNT, WeightedStatisticsRange.of(0L, 20L, weight / 3));
+        ranges.put(AnalysisStatisticsType.TRANSMISSION_LINE_COUNT, WeightedStatisticsRange.of(0L, 10L, weight));
+        ranges.put(AnalysisStatisticsType.DISASTER_COUNT, WeightedStatisticsRange.of(0L, 50L, weight));
+        ranges.put(AnalysisStatisticsType.POPULATION_DENSITY, WeightedStatisticsRange.of(0L, 10000L, weight));
+        return ranges;
+    }
+
+    private static Land land(Long id, Double landArea, Long officialLandPrice) {
+        Land land = new Land();
+        land.setId(id);
+        land.setBeopjungDongCode("1165010700");
+        land.setLandArea(landArea != null ? BigDecimal.valueOf(landArea) : null);
+        land.setOfficialLandPrice(officialLandPrice != null ? BigDecimal.valueOf(officialLandPrice) : null);
+        return land;
+    }
+
+    private static LandPowerInfrastructureSummary infra(Long landId, Integer substationCount,
+                                                        Integer transmissionTowerCount,
+                                                        Integer transmissionLineCount) {
+        LandPowerInfrastructureSummary summary = new LandPowerInfrastructureSummary();
+        summary.setLandId(landId);
+        summary.setSubstationCount(substationCount);
+        summary.setTransmissionTowerCount(transmissionTowerCount);
+        summary.setTransmissionLineCount(transmissionLineCount);
+        return summary;
+    }
+
+    private static AreaDetailResponse area(String fullCode, Double unitCost, int disasterCount,
+                                           int middleAgedPopulation) {
+        PopulationInfo populationInfo = new PopulationInfo(middleAgedPopulation * 2, null, null, null,
+                List.of(new PopulationInfo.AgeGroupItem("40-49세", middleAgedPopulation / 2),
+                        new PopulationInfo.AgeGroupItem("50-59세", middleAgedPopulation - middleAgedPopulation / 2)),
+                Map.of());
+        return new AreaDetailResponse(fullCode, null,
+                new ElectricityCostInfo(unitCost != null ? BigDecimal.valueOf(unitCost) : null, null),
+                new EmergencyTextInfo(disasterCount, null, List.of()),
+                populationInfo);
+    }
+}
@@ -0,0 +1,215 @@
+package com.izza.analysis.service;
+
+import com.izza.analysis.service.LandRankingCollector.Candidate;
+import com.izza.analysis.service.LandRankingCollector.RankedCandidate;
+import com.izza.search.persistent.model.Land;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LandRankingCollector의 상위 목록/찜 토지 순위가 전체 토지를 안정 정렬한 결과와 같은지 비교
+ * 기대 순위: 찜 토지(sequence 0부터)와 검색 토지(찜 토지 다음 sequence)를 모두 모아
+ * 점수 내림차순으로 안정 정렬한 위치 (같은 점수는 먼저 들어온 토지가 앞섬)
+ */
+@DisplayName("LandRankingCollector 테스트")
+class LandRankingCollectorTest {
+
+    private static final int LIMIT = 20;
+
+    @Test
+    @DisplayName("찜 토지와 검색 토지의 점수가 같으면 먼저 들어온 찜 토지가 앞 순위다")
+    void ranking_TiesBetweenStarredAndSearched_StarredFirst() {
+        // given
+        List<Candidate> starred = candidates(0, 0.5, 0.9, 0.1);
+        List<Candidate> searched = candidates(starred.size(), 0.9, 0.5, 0.5, 0.1, 0.9, 0.3);
+
+        // when & then
+        assertSameAsFullSort(LIMIT, starred, searched);
+    }
+
+    @Test
+    @DisplayName("토지 수가 limit보다 적으면 모든 토지가 상위 목록에 포함된다")
+    void ranking_FewerThanLimit_ReturnsAll() {
+        // given
+        List<Candidate> starred = candidates(0, 0.4);
+        List<Candidate> searched = candidates(starred.size(), 0.2, 0.8, 0.4);
+
+        // when
+        LandRankingCollector collector = collect(LIMIT, starred, searched);
+
+        // then
+        assertThat(collector.topRanked()).hasSize(4);
+        assertSameAsFullSort(LIMIT, starred, searched);
+    }
+
+    @Test
+    @DisplayName("상위 목록에 든 찜 토지는 상위 목록과 찜 목록에서 같은 순위를 가진다")
+    void ranking_StarredInTop_SameRankInBothLists() {
+        // given
+        List<Candidate> starred = candidates(0, 0.95, 0.01);
+        List<Candidate> searched = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            searched.add(candidate(starred.size() + i, (i % 10) / 10.0));
+        }
+
+        // when
+        LandRankingCollector collector = collect(LIMIT, starred, searched);
+
+        // then
+        RankedCandidate topStarred = collector.starredRanked().getFirst();
+        assertThat(topStarred.candidate()).isEqualTo(starred.getFirst());
+        assertThat(collector.topRanked()).contains(topStarred);
+        assertThat(collector.starredRanked().get(1).rank()).isEqualTo(47);
+        assertSameAsFullSort(LIMIT, starred, searched);
+    }
+
+    @Test
+    @DisplayName("찜 토지가 없으면 상위 목록만 계산된다")
+    void ranking_NoStarred_TopOnly() {
+        // given
+        List<Candidate> searched = candidates(0, 0.3, 0.3, 0.7);
+
+        // when
+        LandRankingCollector collector = collect(LIMIT, List.of(), searched);
+
+        // then
+        assertThat(collector.starredRanked()).isEmpty();
+        assertSameAsFullSort(LIMIT, List.of(), searched);
+    }
+
+    @Test
+    @DisplayName("무작위 점수에서도 전체 정렬 결과와 같다")
+    void ranking_RandomScores_MatchesFullSort() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 300; trial++) {
+            // given - 같은 점수가 자주 나오도록 점수 종류를 제한
+            int levels = 1 + random.nextInt(8);
+            int limit = random.nextInt(25);
+            List<Candidate> starred = randomCandidates(random, 0, random.nextInt(6), levels);
+            List<Candidate> searched = randomCandidates(random, starred.size(), random.nextInt(80), levels);
+
+            // when & then
+            assertSameAsFullSort(limit, starred, searched);
+        }
+    }
+
+    @Test
+    @DisplayName("구간별로 fork한 수집기를 merge하면 순서대로 offer한 결과와 같다")
+    void forkMerge_SplitRanges_MatchesSequentialOffer() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 300; trial++) {
+            // given
+            int levels = 1 + random.nextInt(8);
+            int limit = random.nextInt(25);
+            List<Candidate> starred = randomCandidates(random, 0, random.nextInt(6), levels);
+            List<Candidate> searched = randomCandidates(random, starred.size(), random.nextInt(120), levels);
+            int chunkSize = 1 + random.nextInt(16);
+
+            // when - ScoringTask와 같이 구간을 반으로 나누어 오른쪽 결과에 왼쪽 결과를 합친 뒤 원래 수집기에 merge
+            LandRankingCollector sequential = collect(limit, starred, searched);
+            LandRankingCollector merged = new LandRankingCollector(limit, starred);
+            merged.merge(forkAndMerge(merged, searched, 0, searched.size(), chunkSize));
+
+            // then
+            assertThat(merged.topRanked()).containsExactlyElementsOf(sequential.topRanked());
+            assertThat(merged.starredRanked()).containsExactlyElementsOf(sequential.starredRanked());
+        }
+    }
+
+    @Test
+    @DisplayName("fork한 수집기는 찜 토지 목록을 갖지 않고 merge 순서와 관계없이 같은 결과를 낸다")
+    void forkMerge_AnyMergeOrder_SameResult() {
+        // given
+        List<Candidate> starred = candidates(0, 0.5, 0.2);
+        List<Candidate> searched = candidates(starred.size(), 0.5, 0.9, 0.2, 0.2, 0.7, 0.5, 0.1, 0.5);
+        LandRankingCollector root = new LandRankingCollector(3, starred);
+        LandRankingCollector first = root.fork();
+        LandRankingCollector second = root.fork();
+        searched.subList(0, 4).forEach(first::offer);
+        searched.subList(4, searched.size()).forEach(second::offer);
+
+        // when
+        root.merge(second);
+        root.merge(first);
+
+        // then
+        assertThat(first.starredRanked()).isEmpty();
+        LandRankingCollector sequential = collect(3, starred, searched);
+        assertThat(root.topRanked()).containsExactlyElementsOf(sequential.topRanked());
+        assertThat(root.starredRanked()).containsExactlyElementsOf(sequential.starredRanked());
+    }
+
+    private static LandRankingCollector forkAndMerge(LandRankingCollector root, List<Candidate> searched,
+                                                     int from, int to, int chunkSize) {
+        if (to - from <= chunkSize) {
+            LandRankingCollector part = root.fork();
+            searched.subList(from, to).forEach(part::offer);
+            return part;
+        }
+        int mid = (from + to) >>> 1;
+        LandRankingCollector left = forkAndMerge(root, searched, from, mid, chunkSize);
+        LandRankingCollector merged = forkAndMerge(root, searched, mid, to, chunkSize);
+        merged.merge(left);
+        return merged;
+    }
+
+    private static void assertSameAsFullSort(int limit, List<Candidate> starred, List<Candidate> searched) {
+        LandRankingCollector collector = collect(limit, starred, searched);
+
+        List<RankedCandidate> expected = fullSort(starred, searched);
+        assertThat(collector.topRanked())
+                .containsExactlyElementsOf(expected.subList(0, Math.min(limit, expected.size())));
+        assertThat(collector.starredRanked())
+                .containsExactlyElementsOf(expected.stream()
+                        .filter(ranked -> starred.contains(ranked.candidate()))
+                        .toList());
+    }
+
+    private static LandRankingCollector collect(int limit, List<Candidate> starred, List<Candidate> searched) {
+        LandRankingCollector collector = new LandRankingCollector(limit, starred);
+        searched.forEach(collector::offer);
+        return collector;
+    }
+
+    private static List<RankedCandidate> fullSort(List<Candidate> starred, List<Candidate> searched) {
+        List<Candidate> all = new ArrayList<>(starred);
+        all.addAll(searched);
+        // List.sort는 안정 정렬이므로 점수만으로 정렬해도 같은 점수는 들어온 순서를 유지함
+        all.sort(Comparator.comparingDouble(Candidate::totalScore).reversed());
+
+        List<RankedCandidate> ranked = new ArrayList<>(all.size());
+        for (int i = 0; i < all.size(); i++) {
+            ranked.add(new RankedCandidate(all.get(i), i + 1));
+        }
+        return ranked;
+    }
+
+    private static List<Candidate> randomCandidates(Random random, long firstSequence, int count, int levels) {
+        List<Candidate> candidates = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            candidates.add(candidate(firstSequence + i, random.nextInt(levels) / (double) levels));
+        }
+        return candidates;
+    }
+
+    private static List<Candidate> candidates(long firstSequence, double... scores) {
+        List<Candidate> candidates = new ArrayList<>(scores.length);
+        for (int i = 0; i < scores.length; i++) {
+            candidates.add(candidate(firstSequence + i, scores[i]));
+        }
+        return candidates;
+    }
+
+    private static Candidate candidate(long sequence, double totalScore) {
+        Land land = new Land();
+        land.setId(1000 + sequence);
+        return new Candidate(sequence, land, totalScore);
+    }
+}
@@ -3,6 +3,7 @@ package com.izza.search.persistent.dao;
 import com.izza.search.domain.ZoomLevel;
 import com.izza.search.persistent.dto.query.MapSearchQuery;
 import com.izza.search.persistent.model.BeopjungDong;
+import com.izza.search.vo.PackedGeometry;
 import com.izza.search.vo.Point;
 import com.izza.support.DatabaseTestSupport;
 import org.junit.jupiter.api.DisplayName;
@@ -161,38 +162,36 @@ class BeopjungDongDaoTest extends DatabaseTestSupport {
         @DisplayName("서울특별시 폴리곤 데이터 조회")
         void findPolygonByFullCode_Seoul_ReturnsPolygonData() {
             // when
-            List<List<Point>> result = beopjungDongDao.findPolygonByFullCode("1100000000");
+            PackedGeometry result = beopjungDongDao.findPolygonByFullCode("1100000000");
 
             // then
             assertThat(result).isNotNull();
-            assertThat(result).isNotEmpty();
-            assertThat(result.get(0)).hasSizeGreaterThanOrEqualTo(3);
+            assertThat(result.isEmpty()).isFalse();
+            assertThat(result.ringEnd(0) - result.ringStart(0)).isGreaterThanOrEqualTo(3);
             
             // 서울 지역의 좌표 범위 대략적 검증
-            List<Point> polygon = result.get(0);
-            assertThat(polygon).allMatch(point -> 
-                point.lng() >= 126.0 && point.lng() <= 128.0 &&
-                point.lat() >= 37.0 && point.lat() <= 38.0
-            );
+            for (int i = result.ringStart(0); i < result.ringEnd(0); i++) {
+                assertThat(result.lng(i)).isBetween(126.0, 128.0);
+                assertThat(result.lat(i)).isBetween(37.0, 38.0);
+            }
         }
 
         @Test
         @DisplayName("반포동 폴리곤 데이터 조회")
         void findPolygonByFullCode_BanpoDong_ReturnsPolygonData() {
             // when
-            List<List<Point>> result = beopjungDongDao.findPolygonByFullCode("1165010700");
+            PackedGeometry result = beopjungDongDao.findPolygonByFullCode("1165010700");
 
             // then
             assertThat(result).isNotNull();
-            assertThat(result).isNotEmpty();
-            assertThat(result.get(0)).hasSizeGreaterThanOrEqualTo(3);
+            assertThat(result.isEmpty()).isFalse();
+            assertThat(result.ringEnd(0) - result.ringStart(0)).isGreaterThanOrEqualTo(3);
             
             // 반포동 지역의 좌표 범위 검증
-            List<Point> polygon = result.get(0);
-            assertThat(polygon).allMatch(point -> 
-                point.lng() >= 126.9 && point.lng() <= 127.1 &&
-                point.lat() >= 37.4 && point.lat() <= 37.6
-            );
+            for (int i = result.ringStart(0); i < result.ringEnd(0); i++) {
+                assertThat(result.lng(i)).isBetween(126.9, 127.1);
+                assertThat(result.lat(i)).isBetween(37.4, 37.6);
+            }
         }
     }
 
@@ -1,12 +1,13 @@
 package com.izza.search.persistent.dao;
 
 import com.izza.search.persistent.dto.LandCountQueryResult;
+import com.izza.search.persistent.dto.LandMarkerQueryResult;
 import com.izza.search.persistent.dto.query.CountLandQuery;
 import com.izza.search.persistent.dto.query.LandSearchQuery;
 import com.izza.search.persistent.model.Land;
 import com.izza.search.presentation.dto.LongRangeDto;
 
-import com.izza.search.vo.Point;
+import com.izza.search.vo.PackedGeometry;
 import com.izza.support.DatabaseTestSupport;
 
 import org.junit.jupiter.api.DisplayName;
@@ -70,7 +71,7 @@ class LandDaoTest extends DatabaseTestSupport {
             assertThat(land.getCenterPoint()).isNotNull();
             assertThat(land.getCenterPoint().lng()).isCloseTo(128.63537596600568, within(0.001));
             assertThat(land.getCenterPoint().lat()).isCloseTo(35.918382496637406, within(0.001));
-            assertThat(land.getBoundary()).isNotEmpty();
+            assertThat(land.getBoundary().isEmpty()).isFalse();
         }
     }
 
@@ -354,6 +355,33 @@ class LandDaoTest extends DatabaseTestSupport {
             assertThat(results).isEmpty();
         }
 
+    @Nested
+    @DisplayName("findLandMarkers 메서드 테스트")
+    class FindLandMarkersTest {
+
+        @Test
+        @DisplayName("findLands와 같은 조건의 토지를 id, 주소, 중심점만 담아 반환한다")
+        void findLandMarkers_BySpecificRegion_ReturnsMarkers() {
+            // given - 서초구 반포동 영역
+            LandSearchQuery query = new LandSearchQuery(
+                    126.99, 37.50,
+                    127.03, 37.52,
+                    1L, 100000L, 1L, 100000000L, List.of()
+            );
+
+            // when
+            List<LandMarkerQueryResult> results = landDao.findLandMarkers(query);
+
+            // then
+            assertThat(results).hasSize(landDao.findLands(query).size());
+            assertThat(results).allSatisfy(marker -> {
+                assertThat(marker.address()).isNotBlank();
+                assertThat(marker.centerLng()).isBetween(126.99, 127.03);
+                assertThat(marker.centerLat()).isBetween(37.50, 37.52);
+            });
+        }
+    }
+
     @Nested
     @DisplayName("findPolygonByUniqueNumber 메서드 테스트")
     class FindPolygonByUniqueNumberTest {
@@ -362,13 +390,13 @@ class LandDaoTest extends DatabaseTestSupport {
         @DisplayName("토지의 폴리곤 데이터를 조회한다")
         void findPolygonByUniqueNumber_ExistingLand_ReturnsPolygon() {
             // when
-            List<List<Point>> result = landDao.findPolygonByUniqueNumber("5216238");
+            PackedGeometry result = landDao.findPolygonByUniqueNumber("5216238");
 
             // then
             assertThat(result).isNotNull();
-            assertThat(result).isNotEmpty();
+            assertThat(result.ringCount()).isEqualTo(1);
             // 폴리곤은 최소 3개 이상의 점으로 구성되어야 함
-            assertThat(result.get(0)).hasSizeGreaterThanOrEqualTo(3);
+            assertThat(result.ringEnd(0) - result.ringStart(0)).isGreaterThanOrEqualTo(3);
         }
     }
 
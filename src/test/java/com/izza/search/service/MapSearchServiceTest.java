@@ -0,0 +1,83 @@
+package com.izza.search.service;
+
+import com.izza.search.presentation.dto.request.LandSearchFilterRequest;
+import com.izza.search.presentation.dto.request.MapSearchRequest;
+import com.izza.search.presentation.dto.response.LandGroupSearchResponse;
+import com.izza.search.service.index.LandPointIndex;
+import com.izza.support.DatabaseTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 인메모리 인덱스가 없을 때(DB 조회 경로)의 MapSearchService 테스트
+ */
+@DisplayName("MapSearchService 테스트")
+class MapSearchServiceTest extends DatabaseTestSupport {
+
+    // LAND 줌 레벨
+    private static final int LAND_ZOOM_LEVEL = 2;
+    private static final LandSearchFilterRequest NO_FILTER =
+            new LandSearchFilterRequest(0L, 100000L, 0L, 100000000L, List.of("COMMERCIAL"));
+
+    @Autowired
+    private MapSearchService mapSearchService;
+
+    // 적재되지 않은 인덱스 (current()가 empty를 반환하여 DB 조회 경로를 사용)
+    @MockitoBean
+    private LandPointIndex landPointIndex;
+
+    @Override
+    protected void setupTestData() {
+        // 클러스터 마커 기준(500개)을 넘는 반포동 상업지역 토지 600개
+        jdbcTemplate.update("""
+            INSERT INTO land (unique_no, full_code, address, land_area, official_land_price,
+                              use_district_code1, use_zone_category, land_use_code, land_category_name, center_point)
+            SELECT 'CLUSTER-' || n, '1165010700', '서울특별시 서초구 반포동 ' || n, 500.00, 10000000,
+                   22, 'COMMERCIAL', ?, '대', ST_Point(127.0 + n * 0.00005, 37.5 + n * 0.00001, 4326)
+            FROM generate_series(1, 600) n
+            """, SEARCHABLE_LAND_USE_CODE);
+        jdbcTemplate.update("""
+            INSERT INTO land_gis (land_id, boundary, center_point)
+            SELECT id, ST_Buffer(center_point, 0.00001, 'quad_segs=1'), center_point
+            FROM land WHERE unique_no LIKE 'CLUSTER-%'
+            """);
+    }
+
+    @Nested
+    @DisplayName("LAND 줌 레벨 마커 조회")
+    class LandMarkerTest {
+
+        @Test
+        @DisplayName("토지가 많으면 화면 격자 단위 클러스터 마커로 조회한다")
+        void getAllLandGroupMarkers_ManyLands_ReturnsClusters() {
+            // given
+            MapSearchRequest request = new MapSearchRequest(37.49, 126.99, 37.52, 127.04, LAND_ZOOM_LEVEL);
+
+            // when
+            List<LandGroupSearchResponse> result = mapSearchService.getAllLandGroupMarkers(request, NO_FILTER);
+
+            // then
+            assertThat(result).isNotEmpty();
+            assertThat(result).extracting(LandGroupSearchResponse::type).contains("CLUSTER");
+        }
+
+        @Test
+        @DisplayName("북동쪽 좌표가 남서쪽보다 작은 뒤집힌 지도 영역이면 빈 결과를 반환한다")
+        void getAllLandGroupMarkers_InvertedBounds_ReturnsEmpty() {
+            // given - 위 테스트와 같은 영역의 남서쪽/북동쪽 좌표를 서로 바꿈
+            MapSearchRequest inverted = new MapSearchRequest(37.52, 127.04, 37.49, 126.99, LAND_ZOOM_LEVEL);
+            MapSearchRequest invertedLng = new MapSearchRequest(37.49, 127.04, 37.52, 126.99, LAND_ZOOM_LEVEL);
+
+            // when & then
+            assertThat(mapSearchService.getAllLandGroupMarkers(inverted, NO_FILTER)).isEmpty();
+            assertThat(mapSearchService.getAllLandGroupMarkers(invertedLng, NO_FILTER)).isEmpty();
+        }
+    }
+}
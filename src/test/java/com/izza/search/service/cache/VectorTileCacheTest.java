@@ -0,0 +1,87 @@
+package com.izza.search.service.cache;
+
+import com.izza.search.domain.DataSet;
+import com.izza.search.domain.DataVersionChangedEvent;
+import com.izza.search.vo.TileKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("VectorTileCache 테스트")
+class VectorTileCacheTest {
+
+    private static final TileKey TILE = new TileKey(15, 27940, 12703);
+
+    @TempDir
+    Path diskDirectory;
+
+    @Test
+    @DisplayName("렌더링 중 버전이 바뀌면 이전 버전 디렉토리에 기록하지 않는다")
+    void get_InvalidatedWhileRendering_SkipsStaleWrite() {
+        // given
+        VectorTileCache cache = new VectorTileCache(diskDirectory.toString());
+        cache.invalidate(new DataVersionChangedEvent(DataSet.LAND, 1L));
+
+        // when
+        byte[] result = cache.get(TILE, () -> {
+            cache.invalidate(new DataVersionChangedEvent(DataSet.LAND, 2L));
+            return new byte[]{1};
+        });
+
+        // then
+        assertThat(result[0]).isEqualTo(1);
+        assertThat(Files.exists(diskDirectory.resolve("land-1_dong-0"))).isFalse();
+        assertThat(Files.exists(diskDirectory.resolve("land-2_dong-0"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("렌더링 중 버전이 바뀐 타일은 다음 조회에서 다시 렌더링한다")
+    void get_InvalidatedWhileRendering_RendersAgain() {
+        // given
+        VectorTileCache cache = new VectorTileCache(diskDirectory.toString());
+        AtomicInteger renderCount = new AtomicInteger();
+        cache.get(TILE, () -> {
+            renderCount.incrementAndGet();
+            cache.invalidate(new DataVersionChangedEvent(DataSet.LAND, 1L));
+            return new byte[]{1};
+        });
+
+        // when
+        byte[] result = cache.get(TILE, () -> {
+            renderCount.incrementAndGet();
+            return new byte[]{2};
+        });
+
+        // then
+        assertThat(result[0]).isEqualTo(2);
+        assertThat(renderCount.get()).isEqualTo(2);
+        assertThat(Files.exists(diskDirectory.resolve("land-1_dong-0/15/27940/12703.mvt"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌면 현재 버전 외의 버전 디렉토리를 모두 삭제한다")
+    void invalidate_DeletesAllStaleVersionDirectories() throws IOException {
+        // given - 이전 실행에서 남은 디렉토리와 버전 디렉토리가 아닌 파일
+        Files.createDirectories(diskDirectory.resolve("land-7_dong-3/15/27940"));
+        Files.createDirectories(diskDirectory.resolve("land-0_dong-0"));
+        Files.createDirectories(diskDirectory.resolve("land-2_dong-0"));
+        Files.writeString(diskDirectory.resolve("README"), "keep");
+        VectorTileCache cache = new VectorTileCache(diskDirectory.toString());
+
+        // when
+        cache.invalidate(new DataVersionChangedEvent(DataSet.LAND, 2L));
+
+        // then
+        assertThat(Files.exists(diskDirectory.resolve("land-2_dong-0"))).isTrue();
+        assertThat(Files.exists(diskDirectory.resolve("land-7_dong-3"))).isFalse();
+        assertThat(Files.exists(diskDirectory.resolve("land-0_dong-0"))).isFalse();
+        assertThat(Files.exists(diskDirectory.resolve("README"))).isTrue();
+    }
+}
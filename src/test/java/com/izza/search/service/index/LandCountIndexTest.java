@@ -0,0 +1,211 @@
+package com.izza.search.service.index;
+
+import com.izza.search.domain.DataSet;
+import com.izza.search.domain.DataVersionChangedEvent;
+import com.izza.search.persistent.dao.LandDao;
+import com.izza.search.persistent.dto.LandCountQueryResult;
+import com.izza.search.persistent.dto.query.CountLandQuery;
+import com.izza.support.DatabaseTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LandCountIndex 카운트 큐브 조회 결과가 LandDao.countLandsByRegions와 같은지 비교
+ */
+@DisplayName("LandCountIndex 테스트")
+class LandCountIndexTest extends DatabaseTestSupport {
+
+    private static final List<String> ALL_CATEGORIES = List.of("INDUSTRIAL", "COMMERCIAL", "RESIDENTIAL");
+
+    @Autowired
+    private LandDao landDao;
+    @Autowired
+    private LandCountIndex landCountIndex;
+
+    @Override
+    protected void setupTestData() {
+        super.setupTestData();
+        // 공시지가가 없는 토지 - 두 경로 모두 집계에서 제외되어야 함
+        insertTestLand("9000001", "1165010700", "서울특별시 서초구 반포동 1-1",
+                700.00, null, 22, "대", 127.0150, 37.5110, null);
+        insertTestPrefixSums();
+    }
+
+    @BeforeEach
+    void loadCubes() {
+        landCountIndex.reloadStatistics(new DataVersionChangedEvent(DataSet.LAND_STATISTICS, 1L));
+        landCountIndex.reloadRegions(new DataVersionChangedEvent(DataSet.LAND, 1L));
+    }
+
+    @Nested
+    @DisplayName("시도(prefix sum) 토지 수 조회")
+    class SidoTest {
+
+        @Test
+        @DisplayName("통계 최솟값/최댓값 범위로 조회한다")
+        void count_StatisticsRange_SameAsCountLandsByRegions() {
+            // given
+            CountLandQuery query = new CountLandQuery(List.of("11", "27"),
+                    112L, 2037L, 293900L, 45010000L, ALL_CATEGORIES);
+
+            // when & then
+            assertThat(assertSameCounts(query)).isEqualTo(Map.of("11", 4L, "27", 2L));
+        }
+
+        @Test
+        @DisplayName("면적/공시지가 최솟값이 첫 버킷보다 큰 경우 모서리 값을 빼서 계산한다")
+        void count_RangeStartsAfterFirstBucket_SameAsCountLandsByRegions() {
+            // given - 면적 500㎡ 이상, 공시지가 50만원 이상
+            CountLandQuery query = new CountLandQuery(List.of("11", "27"),
+                    500L, 2037L, 500000L, 45010000L, ALL_CATEGORIES);
+
+            // when & then - 흑석동 595㎡(공시지가 29만원)와 112㎡ 토지 제외
+            assertThat(assertSameCounts(query)).isEqualTo(Map.of("11", 2L, "27", 2L));
+        }
+
+        @Test
+        @DisplayName("일부 용도지역과 데이터가 없는 지역이 섞여 있어도 같은 결과를 반환한다")
+        void count_PartialCategoriesAndEmptyRegion_SameAsCountLandsByRegions() {
+            // given
+            CountLandQuery query = new CountLandQuery(List.of("11", "26", "27"),
+                    0L, 4999L, 0L, 44999999L, List.of("COMMERCIAL", "GREEN"));
+
+            // when & then
+            assertThat(assertSameCounts(query)).isEqualTo(Map.of("11", 1L));
+        }
+    }
+
+    /**
+     * 시군구/읍면동 큐브는 버킷 단위로 집계하므로 필터가 버킷 경계와 맞을 때만 사용하고
+     * (최솟값은 버킷 시작값이거나 모든 토지 값 이하, 최댓값은 모든 토지 값 이상)
+     * 그 외에는 empty를 반환해 countLandsByRegions로 정확한 값을 조회하게 함
+     */
+    @Nested
+    @DisplayName("시군구/읍면동 토지 수 조회")
+    class RegionTest {
+
+        @Test
+        @DisplayName("통계 최솟값/최댓값 범위로 시군구 토지 수를 조회한다")
+        void count_SigStatisticsRange_SameAsCountLandsByRegions() {
+            // given
+            CountLandQuery query = new CountLandQuery(List.of("11650", "11590", "27140"),
+                    112L, 2037L, 293900L, 45010000L, ALL_CATEGORIES);
+
+            // when & then
+            assertThat(assertSameCounts(query)).isEqualTo(Map.of("11650", 2L, "11590", 2L, "27140", 2L));
+        }
+
+        @Test
+        @DisplayName("최솟값이 버킷 시작값이면 시군구 토지 수를 큐브로 조회한다")
+        void count_SigMinOnBucketEdge_SameAsCountLandsByRegions() {
+            // given - 면적 500㎡ 이상, 공시지가 50만원 이상
+            CountLandQuery query = new CountLandQuery(List.of("11650", "11590", "27140"),
+                    500L, 2037L, 500000L, 45010000L, ALL_CATEGORIES);
+
+            // when & then - 흑석동 595㎡(공시지가 29만원)와 112㎡ 토지 제외
+            assertThat(assertSameCounts(query)).isEqualTo(Map.of("11650", 2L, "27140", 2L));
+        }
+
+        @Test
+        @DisplayName("최솟값이 버킷 시작값이면 읍면동 토지 수를 큐브로 조회한다")
+        void count_EmdMinOnBucketEdge_SameAsCountLandsByRegions() {
+            // given
+            CountLandQuery query = new CountLandQuery(List.of("11650107", "11590105", "27140105"),
+                    1000L, 4999L, 0L, 49999999L, ALL_CATEGORIES);
+
+            // when & then - 봉무동 2037㎡, 1650㎡ 토지만 포함
+            assertThat(assertSameCounts(query)).isEqualTo(Map.of("27140105", 2L));
+        }
+
+        @Test
+        @DisplayName("일부 용도지역과 데이터가 없는 읍면동이 섞여 있어도 같은 결과를 반환한다")
+        void count_EmdPartialCategoriesAndEmptyRegion_SameAsCountLandsByRegions() {
+            // given
+            CountLandQuery query = new CountLandQuery(List.of("11650107", "11590105", "27140105", "11110101"),
+                    0L, 4999L, 0L, 49999999L, List.of("RESIDENTIAL", "GREEN"));
+
+            // when & then
+            assertThat(assertSameCounts(query)).isEqualTo(Map.of("11590105", 2L));
+        }
+
+        @Test
+        @DisplayName("면적이 버킷 경계와 맞지 않으면 시군구 토지 수를 큐브로 계산하지 않는다")
+        void count_SigAreaOffBucketEdge_FallsBackToExactCount() {
+            // given - 면적 600~2000㎡ (버킷 단위로는 500~2499㎡)
+            CountLandQuery query = new CountLandQuery(List.of("11650", "11590", "27140"),
+                    600L, 2000L, 0L, 49999999L, ALL_CATEGORIES);
+
+            // when
+            Optional<List<LandCountQueryResult>> result = landCountIndex.count(query);
+
+            // then - 반포동 852.5㎡, 봉무동 1650㎡만 포함 (549.7㎡, 595㎡, 2037㎡ 제외)
+            assertThat(result).isEmpty();
+            assertThat(toCountMap(landDao.countLandsByRegions(query)))
+                    .isEqualTo(Map.of("11650", 1L, "27140", 1L));
+        }
+
+        @Test
+        @DisplayName("공시지가가 버킷 경계와 맞지 않으면 읍면동 토지 수를 큐브로 계산하지 않는다")
+        void count_EmdPriceOffBucketEdge_FallsBackToExactCount() {
+            // given - 공시지가 30만원~4400만원 (버킷 단위로는 0원~4499만9999원)
+            CountLandQuery query = new CountLandQuery(List.of("11650107", "11590105", "27140105"),
+                    0L, 4999L, 300000L, 44000000L, ALL_CATEGORIES);
+
+            // when
+            Optional<List<LandCountQueryResult>> result = landCountIndex.count(query);
+
+            // then - 흑석동 29만원 토지 제외
+            assertThat(result).isEmpty();
+            assertThat(toCountMap(landDao.countLandsByRegions(query)))
+                    .isEqualTo(Map.of("11650107", 1L, "11590105", 1L, "27140105", 2L));
+        }
+    }
+
+    /**
+     * 큐브와 countLandsByRegions의 지역별 토지 수가 같은지 확인하고 그 결과를 반환
+     * 조회 방식에 따라 토지 수가 0인 지역의 포함 여부가 달라 0은 제외하고 비교
+     */
+    private Map<String, Long> assertSameCounts(CountLandQuery query) {
+        Map<String, Long> expected = toCountMap(landDao.countLandsByRegions(query));
+        Map<String, Long> actual = toCountMap(landCountIndex.count(query).orElseThrow());
+
+        assertThat(actual).isEqualTo(expected);
+        return actual;
+    }
+
+    private static Map<String, Long> toCountMap(List<LandCountQueryResult> results) {
+        return results.stream()
+                .filter(result -> result.count() > 0)
+                .collect(Collectors.toMap(LandCountQueryResult::beopjungDongCodePrefix, LandCountQueryResult::count));
+    }
+
+    /**
+     * 테스트 토지로 시도별 prefix sum 적재
+     * 전체 버킷(2000 × 361) 대신 테스트 토지가 모두 들어가는 면적 0~4999㎡, 공시지가 0~4999만원 구간만 채움
+     */
+    private void insertTestPrefixSums() {
+        jdbcTemplate.update("""
+            INSERT INTO land_statistics_prefix_sum (key_prefix, use_zone_category, area_bucket, price_bucket, cumulative_count)
+            SELECT k.key_prefix, k.use_zone_category, a.area_bucket, p.price_bucket,
+                   (SELECT COUNT(*) FROM land l
+                    WHERE LEFT(l.full_code, 2) = k.key_prefix
+                    AND l.use_zone_category = k.use_zone_category
+                    AND FLOOR(l.land_area / 500) <= a.area_bucket
+                    AND FLOOR(l.official_land_price / 500000) <= p.price_bucket)
+            FROM (SELECT DISTINCT LEFT(full_code, 2) as key_prefix, use_zone_category
+                  FROM land WHERE use_zone_category IS NOT NULL) k
+            CROSS JOIN generate_series(0, 9) a(area_bucket)
+            CROSS JOIN generate_series(0, 99) p(price_bucket)
+            """);
+    }
+}
@@ -0,0 +1,215 @@
+package com.izza.search.service.index;
+
+import com.izza.search.domain.DataSet;
+import com.izza.search.domain.DataVersionChangedEvent;
+import com.izza.search.persistent.dao.LandDao;
+import com.izza.search.persistent.dto.query.LandSearchQuery;
+import com.izza.search.persistent.model.Land;
+import com.izza.support.DatabaseTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LandPointSnapshot(PackedPointRTree) 조회 결과가 LandDao.findLands와 같은 토지를 반환하는지 비교
+ */
+@DisplayName("LandPointSnapshot 테스트")
+class LandPointSnapshotTest extends DatabaseTestSupport {
+
+    // 테스트 토지 전체를 포함하는 지도 영역
+    private static final double[] KOREA = {124.0, 33.0, 132.0, 39.0};
+    // 서초구 반포동 토지만 포함하는 지도 영역
+    private static final double[] BANPO = {126.99, 37.50, 127.03, 37.52};
+
+    @Autowired
+    private LandDao landDao;
+    @Autowired
+    private LandPointIndex landPointIndex;
+
+    private LandPointSnapshot snapshot;
+
+    @Override
+    protected void setupTestData() {
+        super.setupTestData();
+
+        // 값이 없는 토지 - 조건이 있으면 두 경로 모두 제외되어야 함
+        insertTestLand("9000001", "1165010700", "서울특별시 서초구 반포동 1-1",
+                null, 1000000L, 22, "대", 127.0150, 37.5110, polygonAround(127.0150, 37.5110));
+        insertTestLand("9000002", "1165010700", "서울특별시 서초구 반포동 1-2",
+                700.00, null, 22, "대", 127.0160, 37.5110, polygonAround(127.0160, 37.5110));
+        insertTestLand("9000003", "1165010700", "서울특별시 서초구 반포동 1-3",
+                700.00, 1000000L, null, "대", 127.0170, 37.5110, polygonAround(127.0170, 37.5110));
+        // 검색 제외 대상 토지이용상황코드 (도로)
+        insertTestLand("9000004", "1165010700", "서울특별시 서초구 반포동 1-4",
+                700.00, 1000000L, 22, "COMMERCIAL", 910, "도로",
+                127.0180, 37.5110, polygonAround(127.0180, 37.5110));
+        // land_gis 경계가 없는 토지
+        insertTestLand("9000005", "1165010700", "서울특별시 서초구 반포동 1-5",
+                700.00, 1000000L, 22, "대", null, null, null);
+    }
+
+    @BeforeEach
+    void loadSnapshot() {
+        landPointIndex.reload(new DataVersionChangedEvent(DataSet.LAND, 1L));
+        snapshot = landPointIndex.current().orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("지도 영역 조회")
+    class MapBoundsTest {
+
+        @Test
+        @DisplayName("전체 영역에서 값이 없는 토지와 제외 대상 토지를 똑같이 처리한다")
+        void search_AllBounds_SameAsFindLands() {
+            // given
+            LandSearchQuery query = query(KOREA, 0L, 100000L, 0L, 100000000L, List.of());
+
+            // when & then - 기본 토지 6개와 용도지역만 없는 토지
+            assertThat(assertSameIds(query)).hasSize(7);
+        }
+
+        @Test
+        @DisplayName("특정 지역 영역만 조회한다 - 서초구 반포동 영역")
+        void search_SpecificRegion_SameAsFindLands() {
+            // given
+            LandSearchQuery query = query(BANPO, 0L, 100000L, 0L, 100000000L, List.of());
+
+            // when & then
+            assertThat(assertSameIds(query)).isNotEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("면적/공시지가 경계값 조회")
+    class RangeBoundsTest {
+
+        @Test
+        @DisplayName("면적 최솟값/최댓값과 같은 토지는 포함된다")
+        void search_AreaEqualsBounds_Included() {
+            // given - 흑석동 595㎡, 봉무동 1650㎡
+            LandSearchQuery query = query(KOREA, 595L, 1650L, 0L, 100000000L, List.of());
+
+            // when & then - 595㎡, 700㎡, 852.5㎡, 1650㎡
+            assertThat(assertSameIds(query)).hasSize(4);
+        }
+
+        @Test
+        @DisplayName("소수점 면적은 정수 경계 사이에서만 포함된다")
+        void search_FractionalArea_BetweenIntegerBounds() {
+            // given - 반포동 549.70㎡
+            LandSearchQuery included = query(KOREA, 549L, 550L, 0L, 100000000L, List.of());
+            LandSearchQuery excludedByMin = query(KOREA, 550L, 551L, 0L, 100000000L, List.of());
+            LandSearchQuery excludedByMax = query(KOREA, 548L, 549L, 0L, 100000000L, List.of());
+
+            // when & then
+            assertThat(assertSameIds(included)).hasSize(1);
+            assertThat(assertSameIds(excludedByMin)).isEmpty();
+            assertThat(assertSameIds(excludedByMax)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("공시지가 최솟값/최댓값과 같은 토지는 포함된다")
+        void search_PriceEqualsBounds_Included() {
+            // given - 봉무동 888300원, 914900원
+            LandSearchQuery query = query(KOREA, 0L, 100000L, 888300L, 914900L, List.of());
+
+            // when & then
+            assertThat(assertSameIds(query)).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("최솟값이 최댓값보다 크면 조회되지 않는다")
+        void search_MinGreaterThanMax_ReturnsEmpty() {
+            // given
+            LandSearchQuery query = query(KOREA, 2000L, 100L, 0L, 100000000L, List.of());
+
+            // when & then
+            assertThat(assertSameIds(query)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("용도지역 조회")
+    class UseZoneTest {
+
+        @Test
+        @DisplayName("단일 용도지역으로 조회한다 - 공업지역")
+        void search_SingleUseZone_SameAsFindLands() {
+            // given
+            LandSearchQuery query = query(KOREA, 0L, 100000L, 0L, 100000000L, List.of("INDUSTRIAL"));
+
+            // when & then
+            assertThat(assertSameIds(query)).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("여러 용도지역으로 조회한다 - 상업지역, 주거지역")
+        void search_MultipleUseZones_SameAsFindLands() {
+            // given
+            LandSearchQuery query = query(KOREA, 0L, 100000L, 0L, 100000000L,
+                    List.of("COMMERCIAL", "RESIDENTIAL"));
+
+            // when & then
+            assertThat(assertSameIds(query)).hasSize(4);
+        }
+
+        @Test
+        @DisplayName("해당 토지가 없거나 존재하지 않는 용도지역이면 조회되지 않는다")
+        void search_NoMatchingUseZone_ReturnsEmpty() {
+            // given
+            LandSearchQuery green = query(KOREA, 0L, 100000L, 0L, 100000000L, List.of("GREEN"));
+            LandSearchQuery unknown = query(KOREA, 0L, 100000L, 0L, 100000000L, List.of("UNKNOWN"));
+
+            // when & then
+            assertThat(assertSameIds(green)).isEmpty();
+            assertThat(assertSameIds(unknown)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("용도지역과 면적/공시지가 조건을 함께 적용한다")
+        void search_UseZoneWithRanges_SameAsFindLands() {
+            // given
+            LandSearchQuery query = query(BANPO, 550L, 1000L, 1000000L, 45000000L, List.of("COMMERCIAL"));
+
+            // when & then
+            assertThat(assertSameIds(query)).hasSize(1);
+        }
+    }
+
+    /**
+     * 스냅샷과 findLands의 토지 id 집합이 같은지 확인하고 그 집합을 반환
+     */
+    private Set<Long> assertSameIds(LandSearchQuery query) {
+        Set<Long> expected = landDao.findLands(query).stream()
+                .map(Land::getId)
+                .collect(Collectors.toSet());
+        Set<Long> actual = Arrays.stream(snapshot.search(query))
+                .mapToObj(snapshot::id)
+                .collect(Collectors.toSet());
+
+        assertThat(actual).isEqualTo(expected);
+        return actual;
+    }
+
+    private static LandSearchQuery query(double[] bounds, Long areaMin, Long areaMax,
+                                         Long priceMin, Long priceMax, List<String> useZoneCategories) {
+        return new LandSearchQuery(bounds[0], bounds[1], bounds[2], bounds[3],
+                areaMin, areaMax, priceMin, priceMax, useZoneCategories);
+    }
+
+    private static String polygonAround(double lng, double lat) {
+        double d = 0.0001;
+        return String.format(Locale.ROOT, "POLYGON((%f %f,%f %f,%f %f,%f %f,%f %f))",
+                lng - d, lat - d, lng + d, lat - d, lng + d, lat + d, lng - d, lat + d, lng - d, lat - d);
+    }
+}
@@ -1,5 +1,6 @@
 package com.izza.support;
 
+import com.izza.search.vo.UseZoneCode;
 import com.zaxxer.hikari.HikariDataSource;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +33,9 @@ import java.util.stream.Collectors;
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
 public abstract class DatabaseTestSupport {
 
+    // 검색 제외 대상(도로, 하천 등)이 아닌 토지이용상황코드
+    protected static final int SEARCHABLE_LAND_USE_CODE = 110;
+
     @Container
     static GenericContainer<?> postgis = new GenericContainer<>(
             DockerImageName.parse("postgis/postgis:15-3.3"))
@@ -125,23 +129,48 @@ public abstract class DatabaseTestSupport {
         jdbcTemplate.execute("TRUNCATE TABLE land CASCADE");
         jdbcTemplate.execute("TRUNCATE TABLE beopjeong_dong CASCADE");
         jdbcTemplate.execute("TRUNCATE TABLE land_statistics CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE land_statistics_prefix_sum");
     }
 
     /**
      * 테스트용 토지 데이터 삽입 헬퍼 메서드 (실제 데이터 기반)
+     * 용도지역 카테고리는 용도지역 코드로부터 설정
      */
     protected void insertTestLand(String uniqueNo, String beopjungDongCode, String address, 
                                  Double landArea, Long officialPrice, Integer useDistrictCode,
                                  String landCategoryName, Double lng, Double lat, String boundary) {
+        String useZoneCategory = useDistrictCode != null
+                ? UseZoneCode.fromCode(useDistrictCode).getCategory().name()
+                : null;
+        insertTestLand(uniqueNo, beopjungDongCode, address, landArea, officialPrice, useDistrictCode,
+                useZoneCategory, SEARCHABLE_LAND_USE_CODE, landCategoryName, lng, lat, boundary);
+    }
+
+    /**
+     * 용도지역 카테고리와 토지이용상황코드를 직접 지정하는 토지 데이터 삽입 헬퍼 메서드
+     * 경계가 있으면 land_gis에도 경계/중심점을 함께 삽입
+     */
+    protected void insertTestLand(String uniqueNo, String beopjungDongCode, String address,
+                                 Double landArea, Long officialPrice, Integer useDistrictCode,
+                                 String useZoneCategory, Integer landUseCode,
+                                 String landCategoryName, Double lng, Double lat, String boundary) {
         String sql = """
             INSERT INTO land (
                 unique_no, full_code, address, land_area, official_land_price, 
-                use_district_code1, land_category_name, boundary, center_point, created_at, updated_at
-            ) VALUES (?, ?, ?, ?, ?, ?, ?, ST_GeomFromText(?, 4326), ST_Point(?, ?, 4326), NOW(), NOW())
+                use_district_code1, use_zone_category, land_use_code, land_category_name,
+                boundary, center_point, created_at, updated_at
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ST_GeomFromText(?, 4326), ST_Point(?, ?, 4326), NOW(), NOW())
             """;
         
         jdbcTemplate.update(sql, uniqueNo, beopjungDongCode, address, landArea, officialPrice,
-                           useDistrictCode, landCategoryName, boundary, lng, lat);
+                           useDistrictCode, useZoneCategory, landUseCode, landCategoryName, boundary, lng, lat);
+
+        if (boundary != null) {
+            jdbcTemplate.update("""
+                INSERT INTO land_gis (land_id, boundary, center_point)
+                SELECT id, boundary, center_point FROM land WHERE unique_no = ?
+                """, uniqueNo);
+        }
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.izza.support;
 
 import com.izza.search.persistent.model.Land;
+import com.izza.search.vo.PackedGeometry;
 import com.izza.search.vo.Point;
 
 import java.math.BigDecimal;
@@ -54,7 +55,7 @@ public class TestDataBuilder {
             boundary.add(new Point(126.9790, 37.5670));
             boundary.add(new Point(126.9770, 37.5670));
             boundary.add(new Point(126.9770, 37.5660)); // 닫힌 폴리곤
-            land.setBoundary(boundary);
+            land.setBoundary(PackedGeometry.ofRing(boundary));
         }
 
         public LandBuilder uniqueNo(String uniqueNo) {
@@ -103,7 +104,7 @@ public class TestDataBuilder {
         }
 
         public LandBuilder boundary(List<Point> boundary) {
-            land.setBoundary(boundary);
+            land.setBoundary(PackedGeometry.ofRing(boundary));
             return this;
         }
 
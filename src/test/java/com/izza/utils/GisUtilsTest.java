@@ -0,0 +1,178 @@
+package com.izza.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("GisUtils 테스트")
+class GisUtilsTest {
+
+    private static final GeometryFactory FACTORY = new GeometryFactory();
+
+    // [lng, lat, ...] 외곽선 좌표
+    private static final double[] SEOUL = {127.0, 37.5, 127.1, 37.5, 127.1, 37.6, 127.0, 37.5};
+    private static final double[] SANTIAGO = {-70.654321, -33.456789, -70.5, -33.4, -70.6, -33.3, -70.654321, -33.456789};
+    private static final double[] HOLE = {127.02, 37.52, 127.08, 37.52, 127.08, 37.55, 127.02, 37.52};
+
+    @Nested
+    @DisplayName("toEncodedPolylines 메서드 테스트")
+    class ToEncodedPolylinesTest {
+
+        @Test
+        @DisplayName("Google encoded polyline 예제와 같은 문자열로 인코딩한다")
+        void toEncodedPolylines_GoogleExample_MatchesKnownVector() {
+            // given - Google 예제 좌표 (38.5, -120.2), (40.7, -120.95), (43.252, -126.453)를 1/10로 줄이면
+            // 정밀도 1e-6 인코딩 결과가 정밀도 1e-5 예제 문자열과 같음 (마지막은 첫 점으로 돌아오는 구간)
+            Polygon polygon = polygon(-12.02, 3.85, -12.095, 4.07, -12.6453, 4.3252, -12.02, 3.85);
+
+            // when
+            List<String> result = GisUtils.toEncodedPolylines(polygon);
+
+            // then
+            assertThat(result).containsExactlyElementsOf(List.of("_p~iF~ps|U_ulLnnqC_mqNvxq`@~b_\\ghde@"));
+        }
+
+        @Test
+        @DisplayName("위도, 경도 순으로 음수 변화량을 포함해 인코딩한다")
+        void toEncodedPolylines_NegativeDeltas_EncodesLatBeforeLng() {
+            // given - (lat, lng) = (0, 0) → (1e-6, -1e-6) → (-1e-6, 2e-6) → (0, 0)
+            Polygon polygon = polygon(0, 0, -0.000001, 0.000001, 0.000002, -0.000001, 0, 0);
+
+            // when
+            List<String> result = GisUtils.toEncodedPolylines(polygon);
+
+            // then - 변화량 (0, 0), (1, -1), (-2, 3), (1, -2)
+            assertThat(result).containsExactlyElementsOf(List.of("??A@BEAB"));
+        }
+
+        @Test
+        @DisplayName("멀티폴리곤은 외곽선마다 첫 점부터 다시 인코딩하고 내부 링은 제외한다")
+        void toEncodedPolylines_MultiPolygon_EncodesEachExteriorRing() {
+            // given
+            MultiPolygon multiPolygon = FACTORY.createMultiPolygon(new Polygon[]{
+                    polygonWithHole(SEOUL, HOLE), polygon(SANTIAGO)});
+
+            // when
+            List<String> result = GisUtils.toEncodedPolylines(multiPolygon);
+
+            // then
+            assertThat(result).hasSize(2);
+            assertThat(result.get(0)).isEqualTo(GisUtils.toEncodedPolylines(polygon(SEOUL)).get(0));
+            assertThat(decode(result.get(0))).containsExactly(SEOUL);
+            assertThat(decode(result.get(1))).containsExactly(SANTIAGO);
+        }
+
+        @Test
+        @DisplayName("큰 좌표와 변화량도 정밀도 1e-6으로 디코딩하면 원래 좌표로 돌아온다")
+        void toEncodedPolylines_RoundTrip_RestoresCoordinates() {
+            // given
+            double[] ring = {179.999999, -89.999999, -179.999999, 89.999999, 0.000001, -0.000001,
+                    126.123456, 37.654321, 179.999999, -89.999999};
+
+            // when
+            List<String> result = GisUtils.toEncodedPolylines(polygon(ring));
+
+            // then
+            assertThat(decode(result.get(0))).containsExactly(ring);
+        }
+    }
+
+    @Nested
+    @DisplayName("toFlatCoordinates 메서드 테스트")
+    class ToFlatCoordinatesTest {
+
+        @Test
+        @DisplayName("외곽선별 [lng, lat, ...] 배열로 변환하고 내부 링은 제외한다")
+        void toFlatCoordinates_MultiPolygon_ReturnsLngLatPerExteriorRing() {
+            // given
+            MultiPolygon multiPolygon = FACTORY.createMultiPolygon(new Polygon[]{
+                    polygonWithHole(SEOUL, HOLE), polygon(SANTIAGO)});
+
+            // when
+            List<double[]> result = GisUtils.toFlatCoordinates(multiPolygon);
+
+            // then
+            assertThat(result).hasSize(2);
+            assertThat(result.get(0)).containsExactly(SEOUL);
+            assertThat(result.get(1)).containsExactly(SANTIAGO);
+        }
+
+        @Test
+        @DisplayName("인코딩 결과를 디코딩하면 같은 좌표 배열이 된다")
+        void toFlatCoordinates_SameAsDecodedPolylines() {
+            // given
+            Polygon polygon = polygon(SANTIAGO);
+
+            // when
+            double[] flat = GisUtils.toFlatCoordinates(polygon).get(0);
+            double[] decoded = decode(GisUtils.toEncodedPolylines(polygon).get(0));
+
+            // then
+            assertThat(decoded).containsExactly(flat);
+        }
+    }
+
+    private static Polygon polygon(double... lngLats) {
+        return FACTORY.createPolygon(coordinates(lngLats));
+    }
+
+    private static Polygon polygonWithHole(double[] shell, double[] hole) {
+        return FACTORY.createPolygon(ring(shell), new LinearRing[]{ring(hole)});
+    }
+
+    private static LinearRing ring(double[] lngLats) {
+        return FACTORY.createLinearRing(coordinates(lngLats));
+    }
+
+    private static Coordinate[] coordinates(double[] lngLats) {
+        Coordinate[] coordinates = new Coordinate[lngLats.length / 2];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = new Coordinate(lngLats[i * 2], lngLats[i * 2 + 1]);
+        }
+        return coordinates;
+    }
+
+    /**
+     * encoded polyline(위도, 경도 순, 정밀도 1e-6)을 [lng, lat, ...] 배열로 디코딩
+     * 소수점 6자리 이하 좌표는 1e-6 단위 정수를 나누면 원래 double 값과 정확히 같아짐
+     */
+    private static double[] decode(String encoded) {
+        List<Double> values = new ArrayList<>();
+        long lat = 0;
+        long lng = 0;
+        int index = 0;
+        while (index < encoded.length()) {
+            long[] delta = new long[2];
+            for (int d = 0; d < 2; d++) {
+                long result = 0;
+                int shift = 0;
+                int chunk;
+                do {
+                    chunk = encoded.charAt(index++) - 63;
+                    result |= (long) (chunk & 0x1f) << shift;
+                    shift += 5;
+                } while (chunk >= 0x20);
+                delta[d] = (result & 1) != 0 ? ~(result >> 1) : result >> 1;
+            }
+            lat += delta[0];
+            lng += delta[1];
+            values.add(lng / 1e6);
+            values.add(lat / 1e6);
+        }
+        double[] lngLats = new double[values.size()];
+        for (int i = 0; i < lngLats.length; i++) {
+            lngLats[i] = values.get(i);
+        }
+        return lngLats;
+    }
+}
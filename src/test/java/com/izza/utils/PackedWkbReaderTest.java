@@ -0,0 +1,330 @@
+package com.izza.utils;
+
+import com.izza.search.vo.PackedGeometry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ByteOrderValues;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBWriter;
+import org.locationtech.jts.io.WKTReader;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PackedWkbReader 테스트")
+class PackedWkbReaderTest {
+
+    private static final int POLYGON = 3;
+    private static final int MULTI_POLYGON = 6;
+    private static final int EWKB_Z = 0x80000000;
+    private static final int EWKB_M = 0x40000000;
+    private static final int EWKB_SRID = 0x20000000;
+
+    private static final double[] SQUARE = {127.0, 37.5, 127.1, 37.5, 127.1, 37.6, 127.0, 37.6, 127.0, 37.5};
+    private static final double[] HOLE = {127.02, 37.52, 127.08, 37.52, 127.08, 37.58, 127.02, 37.52};
+    private static final double[] TRIANGLE = {-70.5, -33.4, -70.4, -33.4, -70.45, -33.3, -70.5, -33.4};
+
+    @Nested
+    @DisplayName("바이트 순서")
+    class ByteOrderTest {
+
+        @Test
+        @DisplayName("little endian 폴리곤을 읽는다")
+        void read_LittleEndianPolygon_ReturnsExteriorRing() {
+            // given
+            byte[] wkb = new Wkb(ByteOrder.LITTLE_ENDIAN).type(POLYGON).rings(2, SQUARE).bytes();
+
+            // when
+            PackedGeometry result = PackedWkbReader.read(wkb);
+
+            // then
+            assertThat(result).isEqualTo(packed(SQUARE));
+        }
+
+        @Test
+        @DisplayName("big endian 폴리곤을 읽는다")
+        void read_BigEndianPolygon_ReturnsExteriorRing() {
+            // given
+            byte[] wkb = new Wkb(ByteOrder.BIG_ENDIAN).type(POLYGON).rings(2, SQUARE).bytes();
+
+            // when
+            PackedGeometry result = PackedWkbReader.read(wkb);
+
+            // then
+            assertThat(result).isEqualTo(packed(SQUARE));
+        }
+
+        @Test
+        @DisplayName("멀티폴리곤 안의 폴리곤마다 바이트 순서가 달라도 읽는다")
+        void read_MixedByteOrderMultiPolygon_ReturnsAllRings() {
+            // given
+            Wkb wkb = new Wkb(ByteOrder.BIG_ENDIAN).type(MULTI_POLYGON).count(2);
+            wkb.header(ByteOrder.LITTLE_ENDIAN, POLYGON).rings(2, SQUARE);
+            wkb.header(ByteOrder.BIG_ENDIAN, POLYGON).rings(2, TRIANGLE);
+
+            // when
+            PackedGeometry result = PackedWkbReader.read(wkb.bytes());
+
+            // then
+            assertThat(result).isEqualTo(packed(SQUARE, TRIANGLE));
+        }
+    }
+
+    @Nested
+    @DisplayName("EWKB / ISO 차원 정보")
+    class DimensionTest {
+
+        @Test
+        @DisplayName("EWKB SRID를 건너뛰고 좌표를 읽는다")
+        void read_EwkbSrid_SkipsSrid() {
+            // given
+            byte[] wkb = new Wkb(ByteOrder.LITTLE_ENDIAN).type(POLYGON | EWKB_SRID).count(4326)
+                    .rings(2, SQUARE).bytes();
+
+            // when & then
+            assertThat(PackedWkbReader.read(wkb)).isEqualTo(packed(SQUARE));
+        }
+
+        @Test
+        @DisplayName("EWKB Z/M 플래그가 있으면 추가 좌표값을 건너뛴다")
+        void read_EwkbZm_SkipsExtraOrdinates() {
+            // given
+            byte[] z = new Wkb(ByteOrder.LITTLE_ENDIAN).type(POLYGON | EWKB_Z).rings(3, SQUARE).bytes();
+            byte[] m = new Wkb(ByteOrder.BIG_ENDIAN).type(POLYGON | EWKB_M).rings(3, SQUARE).bytes();
+            byte[] zm = new Wkb(ByteOrder.LITTLE_ENDIAN).type(POLYGON | EWKB_Z | EWKB_M | EWKB_SRID).count(4326)
+                    .rings(4, SQUARE).bytes();
+
+            // when & then
+            assertThat(PackedWkbReader.read(z)).isEqualTo(packed(SQUARE));
+            assertThat(PackedWkbReader.read(m)).isEqualTo(packed(SQUARE));
+            assertThat(PackedWkbReader.read(zm)).isEqualTo(packed(SQUARE));
+        }
+
+        @Test
+        @DisplayName("ISO Z/M/ZM 타입 코드면 추가 좌표값을 건너뛴다")
+        void read_IsoZm_SkipsExtraOrdinates() {
+            // given
+            byte[] z = new Wkb(ByteOrder.LITTLE_ENDIAN).type(1000 + POLYGON).rings(3, SQUARE).bytes();
+            byte[] m = new Wkb(ByteOrder.LITTLE_ENDIAN).type(2000 + POLYGON).rings(3, SQUARE).bytes();
+            byte[] zm = new Wkb(ByteOrder.BIG_ENDIAN).type(3000 + POLYGON).rings(4, SQUARE).bytes();
+
+            // when & then
+            assertThat(PackedWkbReader.read(z)).isEqualTo(packed(SQUARE));
+            assertThat(PackedWkbReader.read(m)).isEqualTo(packed(SQUARE));
+            assertThat(PackedWkbReader.read(zm)).isEqualTo(packed(SQUARE));
+        }
+
+        @Test
+        @DisplayName("ISO ZM 멀티폴리곤을 읽는다")
+        void read_IsoZmMultiPolygon_ReturnsAllRings() {
+            // given
+            Wkb wkb = new Wkb(ByteOrder.LITTLE_ENDIAN).type(3000 + MULTI_POLYGON).count(2);
+            wkb.header(ByteOrder.LITTLE_ENDIAN, 3000 + POLYGON).rings(4, SQUARE, HOLE);
+            wkb.header(ByteOrder.LITTLE_ENDIAN, 3000 + POLYGON).rings(4, TRIANGLE);
+
+            // when & then
+            assertThat(PackedWkbReader.read(wkb.bytes())).isEqualTo(packed(SQUARE, TRIANGLE));
+        }
+    }
+
+    @Nested
+    @DisplayName("멀티폴리곤 / 내부 링")
+    class RingTest {
+
+        @Test
+        @DisplayName("멀티폴리곤의 폴리곤별 외곽선을 순서대로 읽는다")
+        void read_MultiPolygon_ReturnsRingPerPolygon() {
+            // given
+            Wkb wkb = new Wkb(ByteOrder.LITTLE_ENDIAN).type(MULTI_POLYGON).count(2);
+            wkb.header(ByteOrder.LITTLE_ENDIAN, POLYGON).rings(2, SQUARE);
+            wkb.header(ByteOrder.LITTLE_ENDIAN, POLYGON).rings(2, TRIANGLE);
+
+            // when
+            PackedGeometry result = PackedWkbReader.read(wkb.bytes());
+
+            // then
+            assertThat(result.ringCount()).isEqualTo(2);
+            assertThat(result.ringStart(1)).isEqualTo(SQUARE.length / 2);
+            assertThat(result.lng(result.ringStart(1))).isEqualTo(TRIANGLE[0]);
+            assertThat(result.lat(result.ringEnd(1) - 1)).isEqualTo(TRIANGLE[TRIANGLE.length - 1]);
+        }
+
+        @Test
+        @DisplayName("내부 링(구멍)은 제외하고 다음 폴리곤을 이어서 읽는다")
+        void read_PolygonWithHoles_SkipsInnerRings() {
+            // given
+            byte[] polygon = new Wkb(ByteOrder.LITTLE_ENDIAN).type(POLYGON).rings(2, SQUARE, HOLE, HOLE).bytes();
+            Wkb multiPolygon = new Wkb(ByteOrder.BIG_ENDIAN).type(MULTI_POLYGON | EWKB_Z).count(2);
+            multiPolygon.header(ByteOrder.BIG_ENDIAN, POLYGON | EWKB_Z).rings(3, SQUARE, HOLE);
+            multiPolygon.header(ByteOrder.BIG_ENDIAN, POLYGON | EWKB_Z).rings(3, TRIANGLE);
+
+            // when & then
+            assertThat(PackedWkbReader.read(polygon)).isEqualTo(packed(SQUARE));
+            assertThat(PackedWkbReader.read(multiPolygon.bytes())).isEqualTo(packed(SQUARE, TRIANGLE));
+        }
+    }
+
+    @Nested
+    @DisplayName("빈 geometry / 지원하지 않는 타입")
+    class EmptyTest {
+
+        @Test
+        @DisplayName("WKB가 없으면 빈 PackedGeometry를 반환한다")
+        void parse_NullOrEmptyBytes_ReturnsEmpty() {
+            // when & then
+            assertThat(GisUtils.parsePolygonToPackedGeometry(null)).isSameAs(PackedGeometry.EMPTY);
+            assertThat(GisUtils.parsePolygonToPackedGeometry(new byte[0])).isSameAs(PackedGeometry.EMPTY);
+        }
+
+        @Test
+        @DisplayName("빈 폴리곤은 좌표가 없는 외곽선 하나, 빈 멀티폴리곤은 외곽선 없이 읽는다")
+        void read_EmptyGeometry_ReturnsEmptyRings() {
+            // given
+            byte[] polygon = new Wkb(ByteOrder.LITTLE_ENDIAN).type(POLYGON).count(0).bytes();
+            byte[] multiPolygon = new Wkb(ByteOrder.LITTLE_ENDIAN).type(MULTI_POLYGON).count(0).bytes();
+
+            // when
+            PackedGeometry emptyPolygon = PackedWkbReader.read(polygon);
+            PackedGeometry emptyMultiPolygon = PackedWkbReader.read(multiPolygon);
+
+            // then
+            assertThat(emptyPolygon.ringCount()).isEqualTo(1);
+            assertThat(emptyPolygon.isEmpty()).isTrue();
+            assertThat(emptyMultiPolygon).isEqualTo(PackedGeometry.EMPTY);
+        }
+
+        @Test
+        @DisplayName("폴리곤이 아닌 타입이면 예외가 발생한다")
+        void read_UnsupportedType_ThrowsException() {
+            // given - POINT(127 37.5)
+            byte[] point = new Wkb(ByteOrder.LITTLE_ENDIAN).type(1).coordinates(127.0, 37.5).bytes();
+
+            // when & then
+            assertThatThrownBy(() -> PackedWkbReader.read(point))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("JTS 변환 결과와 비교")
+    class JtsTest {
+
+        private static final List<String> WKTS = List.of(
+                "POLYGON ((127 37.5, 127.1 37.5, 127.1 37.6, 127 37.6, 127 37.5))",
+                "POLYGON ((127 37.5, 127.1 37.5, 127.1 37.6, 127 37.6, 127 37.5), "
+                        + "(127.02 37.52, 127.08 37.52, 127.08 37.58, 127.02 37.52))",
+                "MULTIPOLYGON (((127 37.5, 127.1 37.5, 127.1 37.6, 127 37.5)), "
+                        + "((-70.5 -33.4, -70.4 -33.4, -70.45 -33.3, -70.5 -33.4), "
+                        + "(-70.48 -33.39, -70.42 -33.39, -70.45 -33.35, -70.48 -33.39)))",
+                "POLYGON Z ((127 37.5 10, 127.1 37.5 20, 127.1 37.6 30, 127 37.5 10))",
+                "POLYGON EMPTY",
+                "MULTIPOLYGON EMPTY");
+
+        @Test
+        @DisplayName("바이트 순서/차원/SRID 조합마다 WKBReader → toPackedGeometry 결과와 같다")
+        void read_JtsWrittenWkb_SameAsToPackedGeometry() throws ParseException {
+            WKTReader wktReader = new WKTReader();
+            for (String wkt : WKTS) {
+                for (int byteOrder : new int[]{ByteOrderValues.LITTLE_ENDIAN, ByteOrderValues.BIG_ENDIAN}) {
+                    for (int dimension : new int[]{2, 3}) {
+                        for (boolean includeSrid : new boolean[]{false, true}) {
+                            // given
+                            Geometry geometry = wktReader.read(wkt);
+                            geometry.setSRID(4326);
+                            byte[] wkb = new WKBWriter(dimension, byteOrder, includeSrid).write(geometry);
+
+                            // when
+                            PackedGeometry result = GisUtils.parsePolygonToPackedGeometry(wkb);
+
+                            // then
+                            assertThat(result)
+                                    .as("%s (byteOrder=%d, dimension=%d, srid=%s)", wkt, byteOrder, dimension, includeSrid)
+                                    .isEqualTo(GisUtils.toPackedGeometry(GisUtils.readWkb(wkb)));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 외곽선 좌표 배열들로 기대 PackedGeometry 생성
+     */
+    private static PackedGeometry packed(double[]... rings) {
+        int[] ringOffsets = new int[rings.length + 1];
+        for (int r = 0; r < rings.length; r++) {
+            ringOffsets[r + 1] = ringOffsets[r] + rings[r].length / 2;
+        }
+        double[] coordinates = new double[ringOffsets[rings.length] * 2];
+        for (int r = 0; r < rings.length; r++) {
+            System.arraycopy(rings[r], 0, coordinates, ringOffsets[r] * 2, rings[r].length);
+        }
+        return PackedGeometry.of(coordinates, ringOffsets);
+    }
+
+    /**
+     * 테스트용 WKB 바이트 작성기
+     * 헤더마다 지정한 바이트 순서로 이후 값을 기록함
+     */
+    private static final class Wkb {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private ByteOrder order;
+
+        Wkb(ByteOrder order) {
+            byteOrder(order);
+        }
+
+        Wkb header(ByteOrder order, int type) {
+            byteOrder(order);
+            return type(type);
+        }
+
+        Wkb type(int type) {
+            return count(type);
+        }
+
+        Wkb count(int value) {
+            out.writeBytes(ByteBuffer.allocate(Integer.BYTES).order(order).putInt(value).array());
+            return this;
+        }
+
+        Wkb coordinates(double... values) {
+            for (double value : values) {
+                out.writeBytes(ByteBuffer.allocate(Double.BYTES).order(order).putDouble(value).array());
+            }
+            return this;
+        }
+
+        /**
+         * 링 개수와 링별 좌표를 기록 (dimensions가 2보다 크면 점마다 Z/M 값을 덧붙임)
+         */
+        Wkb rings(int dimensions, double[]... rings) {
+            count(rings.length);
+            for (double[] ring : rings) {
+                count(ring.length / 2);
+                for (int i = 0; i < ring.length; i += 2) {
+                    coordinates(ring[i], ring[i + 1]);
+                    for (int extra = 2; extra < dimensions; extra++) {
+                        coordinates(extra * 100.0);
+                    }
+                }
+            }
+            return this;
+        }
+
+        byte[] bytes() {
+            return out.toByteArray();
+        }
+
+        private void byteOrder(ByteOrder order) {
+            this.order = order;
+            out.write(order == ByteOrder.BIG_ENDIAN ? 0 : 1);
+        }
+    }
+}
@@ -32,6 +32,16 @@ CREATE TABLE IF NOT EXISTS land (
     boundary GEOMETRY(POLYGON, 4326),
     center_point GEOMETRY(POINT, 4326),
     created_at TIMESTAMP DEFAULT NOW(),
+    updated_at TIMESTAMP DEFAULT NOW(),
+    use_zone_category VARCHAR(20)
+);
+
+-- 실제 DDL 기반 land_gis 테이블 (검색/마커 조회용 경계, 중심점)
+CREATE TABLE IF NOT EXISTS land_gis (
+    land_id BIGINT NOT NULL PRIMARY KEY REFERENCES land ON DELETE CASCADE,
+    boundary GEOMETRY(POLYGON, 4326) NOT NULL,
+    center_point GEOMETRY(POINT, 4326),
+    created_at TIMESTAMP DEFAULT NOW(),
     updated_at TIMESTAMP DEFAULT NOW()
 );
 
@@ -58,6 +68,16 @@ CREATE TABLE IF NOT EXISTS land_statistics (
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- 테스트용 land_statistics_prefix_sum 테이블 (시도 × 용도지역별 면적/공시지가 버킷 2D 누적 개수)
+CREATE TABLE IF NOT EXISTS land_statistics_prefix_sum (
+    key_prefix VARCHAR(10) NOT NULL,
+    use_zone_category VARCHAR(20) NOT NULL,
+    area_bucket INT NOT NULL,
+    price_bucket INT NOT NULL,
+    cumulative_count BIGINT NOT NULL,
+    PRIMARY KEY (key_prefix, use_zone_category, area_bucket, price_bucket)
+);
+
 -- 인덱스 생성
 -- CREATE INDEX IF NOT EXISTS idx_land_beopjung_dong_code ON land(beopjung_dong_code);
 -- CREATE INDEX IF NOT EXISTS idx_land_boundary ON land USING GIST(boundary);